@@ -0,0 +1,27 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.benchmarks;
+
+/**
+ * Marker interface to generate a proxy class extending {@link BenchTarget} and implementing an extra interface.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface BenchMarker {
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.benchmarks;
+
+/**
+ * Service interface used by benchmarks, covering {@code void}, primitive and reference return types and
+ * methods with 0, 1, 4 and 8 arguments.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface BenchService {
+
+    void voidReturn();
+
+    int primitiveReturn();
+
+    String referenceReturn();
+
+    int arity1(int a0);
+
+    int arity4(int a0, long a1, Object a2, String a3);
+
+    int arity8(int a0, long a1, Object a2, String a3, int a4, long a5, Object a6, String a7);
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.benchmarks;
+
+/**
+ * Plain implementation of {@link BenchService}, used as the target of interface proxies and as the superclass of
+ * class proxies. All methods are cheap so that measurements are dominated by the cost of proxy invocation.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BenchTarget implements BenchService {
+
+    private int counter;
+
+    @Override
+    public void voidReturn() {
+        counter++;
+    }
+
+    @Override
+    public int primitiveReturn() {
+        return counter;
+    }
+
+    @Override
+    public String referenceReturn() {
+        return "newproxy";
+    }
+
+    @Override
+    public int arity1(int a0) {
+        return a0;
+    }
+
+    @Override
+    public int arity4(int a0, long a1, Object a2, String a3) {
+        return a0 + (int) a1;
+    }
+
+    @Override
+    public int arity8(int a0, long a1, Object a2, String a3, int a4, long a5, Object a6, String a7) {
+        return a0 + (int) a1 + a4 + (int) a5;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.benchmarks;
+
+import io.github.lamspace.newproxy.InvocationInterceptor;
+import io.github.lamspace.newproxy.NewProxy;
+import io.github.lamspace.newproxy.ProxyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating a proxy instance of interface {@link BenchService}, via
+ * {@link NewProxy#newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[]) newProxyInstance}
+ * on every creation, compared with a {@link ProxyFactory} acquired once.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(value = {Mode.AverageTime})
+@OutputTimeUnit(value = TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2)
+@State(value = Scope.Benchmark)
+public class ProxyCreationBenchmark {
+
+    private final BenchTarget target = new BenchTarget();
+
+    private final InvocationInterceptor interceptor = (proxy, method, args) -> method.invoke(proxy, target, args);
+
+    private ProxyFactory<BenchService> factory;
+
+    @Setup
+    public void setUp() {
+        this.factory = NewProxy.factory(BenchService.class.getClassLoader(), null, BenchService.class);
+    }
+
+    @Benchmark
+    public Object newProxyInstance() {
+        return NewProxy.newProxyInstance(BenchService.class.getClassLoader(), interceptor, null, null, BenchService.class);
+    }
+
+    @Benchmark
+    public Object factory() {
+        return factory.newInstance(interceptor);
+    }
+
+}
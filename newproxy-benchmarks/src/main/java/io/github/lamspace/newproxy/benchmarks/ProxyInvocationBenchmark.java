@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.benchmarks;
+
+import io.github.lamspace.newproxy.InvocationInterceptor;
+import io.github.lamspace.newproxy.NewProxy;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of invoking methods through a proxy instance. Each fork runs against one kind of
+ * {@link BenchService} implementation, selected via {@link #kind}:
+ * <ul>
+ *     <li>{@code direct}: plain {@link BenchTarget} instance, the baseline without any proxy;</li>
+ *     <li>{@code jdk}: proxy created by {@link Proxy#newProxyInstance(ClassLoader, Class[], InvocationHandler)},
+ *     delegating to a {@link BenchTarget} via reflection;</li>
+ *     <li>{@code interface}: proxy of interface {@link BenchService} created by {@link NewProxy}, delegating to a
+ *     {@link BenchTarget}, which goes through the generated {@code doInvokeXXX} method and {@code invokeinterface};</li>
+ *     <li>{@code class}: proxy of class {@link BenchTarget} created by {@link NewProxy}, which goes through
+ *     {@code invokespecial} on the superclass in the generated {@code dispatch} method;</li>
+ *     <li>{@code interfaceAndClass}: proxy of class {@link BenchTarget} and interface {@link BenchMarker} created by
+ *     {@link NewProxy};</li>
+ *     <li>{@code delegating}: delegating proxy of interface {@link BenchService} bound to a {@link BenchTarget},
+ *     which invokes the target via {@code invokeinterface} in the generated {@code dispatch} method;</li>
+ *     <li>{@code bypass}: delegating proxy whose methods are all rejected by the filter, which invokes the target
+ *     directly without the interceptor.</li>
+ * </ul>
+ * Run with {@code -prof gc} (or {@link BenchmarkRunner}) to report allocation rate per operation.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(value = {Mode.AverageTime})
+@OutputTimeUnit(value = TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2)
+@State(value = Scope.Benchmark)
+public class ProxyInvocationBenchmark {
+
+    @Param(value = {"direct", "jdk", "interface", "class", "interfaceAndClass", "delegating", "bypass"})
+    public String kind;
+
+    private BenchService service;
+
+    private final Object o = new Object();
+
+    private final String s = "s";
+
+    private int i = 17;
+
+    private long l = 42L;
+
+    @Setup
+    public void setUp() {
+        this.service = create(this.kind);
+    }
+
+    static BenchService create(String kind) {
+        ClassLoader classLoader = BenchService.class.getClassLoader();
+        BenchTarget target = new BenchTarget();
+        switch (kind) {
+            case "direct":
+                return target;
+            case "jdk":
+                InvocationHandler handler = (proxy, method, args) -> method.invoke(target, args);
+                return (BenchService) Proxy.newProxyInstance(classLoader, new Class<?>[]{BenchService.class}, handler);
+            case "interface":
+                InvocationInterceptor delegating = (proxy, method, args) -> method.invoke(proxy, target, args);
+                return (BenchService) NewProxy.newProxyInstance(classLoader, delegating, null, null, BenchService.class);
+            case "class":
+                InvocationInterceptor superclass = (proxy, method, args) -> method.invoke(proxy, null, args);
+                return (BenchService) NewProxy.newProxyInstance(classLoader, superclass, null, null, BenchTarget.class);
+            case "interfaceAndClass":
+                InvocationInterceptor mixed = (proxy, method, args) -> method.invoke(proxy, null, args);
+                return (BenchService) NewProxy.newProxyInstance(classLoader, mixed, null, null, BenchTarget.class, BenchMarker.class);
+            case "delegating":
+                InvocationInterceptor bound = (proxy, method, args) -> method.invoke(proxy, null, args);
+                return (BenchService) NewProxy.newDelegatingProxyInstance(classLoader, bound, null, target, BenchService.class);
+            case "bypass":
+                InvocationInterceptor unused = (proxy, method, args) -> method.invoke(proxy, null, args);
+                return (BenchService) NewProxy.newDelegatingProxyInstance(classLoader, unused, method -> false, target, BenchService.class);
+            default:
+                throw new IllegalArgumentException("unknown kind: " + kind);
+        }
+    }
+
+    @Benchmark
+    public void voidReturn() {
+        service.voidReturn();
+    }
+
+    @Benchmark
+    public int primitiveReturn() {
+        return service.primitiveReturn();
+    }
+
+    @Benchmark
+    public String referenceReturn() {
+        return service.referenceReturn();
+    }
+
+    @Benchmark
+    public int arity1() {
+        return service.arity1(i);
+    }
+
+    @Benchmark
+    public int arity4() {
+        return service.arity4(i, l, o, s);
+    }
+
+    @Benchmark
+    public int arity8() {
+        return service.arity8(i, l, o, s, i, l, o, s);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.plugin;
+
+import io.github.lamspace.newproxy.Constants;
+import io.github.lamspace.newproxy.NewProxy;
+import io.github.lamspace.newproxy.ProxyPregenerator;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Generates proxy classes declared in plugin configuration at build time, and writes them with an index file into
+ * the output directory, so that {@link NewProxy} defines them directly at runtime instead of generating them.
+ * Proxy classes must be requested at runtime with the same classes, in any order, and the same argument types.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ProxyPregenerator
+ * @since 1.0.0
+ */
+@Mojo(name = "generate",
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME,
+        threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+
+    /**
+     * primitive types which can not be loaded via {@link Class#forName(String, boolean, ClassLoader)}
+     */
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class}) {
+            PRIMITIVE_TYPES.put(type.getName(), type);
+        }
+    }
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * directory to write proxy classes and the index file, which is packaged into the artifact
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File outputDirectory;
+
+    /**
+     * specifications of proxy classes to generate
+     */
+    @Parameter(required = true)
+    private List<ProxySpecification> proxies;
+
+    @Parameter(property = "newproxy.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip || proxies == null || proxies.isEmpty()) {
+            getLog().info("No proxy classes to generate");
+            return;
+        }
+        Properties index = new Properties();
+        Path indexFile = outputDirectory.toPath().resolve(Constants.PREGENERATED_INDEX);
+        try (URLClassLoader classLoader = createClassLoader()) {
+            if (Files.exists(indexFile)) {
+                try (InputStream inputStream = Files.newInputStream(indexFile)) {
+                    index.load(inputStream);
+                }
+            }
+            for (ProxySpecification proxy : proxies) {
+                Class<?>[] classes = loadClasses(proxy.getClasses(), classLoader);
+                Class<?>[] argTypes = loadClasses(proxy.getArgTypes(), classLoader);
+                Map.Entry<String, byte[]> entry;
+                try {
+                    entry = ProxyPregenerator.generate(argTypes, classes);
+                } catch (IllegalArgumentException e) {
+                    throw new MojoExecutionException("invalid proxy specification " + proxy + ": " + e.getMessage(), e);
+                }
+                String proxyClassName = entry.getKey(), specification = ProxyPregenerator.getSpecification(argTypes, classes);
+                Path classFile = outputDirectory.toPath().resolve(Constants.PREGENERATED_CLASSES + proxyClassName.replace('.', '/') + ".class");
+                Files.createDirectories(classFile.getParent());
+                Files.write(classFile, entry.getValue());
+                index.setProperty(specification, ProxyPregenerator.getIndexEntry(proxyClassName, classes));
+                getLog().info("Generated proxy class " + proxyClassName + " for " + specification);
+            }
+            index.setProperty(Constants.PREGENERATED_INDEX_VERSION, Constants.GENERATOR_VERSION);
+            Files.createDirectories(indexFile.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(indexFile)) {
+                index.store(outputStream, "proxy classes pregenerated by newproxy-maven-plugin");
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("failed to write proxy classes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a class loader to load classes of the project and its dependencies, whose parent is the class loader
+     * of this plugin, so that classes of {@link NewProxy} are shared.
+     *
+     * @return a class loader to load classes of the project.
+     * @throws MojoExecutionException if the classpath of the project can not be resolved
+     */
+    private URLClassLoader createClassLoader() throws MojoExecutionException {
+        try {
+            Set<String> elements = new LinkedHashSet<>(project.getCompileClasspathElements());
+            elements.addAll(project.getRuntimeClasspathElements());
+            List<URL> urls = new ArrayList<>(elements.size());
+            for (String element : elements) {
+                urls.add(new File(element).toURI().toURL());
+            }
+            return new URLClassLoader(urls.toArray(new URL[0]), getClass().getClassLoader());
+        } catch (MalformedURLException | org.apache.maven.artifact.DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("failed to resolve classpath of project: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads classes with the specified names, primitive types included.
+     *
+     * @param names       names of classes
+     * @param classLoader class loader to load classes
+     * @return classes with the specified names.
+     * @throws MojoExecutionException if any of the classes can not be found
+     */
+    private static Class<?>[] loadClasses(List<String> names, ClassLoader classLoader) throws MojoExecutionException {
+        if (names == null) {
+            return new Class<?>[0];
+        }
+        Class<?>[] classes = new Class<?>[names.size()];
+        for (int i = 0; i < classes.length; i++) {
+            String name = names.get(i).trim();
+            classes[i] = PRIMITIVE_TYPES.get(name);
+            if (classes[i] == null) {
+                try {
+                    classes[i] = Class.forName(name, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw new MojoExecutionException("class not found: " + name, e);
+                }
+            }
+        }
+        return classes;
+    }
+
+}
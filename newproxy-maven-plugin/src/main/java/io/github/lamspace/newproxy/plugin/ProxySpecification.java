@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy.plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specification of a proxy class to generate at build time, declared in plugin configuration as below:
+ * <pre>
+ * &lt;proxies&gt;
+ *     &lt;proxy&gt;
+ *         &lt;classes&gt;
+ *             &lt;class&gt;com.example.Bar&lt;/class&gt;
+ *             &lt;class&gt;com.example.Foo&lt;/class&gt;
+ *         &lt;/classes&gt;
+ *         &lt;argTypes&gt;
+ *             &lt;argType&gt;java.lang.String&lt;/argType&gt;
+ *         &lt;/argTypes&gt;
+ *     &lt;/proxy&gt;
+ * &lt;/proxies&gt;
+ * </pre>
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ProxySpecification {
+
+    /**
+     * names of interfaces and class at most to implement or extend
+     */
+    private List<String> classes = new ArrayList<>();
+
+    /**
+     * names of argument types of the proxy class's constructor, primitive types included
+     */
+    private List<String> argTypes = new ArrayList<>();
+
+    public List<String> getClasses() {
+        return classes;
+    }
+
+    public void setClasses(List<String> classes) {
+        this.classes = classes;
+    }
+
+    public List<String> getArgTypes() {
+        return argTypes;
+    }
+
+    public void setArgTypes(List<String> argTypes) {
+        this.argTypes = argTypes;
+    }
+
+    @Override
+    public String toString() {
+        return classes + "(" + String.join(",", argTypes) + ")";
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy.plugin;
+
+import io.github.lamspace.newproxy.Constants;
+import io.github.lamspace.newproxy.ProxyPregenerator;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@link GenerateMojo} Test Class.
+ *
+ * @author Lam Tong
+ */
+public class GenerateMojoTest {
+
+    /**
+     * Case: proxy classes declared in configuration are written with an index file, whose entries are the ones
+     * {@link ProxyPregenerator} looks for at runtime.
+     */
+    @Test
+    public void testForGenerate() throws Exception {
+        Path outputDirectory = Files.createTempDirectory("newproxy-plugin");
+        ProxySpecification specification = new ProxySpecification();
+        specification.setClasses(Collections.singletonList(GreetingService.class.getName()));
+        createMojo(outputDirectory, specification).execute();
+
+        Properties index = new Properties();
+        try (InputStream inputStream = Files.newInputStream(outputDirectory.resolve(Constants.PREGENERATED_INDEX))) {
+            index.load(inputStream);
+        }
+        Assertions.assertEquals(Constants.GENERATOR_VERSION, index.getProperty(Constants.PREGENERATED_INDEX_VERSION));
+        Map.Entry<String, byte[]> entry = ProxyPregenerator.generate(null, GreetingService.class);
+        String proxyClassName = entry.getKey();
+        Assertions.assertEquals(ProxyPregenerator.getIndexEntry(proxyClassName, GreetingService.class),
+                index.getProperty(ProxyPregenerator.getSpecification(null, GreetingService.class)));
+        // generation is deterministic, so the class file is the one NewProxy would generate with the same name
+        Path classFile = outputDirectory.resolve(Constants.PREGENERATED_CLASSES + proxyClassName.replace('.', '/') + ".class");
+        Assertions.assertArrayEquals(entry.getValue(), Files.readAllBytes(classFile));
+    }
+
+    /**
+     * Case: invalid specifications and unknown classes fail the build.
+     */
+    @Test
+    public void testForInvalidSpecification() throws Exception {
+        Path outputDirectory = Files.createTempDirectory("newproxy-plugin");
+        ProxySpecification twoClasses = new ProxySpecification();
+        twoClasses.setClasses(Arrays.asList(Object.class.getName(), String.class.getName()));
+        Assertions.assertThrows(MojoExecutionException.class, () -> createMojo(outputDirectory, twoClasses).execute());
+
+        ProxySpecification unknown = new ProxySpecification();
+        unknown.setClasses(Collections.singletonList("com.example.Unknown"));
+        Assertions.assertThrows(MojoExecutionException.class, () -> createMojo(outputDirectory, unknown).execute());
+    }
+
+    private static GenerateMojo createMojo(Path outputDirectory, ProxySpecification... proxies) throws Exception {
+        String classpath = new File(GreetingService.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        MavenProject project = new MavenProject() {
+            @Override
+            public List<String> getCompileClasspathElements() {
+                return Collections.singletonList(classpath);
+            }
+
+            @Override
+            public List<String> getRuntimeClasspathElements() {
+                return Collections.singletonList(classpath);
+            }
+        };
+        GenerateMojo mojo = new GenerateMojo();
+        setField(mojo, "project", project);
+        setField(mojo, "outputDirectory", outputDirectory.toFile());
+        setField(mojo, "proxies", Arrays.asList(proxies));
+        return mojo;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    public interface GreetingService {
+
+        String greet(String name);
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link AsyncInvocationInterceptor} is an optional extension of {@link InvocationInterceptor}, which intercepts
+ * asynchronous methods by composing on the {@link CompletionStage} they return, rather than blocking a thread until
+ * the result is available.<br/>
+ * If the invocation interceptor of a proxy instance implements {@link AsyncInvocationInterceptor}, a method invoked on
+ * the proxy instance whose return type is exactly {@link CompletionStage} or {@link CompletableFuture} is dispatched
+ * to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}, and the stage it returns is returned to
+ * the caller. For a method returning {@link CompletableFuture}, the stage is adapted by
+ * {@link CompletionStage#toCompletableFuture()}, so any implementation of {@link CompletionStage} may be returned.
+ * Methods with other return types, including other subtypes of {@link CompletionStage}, are still dispatched to
+ * {@link #intercept(Object, MethodDecorator, Object[]) intercept}, and proxy instances whose interceptor does not
+ * implement {@link AsyncInvocationInterceptor} take the usual path without any extra wrapping.<br/>
+ * Methods taking no more than six arguments are dispatched to the arity-specialized variants, such as
+ * {@link #interceptAsync2(Object, MethodDecorator, Object, Object) interceptAsync2}, which receive arguments
+ * individually and delegate to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync} by default.
+ * An implementation can override them along with {@link MethodDecorator#invoke2(Object, Object, Object, Object)
+ * invoke2} and so on, so that no array is allocated for method invocation.
+ * <br/>
+ * For example, an interceptor measuring the latency of asynchronous methods:
+ * <pre>{@code
+ * public CompletionStage<?> interceptAsync(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+ *     long start = System.nanoTime();
+ *     CompletionStage<?> stage = (CompletionStage<?>) method.invoke(proxy, target, args);
+ *     return stage.whenComplete((result, error) -> record(method, System.nanoTime() - start, error));
+ * }
+ * }</pre>
+ * An exception thrown by {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync} itself is thrown
+ * from the method invocation on the proxy instance, the same as one thrown by
+ * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see InvocationInterceptor
+ * @see PrimitiveInvocationInterceptor
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AsyncInvocationInterceptor extends InvocationInterceptor {
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or
+     * {@link CompletableFuture}, and returns the stage to return from the method invocation.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the stage to return from the method invocation on the proxy instance, which is adapted by
+     * {@link CompletionStage#toCompletableFuture()} if the method returns {@link CompletableFuture}, hence must not be
+     * {@code null} then
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (CompletionStage<?>) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes no arguments, which are passed individually instead of in an array. By
+     * default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptAsync(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes one argument, which are passed individually instead of in an array. By
+     * default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes two arguments, which are passed individually instead of in an array. By
+     * default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes three arguments, which are passed individually instead of in an array.
+     * By default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes four arguments, which are passed individually instead of in an array.
+     * By default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes five arguments, which are passed individually instead of in an array.
+     * By default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@link CompletionStage} or {@link
+     * CompletableFuture} and whose method takes six arguments, which are passed individually instead of in an array. By
+     * default, this method delegates to {@link #interceptAsync(Object, MethodDecorator, Object[]) interceptAsync}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the stage to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptAsync(Object, MethodDecorator, Object[])
+     */
+    default CompletionStage<?> interceptAsync6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptAsync(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+}
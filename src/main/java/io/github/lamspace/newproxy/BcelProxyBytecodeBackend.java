@@ -0,0 +1,1143 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+import org.apache.bcel.Const;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.StackMap;
+import org.apache.bcel.classfile.StackMapEntry;
+import org.apache.bcel.classfile.StackMapType;
+import org.apache.bcel.generic.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.*;
+
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link BcelProxyBytecodeBackend} builds proxy classes via
+ * <a href="https://commons.apache.org/proper/commons-bcel/">BCEL</a>, which aims to analyze, create and manipulate
+ * Java Class files. A proxy class is built as a {@link ClassGen} instance, whose methods are built from
+ * {@link InstructionList} instances, and then serialized via {@link JavaClass#getBytes()}.<br/>
+ * This backend is used if system property {@value Constants#STRING_BACKEND} is {@code bcel}, which requires
+ * {@code BCEL} on the classpath. Proxy classes it builds are equivalent to the ones written by
+ * {@link StreamingProxyBytecodeBackend}, see {@link ProxyGenerator} for the format of proxy classes.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ProxyGenerator
+ * @since 1.0.0
+ */
+final class BcelProxyBytecodeBackend implements ProxyBytecodeBackend<JavaClass> {
+
+    static final BcelProxyBytecodeBackend INSTANCE = new BcelProxyBytecodeBackend();
+
+    private BcelProxyBytecodeBackend() {
+    }
+
+    @Override
+    public JavaClass build(GenerationContext context, int accessFlag, Class<?> parentClass, Class<?>[] interfaces) {
+        String superClass = parentClass == null ? Object.class.getName() : parentClass.getName();
+        ClassGen classGen = new ClassGen(context.getProxyClassName(), superClass, "<generated>", accessFlag, ProxyGenerator.extractNamesFromInterfaces(interfaces));
+        ConstantPoolGen constantPool = classGen.getConstantPool();
+        classGen.setMinor(Const.MINOR_1_8);
+        classGen.setMajor(Const.MAJOR_1_8);
+
+        // Add @Proxied to proxy class
+        classGen.addAnnotationEntry(new AnnotationEntryGen(new ObjectType(Proxied.class.getName()), Collections.emptyList(), true, constantPool));
+
+        // generates static variables for proxy class
+        generateStaticVariables(context, classGen, constantPool);
+
+        // initialize static variable for proxy class in static initializer
+        generateStaticVariableInitializer(context, classGen, constantPool);
+
+        // generate default constructor for proxy class
+        generateDefaultConstructor(context, classGen, constantPool, parentClass);
+
+        // generate implementation of interface InterceptorAccessor to return the interceptor
+        generateInterceptorAccessor(context, classGen, constantPool);
+
+        // generate methods to invoke
+        generateMethods(context, classGen, constantPool);
+
+        // generate methods delegated to the target of delegating proxy class
+        generateDelegatedMethods(context, classGen, constantPool);
+
+        // generate implementation of interface InvocationDispatcher to encode and dispatch method invocation
+        generateDispatchMethod(context, classGen, constantPool, Object.class, -1);
+        for (int arity = 0; arity <= MAX_ARITY; arity++) {
+            generateDispatchMethod(context, classGen, constantPool, Object.class, arity);
+        }
+        for (Class<?> valueType : ProxyGenerator.PRIMITIVE_DISPATCH_TYPES) {
+            generateDispatchMethod(context, classGen, constantPool, valueType, -1);
+            for (int arity = 0; arity <= MAX_ARITY; arity++) {
+                generateDispatchMethod(context, classGen, constantPool, valueType, arity);
+            }
+        }
+        return classGen.getJavaClass();
+    }
+
+    @Override
+    public byte[] toByteArray(JavaClass proxyClass) {
+        return proxyClass.getBytes();
+    }
+
+    /**
+     * Generates the static variable {@value Constants#FIELD_METHOD_DECORATORS} for proxy class, which is an array of
+     * {@link MethodDecorator} indexed by indexes of methods, and the static variable
+     * {@value Constants#FIELD_METHOD_METRICS} if invocation metrics are enabled.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateStaticVariables(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        if (!context.getMethods().isEmpty()) {
+            int modifiers = Const.ACC_PRIVATE | Const.ACC_STATIC | Const.ACC_FINAL;
+            classGen.addField(new FieldGen(modifiers, new ArrayType(new ObjectType(MethodDecorator.class.getName()), 1), FIELD_METHOD_DECORATORS, constantPool).getField());
+            if (context.isGenerateMetrics()) {
+                classGen.addField(new FieldGen(modifiers, new ObjectType(MethodMetrics.class.getName()), FIELD_METHOD_METRICS, constantPool).getField());
+            }
+        }
+    }
+
+    /**
+     * Generates static variable initializer for proxy class, which only allocates the array held by
+     * {@value Constants#FIELD_METHOD_DECORATORS}, and registers {@link MethodMetrics} if invocation metrics are
+     * enabled. {@link MethodDecorator} instances are resolved via reflection on first invocation of their methods, so
+     * that methods never invoked cost nothing when the proxy class initializes.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateStaticVariableInitializer(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        if (context.getMethods().isEmpty()) {
+            return;
+        }
+        InstructionList list = new InstructionList();
+        MethodGen methodGen = new MethodGen(Const.ACC_STATIC, Type.VOID, Type.NO_ARGS, null, METHOD_CL_INIT, context.getProxyClassName(), list, constantPool);
+        list.append(new PUSH(constantPool, Collections.max(context.getMethods().values()) + 1));
+        list.append(new ANEWARRAY(constantPool.addClass(CLASS_METHOD_DECORATOR)));
+        list.append(new PUTSTATIC(constantPool.addFieldref(context.getProxyClassName(), FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY)));
+        if (context.isGenerateMetrics()) {
+            // methodMetrics = MethodMetrics.register($NewProxy0.class, "...");
+            InstructionFactory factory = new InstructionFactory(constantPool);
+            list.append(new LDC(constantPool.addClass(context.getProxyClassName())));
+            appendString(list, factory, constantPool, context.getMethodTable());
+            list.append(factory.createInvoke(CLASS_METHOD_METRICS, METHOD_REGISTER, new ObjectType(MethodMetrics.class.getName()), new Type[]{Type.CLASS, Type.STRING}, Const.INVOKESTATIC));
+            list.append(new PUTSTATIC(constantPool.addFieldref(context.getProxyClassName(), FIELD_METHOD_METRICS, SIGNATURE_METHOD_METRICS)));
+        }
+        list.append(InstructionConst.RETURN);
+
+        methodGen.setMaxLocals();
+        methodGen.setMaxStack();
+        classGen.addMethod(methodGen.getMethod());
+        list.dispose();
+
+        generateMethodDecoratorAccessor(context, classGen, constantPool);
+    }
+
+    /**
+     * Generates the static method which returns the {@link MethodDecorator} instance of the specified index, and
+     * resolves it on first access via {@link MethodDecorator#resolve(MethodDecorator[], Class, String, int, int)}
+     * with a compact table of methods of the proxy class, instead of unrolled reflection for each method:
+     * <blockquote><pre>
+     * private static MethodDecorator getMethodDecorator(int index) {
+     *     MethodDecorator method = methodDecorators[index];
+     *     return method != null ? method : MethodDecorator.resolve(methodDecorators, $NewProxy0.class,
+     *             "java.lang.Object.equals(Ljava/lang/Object;)Z\n...\nFoo.foo()V", index, 1);
+     * }
+     * </pre></blockquote>
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateMethodDecoratorAccessor(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        InstructionList list = new InstructionList();
+        InstructionFactory factory = new InstructionFactory(constantPool);
+        ObjectType type = new ObjectType(MethodDecorator.class.getName());
+        MethodGen methodGen = new MethodGen(Const.ACC_PRIVATE | Const.ACC_STATIC, type, new Type[]{Type.INT}, new String[]{"index"}, METHOD_GET_METHOD_DECORATOR, context.getProxyClassName(), list, constantPool);
+
+        list.append(new GETSTATIC(constantPool.addFieldref(context.getProxyClassName(), FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY)));
+        list.append(new ILOAD(0));
+        list.append(new AALOAD());
+        list.append(new DUP());
+        IFNULL ifnull = new IFNULL(null);
+        list.append(ifnull);
+        list.append(new ARETURN());
+        InstructionHandle slowHandle = list.append(new POP());
+        ifnull.setTarget(slowHandle);
+        list.append(new GETSTATIC(constantPool.addFieldref(context.getProxyClassName(), FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY)));
+        list.append(new LDC(constantPool.addClass(context.getProxyClassName())));
+        appendString(list, factory, constantPool, context.getMethodTable());
+        list.append(new ILOAD(0));
+        list.append(new PUSH(constantPool, context.getChainLength()));
+        list.append(factory.createInvoke(CLASS_METHOD_DECORATOR, METHOD_RESOLVE, type, new Type[]{new ArrayType(type, 1), Type.CLASS, Type.STRING, Type.INT, Type.INT}, Const.INVOKESTATIC));
+        list.append(new ARETURN());
+
+        list.setPositions();
+        StackMapEntry[] entries = new StackMapEntry[]{
+                createSameLocals1StackItemFrame(slowHandle.getPosition(), CLASS_METHOD_DECORATOR, constantPool)
+        };
+        methodGen.addCodeAttribute(createStackMap(entries, constantPool));
+
+        methodGen.setMaxLocals();
+        methodGen.setMaxStack();
+        classGen.addMethod(methodGen.getMethod());
+        list.dispose();
+    }
+
+    /**
+     * Appends instructions to push the specified string onto the operand stack. A long string is split into chunks
+     * concatenated at runtime, since a string constant in the constant pool is limited to 65535 bytes.
+     *
+     * @param list         {@link InstructionList} instance
+     * @param factory      {@link InstructionFactory} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param string       the string to push
+     */
+    private static void appendString(InstructionList list, InstructionFactory factory, ConstantPoolGen constantPool, String string) {
+        // a character takes at most 3 bytes in modified UTF-8
+        int chunk = 65535 / 3;
+        list.append(new LDC(constantPool.addString(string.substring(0, Math.min(chunk, string.length())))));
+        for (int start = chunk; start < string.length(); start += chunk) {
+            list.append(new LDC(constantPool.addString(string.substring(start, Math.min(start + chunk, string.length())))));
+            list.append(factory.createInvoke(String.class.getName(), METHOD_CONCAT, Type.STRING, new Type[]{Type.STRING}, Const.INVOKEVIRTUAL));
+        }
+    }
+
+    /**
+     * Generates the default constructor for the proxy class.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param parentClass  the parent class to extend for the proxy class
+     */
+    private static void generateDefaultConstructor(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool, Class<?> parentClass) {
+        // the first interceptor is held by field "interceptor", and the following ones in the chain are held by
+        // fields "interceptor1", "interceptor2" and so on
+        int stages = context.getChainLength();
+        for (int stage = 0; stage < stages; stage++) {
+            FieldGen handlerFieldGen = new FieldGen(Const.ACC_PRIVATE | Const.ACC_FINAL, new ObjectType(InvocationInterceptor.class.getName()), ProxyGenerator.getInterceptorFieldName(stage), constantPool);
+            classGen.addField(handlerFieldGen.getField());
+        }
+
+        // delegating proxy class holds the target after interceptors, which is the last parameter since delegating
+        // proxy class extends no class
+        int leading = stages;
+        if (context.isDelegating()) {
+            classGen.addField(new FieldGen(Const.ACC_PRIVATE | Const.ACC_FINAL, Type.OBJECT, FIELD_TARGET, constantPool).getField());
+            leading++;
+        }
+
+        InstructionList list = new InstructionList();
+        InstructionFactory factory = new InstructionFactory(constantPool);
+
+        // If the parent class has a constructor with parameters, then "super" should be called in constructor first.
+        Class<?>[] parameterTypes = context.getArgTypes();
+        Type[] parameterTypesArray = new Type[parameterTypes.length + leading];
+        String[] parameterNames = new String[parameterTypes.length + leading];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypesArray[i + leading] = getTypeFromClass(parameterTypes[i]);
+            parameterNames[i + leading] = "arg" + i;
+        }
+        for (int stage = 0; stage < stages; stage++) {
+            parameterTypesArray[stage] = new ObjectType(InvocationInterceptor.class.getName());
+            parameterNames[stage] = ProxyGenerator.getInterceptorFieldName(stage);
+        }
+        if (leading > stages) {
+            parameterTypesArray[stages] = Type.OBJECT;
+            parameterNames[stages] = FIELD_TARGET;
+        }
+
+        MethodGen methodGen = new MethodGen(Const.ACC_PUBLIC, Type.VOID, parameterTypesArray, parameterNames, METHOD_INIT, context.getProxyClassName(), list, constantPool);
+        list.append(new ALOAD(0));
+        if (parentClass != null) {
+            // long and double arguments take two slots
+            int slot = leading + 1;
+            for (Class<?> parameterType : parameterTypes) {
+                if (parameterType.equals(boolean.class) || parameterType.equals(byte.class) ||
+                        parameterType.equals(char.class) || parameterType.equals(short.class) ||
+                        parameterType.equals(int.class)) {
+                    list.append(new ILOAD(slot));
+                } else if (parameterType.equals(long.class)) {
+                    list.append(new LLOAD(slot++));
+                } else if (parameterType.equals(float.class)) {
+                    list.append(new FLOAD(slot));
+                } else if (parameterType.equals(double.class)) {
+                    list.append(new DLOAD(slot++));
+                } else {
+                    list.append(new ALOAD(slot));
+                }
+                slot++;
+            }
+            Type[] args = new Type[parameterTypes.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = getTypeFromClass(parameterTypes[i]);
+            }
+            list.append(factory.createInvoke(parentClass.getName(), METHOD_INIT, Type.VOID, args, Const.INVOKESPECIAL));
+        } else {
+            list.append(factory.createInvoke(Object.class.getName(), METHOD_INIT, Type.VOID, Type.NO_ARGS, Const.INVOKESPECIAL));
+        }
+        for (int stage = 0; stage < stages; stage++) {
+            list.append(new ALOAD(0));
+            list.append(new ALOAD(stage + 1));
+            list.append(new PUTFIELD(constantPool.addFieldref(context.getProxyClassName(), ProxyGenerator.getInterceptorFieldName(stage), SIGNATURE_INVOCATION_INTERCEPTOR)));
+        }
+        if (leading > stages) {
+            list.append(new ALOAD(0));
+            list.append(new ALOAD(stages + 1));
+            list.append(new PUTFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_TARGET, Type.OBJECT.getSignature())));
+        }
+        list.append(InstructionConst.RETURN);
+
+        methodGen.setMaxLocals();
+        methodGen.setMaxStack();
+        classGen.addMethod(methodGen.getMethod());
+        list.dispose();
+    }
+
+    /**
+     * Generates the enhanced methods for the proxy class.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateMethods(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        InstructionList list = new InstructionList();
+        for (Method method : context.getMethods().keySet()) {
+            Class<?> returnType = method.getReturnType();
+            Parameter[] parameters = method.getParameters();
+            int value = parameters.length + 1;
+            Type[] types = new Type[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                Class<?> type = parameters[i].getType();
+                types[i] = getTypeFromClass(type);
+            }
+            InstructionFactory factory = new InstructionFactory(constantPool);
+
+            Type return_type = getTypeFromClass(returnType);
+            MethodGen methodGen = new MethodGen(Const.ACC_PUBLIC | Const.ACC_FINAL, return_type, types, null, method.getName(), context.getProxyClassName(), list, constantPool);
+            int index = context.getMethods().get(method);
+            // start time of invocation is held by the local variable following arguments if metrics are enabled
+            int startSlot = value + Arrays.stream(types).mapToInt(type -> type.getSize() - 1).sum();
+            boolean metrics = context.isGenerateMetrics();
+            if (metrics) {
+                list.append(factory.createInvoke(CLASS_SYSTEM, METHOD_NANO_TIME, Type.LONG, Type.NO_ARGS, Const.INVOKESTATIC));
+                list.append(new LSTORE(startSlot));
+            }
+            int exceptionSlot = metrics ? startSlot + 2 : startSlot;
+            InstructionHandle try_start = list.append(new ALOAD(0));
+            list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR)));
+
+            // If the interceptor implements PrimitiveInvocationInterceptor, the value of primitive type is returned by
+            // the specialized intercept method directly without wrapper allocation. Likewise, if the interceptor
+            // implements AsyncInvocationInterceptor, the stage returned by an asynchronous method is intercepted by
+            // interceptAsync.
+            String primitiveInterceptMethod = ProxyGenerator.getPrimitiveInterceptMethod(returnType);
+            boolean async = primitiveInterceptMethod == null && ProxyGenerator.isAsyncReturnType(returnType);
+            InstructionHandle genericHandle = null;
+            if (primitiveInterceptMethod != null || async) {
+                String specializedClass = async ? CLASS_ASYNC_INVOCATION_INTERCEPTOR : CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR;
+                list.append(new INSTANCEOF(constantPool.addClass(specializedClass)));
+                IFEQ ifeq = new IFEQ(null);
+                list.append(ifeq);
+                list.append(new ALOAD(0));
+                list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR)));
+                list.append(new CHECKCAST(constantPool.addClass(specializedClass)));
+                list.append(new ALOAD(0));
+                appendMethodDecorator(context, list, factory, constantPool, index);
+                String interceptMethod = async ? METHOD_INTERCEPT_ASYNC : primitiveInterceptMethod;
+                Type interceptReturnType = async ? new ObjectType(CLASS_COMPLETION_STAGE) : return_type;
+                if (parameters.length <= MAX_ARITY) {
+                    // arguments are passed to arity-specialized variant of the specialized method without an array
+                    appendArguments(list, factory, constantPool, parameters, true);
+                    Type[] interceptTypes = new Type[parameters.length + 2];
+                    Arrays.fill(interceptTypes, Type.OBJECT);
+                    interceptTypes[1] = new ObjectType(MethodDecorator.class.getName());
+                    list.append(factory.createInvoke(specializedClass, interceptMethod + parameters.length, interceptReturnType, interceptTypes, Const.INVOKEINTERFACE));
+                } else {
+                    appendArguments(list, factory, constantPool, parameters, false);
+                    Type[] interceptTypes = new Type[]{Type.OBJECT, new ObjectType(MethodDecorator.class.getName()), new ArrayType(Type.OBJECT, 1)};
+                    list.append(factory.createInvoke(specializedClass, interceptMethod, interceptReturnType, interceptTypes, Const.INVOKEINTERFACE));
+                }
+                if (CLASS_COMPLETABLE_FUTURE.equals(returnType.getName())) {
+                    // the stage may be of any implementation, hence it is adapted rather than cast
+                    list.append(factory.createInvoke(CLASS_COMPLETION_STAGE, METHOD_TO_COMPLETABLE_FUTURE, new ObjectType(CLASS_COMPLETABLE_FUTURE), Type.NO_ARGS, Const.INVOKEINTERFACE));
+                }
+                appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                list.append(InstructionFactory.createReturn(return_type));
+                genericHandle = list.append(new ALOAD(0));
+                ifeq.setTarget(genericHandle);
+                list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR)));
+            }
+            list.append(new ALOAD(0));
+            appendMethodDecorator(context, list, factory, constantPool, index);
+            if (parameters.length <= MAX_ARITY) {
+                // arguments are passed to arity-specialized intercept method without an array
+                appendArguments(list, factory, constantPool, parameters, true);
+                Type[] interceptTypes = new Type[parameters.length + 2];
+                Arrays.fill(interceptTypes, Type.OBJECT);
+                interceptTypes[1] = new ObjectType(MethodDecorator.class.getName());
+                list.append(factory.createInvoke(InvocationInterceptor.class.getName(), METHOD_INTERCEPT + parameters.length, Type.OBJECT, interceptTypes, Const.INVOKEINTERFACE));
+            } else {
+                appendArguments(list, factory, constantPool, parameters, false);
+                list.append(factory.createInvoke(InvocationInterceptor.class.getName(), METHOD_INTERCEPT, Type.OBJECT, new Type[]{Type.OBJECT, new ObjectType(MethodDecorator.class.getName()), new ArrayType(Type.OBJECT, 1)}, Const.INVOKEINTERFACE));
+            }
+            InstructionHandle try_end;
+            if (returnType.isPrimitive()) {
+                if (returnType == boolean.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Boolean.class.getName())));
+                    list.append(factory.createInvoke(Boolean.class.getName(), METHOD_BOOLEAN_VALUE, Type.BOOLEAN, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.IRETURN);
+                } else if (returnType == byte.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Byte.class.getName())));
+                    list.append(factory.createInvoke(Byte.class.getName(), METHOD_BYTE_VALUE, Type.BYTE, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.IRETURN);
+                } else if (returnType == short.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Short.class.getName())));
+                    list.append(factory.createInvoke(Short.class.getName(), METHOD_SHORT_VALUE, Type.SHORT, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.IRETURN);
+                } else if (returnType == char.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Character.class.getName())));
+                    list.append(factory.createInvoke(Character.class.getName(), METHOD_CHAR_VALUE, Type.CHAR, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.IRETURN);
+                } else if (returnType == int.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Integer.class.getName())));
+                    list.append(factory.createInvoke(Integer.class.getName(), METHOD_INT_VALUE, Type.INT, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.IRETURN);
+                } else if (returnType == long.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Long.class.getName())));
+                    list.append(factory.createInvoke(Long.class.getName(), METHOD_LONG_VALUE, Type.LONG, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.LRETURN);
+                } else if (returnType == float.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Float.class.getName())));
+                    list.append(factory.createInvoke(Float.class.getName(), METHOD_FLOAT_VALUE, Type.FLOAT, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.FRETURN);
+                } else if (returnType == double.class) {
+                    list.append(new CHECKCAST(constantPool.addClass(Double.class.getName())));
+                    list.append(factory.createInvoke(Double.class.getName(), METHOD_DOUBLE_VALUE, Type.DOUBLE, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.DRETURN);
+                } else {
+                    // void return type
+                    list.append(new POP());
+                    appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                    try_end = list.append(InstructionConst.RETURN);
+                }
+            } else {
+                list.append(new CHECKCAST(constantPool.addClass(returnType.getName())));
+                appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD);
+                try_end = list.append(InstructionConst.ARETURN);
+            }
+
+            //  catch (RuntimeException | Error e) {
+            //    throw e;
+            //  }
+            InstructionHandle handle_1 = list.append(new ASTORE(exceptionSlot));
+            appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD_ERROR);
+            list.append(new ALOAD(exceptionSlot));
+            list.append(InstructionConst.ATHROW);
+            methodGen.addExceptionHandler(try_start, try_end, handle_1, new ObjectType(Error.class.getName()));
+            methodGen.addExceptionHandler(try_start, try_end, handle_1, new ObjectType(RuntimeException.class.getName()));
+
+            //  catch (Throwable e) {
+            //    throw new UndeclaredThrowableException(e);
+            //  }
+            InstructionHandle handle_2 = list.append(new ASTORE(exceptionSlot));
+            appendMetrics(context, list, factory, constantPool, index, startSlot, METHOD_RECORD_ERROR);
+            list.append(new NEW(constantPool.addClass(CLASS_UNDECLARED_THROWABLE_EXCEPTION)));
+            list.append(new DUP());
+            list.append(new ALOAD(exceptionSlot));
+            list.append(factory.createInvoke(UndeclaredThrowableException.class.getName(), METHOD_INIT, Type.VOID, new Type[]{new ObjectType(Throwable.class.getName())}, Const.INVOKESPECIAL));
+            list.append(InstructionConst.ATHROW);
+            methodGen.addExceptionHandler(try_start, try_end, handle_2, new ObjectType(Throwable.class.getName()));
+
+            list.setPositions();
+            List<StackMapEntry> entries = new ArrayList<>();
+            int pre = -1;
+            if (metrics) {
+                // the local variable holding start time is appended to the frame at the beginning of try block
+                entries.add(createAppendLongFrame(try_start.getPosition(), constantPool));
+                pre = try_start.getPosition();
+            }
+            if (genericHandle != null) {
+                entries.add(createSameFrame(genericHandle.getPosition() - pre - 1, constantPool));
+                pre = genericHandle.getPosition();
+            }
+            entries.add(createSameLocals1StackItemFrame(handle_1.getPosition() - pre - 1, CLASS_THROWABLE, constantPool));
+            entries.add(createSameLocals1StackItemFrame(handle_2.getPosition() - handle_1.getPosition() - 1, CLASS_THROWABLE, constantPool));
+            methodGen.addCodeAttribute(createStackMap(entries.toArray(new StackMapEntry[0]), constantPool));
+
+            methodGen.setMaxLocals();
+            methodGen.setMaxStack();
+            classGen.addMethod(methodGen.getMethod());
+            list.dispose();
+        }
+    }
+
+    /**
+     * Generates the implementation of {@link InterceptorAccessor#getInvocationInterceptor()}, which returns the field
+     * {@value Constants#FIELD_INTERCEPTOR}.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateInterceptorAccessor(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        InstructionList list = new InstructionList();
+        ObjectType type = new ObjectType(InvocationInterceptor.class.getName());
+        MethodGen methodGen = new MethodGen(Const.ACC_PUBLIC | Const.ACC_FINAL, type, Type.NO_ARGS, null, METHOD_GET_INVOCATION_INTERCEPTOR, context.getProxyClassName(), list, constantPool);
+        list.append(new ALOAD(0));
+        list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR)));
+        list.append(new ARETURN());
+
+        methodGen.setMaxStack();
+        methodGen.setMaxLocals();
+        classGen.addMethod(methodGen.getMethod());
+        list.dispose();
+    }
+
+    /**
+     * Generates methods of delegating proxy class which are delegated to the target directly, without the interceptor
+     * or any {@link MethodDecorator} instance.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     */
+    private static void generateDelegatedMethods(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool) {
+        InstructionFactory factory = new InstructionFactory(constantPool);
+        for (Method method : context.getDelegatedMethods()) {
+            Parameter[] parameters = method.getParameters();
+            Type[] types = new Type[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                types[i] = getTypeFromClass(parameters[i].getType());
+            }
+            Type returnType = getTypeFromClass(method.getReturnType());
+            InstructionList list = new InstructionList();
+            MethodGen methodGen = new MethodGen(Const.ACC_PUBLIC | Const.ACC_FINAL, returnType, types, null, method.getName(), context.getProxyClassName(), list, constantPool);
+            list.append(new ALOAD(0));
+            list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_TARGET, Type.OBJECT.getSignature())));
+            list.append(new CHECKCAST(constantPool.addClass(method.getDeclaringClass().getName())));
+            for (int i = 0, slot = 1; i < types.length; i++) {
+                list.append(InstructionFactory.createLoad(types[i], slot));
+                slot += types[i].getSize();
+            }
+            list.append(factory.createInvoke(method.getDeclaringClass().getName(), method.getName(), returnType, types, Const.INVOKEINTERFACE));
+            list.append(InstructionFactory.createReturn(returnType));
+
+            methodGen.setMaxStack();
+            methodGen.setMaxLocals();
+            classGen.addMethod(methodGen.getMethod());
+            list.dispose();
+        }
+    }
+
+    /**
+     * Appends instructions to push the values of the arguments passed in the method invocation onto the operand
+     * stack. Arguments of primitive types are wrapped in instances of the appropriate primitive wrapper class. If
+     * {@code spread} is {@code false}, arguments are pushed in an array of objects, or {@code null} if the method takes
+     * no arguments; otherwise arguments are pushed one by one.
+     *
+     * @param list         {@link InstructionList} instance
+     * @param factory      {@link InstructionFactory} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param parameters   parameters of the method
+     * @param spread       whether to push arguments one by one or in an array
+     * @return number of additional local variable slots occupied by arguments of type {@code long} and {@code double}
+     */
+    private static int appendArguments(InstructionList list, InstructionFactory factory, ConstantPoolGen constantPool, Parameter[] parameters, boolean spread) {
+        if (!spread) {
+            if (parameters.length == 0) {
+                list.append(new ACONST_NULL());
+                list.append(new CHECKCAST(constantPool.addClass(Object[].class.getName())));
+                return 0;
+            }
+            list.append(new PUSH(constantPool, parameters.length));
+            list.append(new ANEWARRAY(constantPool.addClass(CLASS_OBJECT)));
+        }
+        int additional = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> type = parameters[i].getType();
+            if (!spread) {
+                list.append(new DUP());
+                list.append(new PUSH(constantPool, i));
+            }
+            Type parameterType = getTypeFromClass(type);
+            list.append(InstructionFactory.createLoad(parameterType, i + 1 + additional));
+            // if parameter is primitive, then a conversion is needed
+            appendBoxing(list, factory, type);
+            additional += parameterType.getSize() - 1;
+            if (!spread) {
+                list.append(new AASTORE());
+            }
+        }
+        return additional;
+    }
+
+    /**
+     * Appends instructions to push the {@link MethodDecorator} instance of the specified index onto the operand stack,
+     * which is resolved on first access.
+     *
+     * @param context      the context bound to the proxy class
+     * @param list         {@link InstructionList} instance
+     * @param factory      {@link InstructionFactory} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param index        index of the method in proxy class
+     */
+    private static void appendMethodDecorator(GenerationContext context, InstructionList list, InstructionFactory factory, ConstantPoolGen constantPool, int index) {
+        list.append(new PUSH(constantPool, index));
+        list.append(factory.createInvoke(context.getProxyClassName(), METHOD_GET_METHOD_DECORATOR, new ObjectType(MethodDecorator.class.getName()), new Type[]{Type.INT}, Const.INVOKESTATIC));
+    }
+
+    /**
+     * Appends instructions to record the invocation of the method of the specified index via {@link MethodMetrics},
+     * if invocation metrics are enabled. Nothing is appended otherwise.
+     *
+     * @param context      the context bound to the proxy class
+     * @param list         {@link InstructionList} instance
+     * @param factory      {@link InstructionFactory} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param index        index of the method in proxy class
+     * @param startSlot    slot of the local variable holding start time of the invocation
+     * @param recordMethod {@value Constants#METHOD_RECORD} or {@value Constants#METHOD_RECORD_ERROR}
+     */
+    private static void appendMetrics(GenerationContext context, InstructionList list, InstructionFactory factory, ConstantPoolGen constantPool, int index, int startSlot, String recordMethod) {
+        if (context.isGenerateMetrics()) {
+            list.append(new GETSTATIC(constantPool.addFieldref(context.getProxyClassName(), FIELD_METHOD_METRICS, SIGNATURE_METHOD_METRICS)));
+            list.append(new PUSH(constantPool, index));
+            list.append(new LLOAD(startSlot));
+            list.append(factory.createInvoke(CLASS_METHOD_METRICS, recordMethod, Type.VOID, new Type[]{Type.INT, Type.LONG}, Const.INVOKEVIRTUAL));
+        }
+    }
+
+    /**
+     * Get the {@link Type} from the class.
+     *
+     * @param clazz the class to get the {@link Type} from
+     * @return the {@link Type}
+     */
+    private static Type getTypeFromClass(Class<?> clazz) {
+        Type return_type;
+        // Check if the return type is primitive
+        if (clazz.isPrimitive()) {
+            // Return the matching Type enum constant based on the primitive type
+            if (clazz == boolean.class) {
+                return_type = Type.BOOLEAN;
+            } else if (clazz == byte.class) {
+                return_type = Type.BYTE;
+            } else if (clazz == short.class) {
+                return_type = Type.SHORT;
+            } else if (clazz == char.class) {
+                return_type = Type.CHAR;
+            } else if (clazz == int.class) {
+                return_type = Type.INT;
+            } else if (clazz == long.class) {
+                return_type = Type.LONG;
+            } else if (clazz == float.class) {
+                return_type = Type.FLOAT;
+            } else if (clazz == double.class) {
+                return_type = Type.DOUBLE;
+            } else {
+                // Default to VOID if not a common primitive type
+                return_type = Type.VOID;
+            }
+        } else if (clazz.isArray()) {
+            // ObjectType does not represent array types
+            return_type = Type.getType(clazz);
+        } else {
+            // For reference types, create an ObjectType with the fully qualified name
+            return_type = new ObjectType(clazz.getName());
+        }
+        return return_type;
+    }
+
+    /**
+     * Creates a {@code StackMapTable} attribute with the specified entries, whose length is calculated from the
+     * entries.
+     *
+     * @param entries      entries of the {@code StackMapTable} attribute
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @return {@link StackMap} instance
+     */
+    private static StackMap createStackMap(StackMapEntry[] entries, ConstantPoolGen constantPool) {
+        StackMap stackMap = new StackMap(constantPool.addUtf8(STACK_MAP_TABLE), 0, null, constantPool.getConstantPool());
+        stackMap.setStackMap(entries);
+        return stackMap;
+    }
+
+    /**
+     * Creates a {@code same_frame} entry of {@code StackMapTable}, using the extended form if the offset delta does not
+     * fit into the frame type.
+     *
+     * @param offsetDelta  offset delta from the previous frame
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @return {@link StackMapEntry} instance
+     */
+    private static StackMapEntry createSameFrame(int offsetDelta, ConstantPoolGen constantPool) {
+        int frameType = offsetDelta <= Const.SAME_FRAME_MAX ? offsetDelta : Const.SAME_FRAME_EXTENDED;
+        return new StackMapEntry(frameType, offsetDelta, new StackMapType[0], new StackMapType[0], constantPool.getConstantPool());
+    }
+
+    /**
+     * Creates a {@code same_locals_1_stack_item_frame} entry of {@code StackMapTable} whose only stack item is an
+     * instance of the specified class, using the extended form if the offset delta does not fit into the frame type.
+     *
+     * @param offsetDelta  offset delta from the previous frame
+     * @param className    full-qualified name of the class of the stack item
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @return {@link StackMapEntry} instance
+     */
+    private static StackMapEntry createSameLocals1StackItemFrame(int offsetDelta, String className, ConstantPoolGen constantPool) {
+        int frameType = offsetDelta <= Const.SAME_LOCALS_1_STACK_ITEM_FRAME_MAX - Const.SAME_LOCALS_1_STACK_ITEM_FRAME
+                ? Const.SAME_LOCALS_1_STACK_ITEM_FRAME + offsetDelta
+                : Const.SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED;
+        StackMapType[] stack = new StackMapType[]{new StackMapType(Const.ITEM_Object, constantPool.addClass(className), constantPool.getConstantPool())};
+        return new StackMapEntry(frameType, offsetDelta, new StackMapType[0], stack, constantPool.getConstantPool());
+    }
+
+    /**
+     * Creates an {@code append_frame} entry of {@code StackMapTable} which appends a local variable of type
+     * {@code long} to the frame.
+     *
+     * @param offsetDelta  offset delta from the previous frame
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @return {@link StackMapEntry} instance
+     */
+    private static StackMapEntry createAppendLongFrame(int offsetDelta, ConstantPoolGen constantPool) {
+        StackMapType[] locals = new StackMapType[]{new StackMapType(Const.ITEM_Long, -1, constantPool.getConstantPool())};
+        return new StackMapEntry(Const.APPEND_FRAME, offsetDelta, locals, new StackMapType[0], constantPool.getConstantPool());
+    }
+
+    /**
+     * Generate the dispatch method inherited from interface {@link InvocationDispatcher}. Method invocation is
+     * dispatched by a single {@code tableswitch} on {@link MethodDecorator#getIndex()}, so that the cost of dispatch
+     * does not grow with the number of methods of a proxy class.<br/>
+     * If {@code arity} is not negative, the arity-specialized dispatch method, such as
+     * {@link InvocationDispatcher#dispatch2(Object, MethodDecorator, Object, Object) dispatch2}, is generated instead,
+     * which receives arguments individually and only dispatches methods taking exactly {@code arity} arguments. Any
+     * other method is dispatched to {@link InvocationDispatcher#dispatch(Object, MethodDecorator, Object...) dispatch}.
+     * <br/>
+     * If {@code valueType} is primitive, the specialized dispatch method, such as
+     * {@link InvocationDispatcher#dispatchLong2(Object, MethodDecorator, Object, Object) dispatchLong2}, is generated
+     * instead, which only dispatches methods returning {@code valueType} and returns their values without wrapping.
+     * Any other method is dispatched to the dispatch method returning objects with the same arity.
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     the {@link ClassGen} instance
+     * @param constantPool the {@link ConstantPoolGen} instance
+     * @param valueType    {@code Object.class}, or one of {@link ProxyGenerator#PRIMITIVE_DISPATCH_TYPES} for the
+     *                     specialized dispatch method
+     * @param arity        number of arguments of the arity-specialized dispatch method, or {@code -1} for the dispatch
+     *                     method receiving arguments in an array
+     */
+    private static void generateDispatchMethod(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool, Class<?> valueType, int arity) {
+        boolean spread = arity >= 0;
+        boolean primitive = valueType.isPrimitive();
+        Map<Method, Integer> methods = new LinkedHashMap<>();
+        for (Map.Entry<Method, Integer> entry : context.getMethods().entrySet()) {
+            Method method = entry.getKey();
+            if ((!spread || method.getParameterCount() == arity) && (!primitive || method.getReturnType() == valueType)) {
+                methods.put(method, entry.getValue());
+            }
+        }
+        if (methods.isEmpty()) {
+            // the default implementation in InvocationDispatcher is enough
+            return;
+        }
+
+        Type[] argsType;
+        String[] argsName;
+        if (spread) {
+            argsType = new Type[arity + 2];
+            argsName = new String[arity + 2];
+            for (int i = 0; i < arity; i++) {
+                argsType[i + 2] = Type.OBJECT;
+                argsName[i + 2] = "arg" + i;
+            }
+        } else {
+            argsType = new Type[]{null, null, new ArrayType(Type.OBJECT, 1)};
+            argsName = new String[]{null, null, "args"};
+        }
+        argsType[0] = Type.OBJECT;
+        argsType[1] = new ObjectType(MethodDecorator.class.getName());
+        argsName[0] = "object";
+        argsName[1] = "method";
+
+        InstructionList list = new InstructionList();
+        InstructionFactory factory = new InstructionFactory(constantPool);
+        Type returnType = getTypeFromClass(valueType);
+        MethodGen methodGen = new MethodGen(Const.ACC_PUBLIC | Const.ACC_FINAL, returnType, argsType, argsName, ProxyGenerator.getDispatchMethodName(valueType, arity), CLASS_INVOCATION_DISPATCHER, list, constantPool);
+
+        int low = Collections.min(methods.values()), high = Collections.max(methods.values());
+        int[] match = new int[high - low + 1];
+        for (int i = 0; i < match.length; i++) {
+            match[i] = low + i;
+        }
+        // For proxy class with an interceptor chain, invocation from any interceptor but the last one proceeds to
+        // the next interceptor directly, with the arguments passed by that interceptor. Each interceptor after the
+        // first one is invoked from its own call site here, which is shared by all methods of the proxy class and
+        // stays monomorphic as long as the composition of the chain is stable. Specialized dispatch methods proceed
+        // to the specialized intercept method if the next interceptor implements PrimitiveInvocationInterceptor, so
+        // that the value is not wrapped between interceptors either.
+        InstructionHandle targetHandle = null;
+        if (context.isDelegating()) {
+            // invocation with null object is dispatched to the target of delegating proxy class
+            list.append(new ALOAD(1));
+            IFNONNULL ifnonnull = new IFNONNULL(null);
+            list.append(ifnonnull);
+            list.append(new ALOAD(0));
+            list.append(new GETFIELD(constantPool.addFieldref(context.getProxyClassName(), FIELD_TARGET, Type.OBJECT.getSignature())));
+            list.append(new ASTORE(1));
+            targetHandle = list.append(InstructionConst.NOP);
+            ifnonnull.setTarget(targetHandle);
+        }
+        int stages = context.getChainLength();
+        TABLESWITCH stageswitch = null;
+        List<InstructionHandle> genericHandles = new ArrayList<>();
+        if (stages > 1) {
+            int[] stageMatch = new int[stages - 1];
+            for (int i = 0; i < stageMatch.length; i++) {
+                stageMatch[i] = i;
+            }
+            list.append(new ALOAD(2));
+            list.append(factory.createInvoke(MethodDecorator.class.getName(), METHOD_GET_STAGE, Type.INT, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+            stageswitch = new TABLESWITCH(stageMatch, new InstructionHandle[stageMatch.length], null);
+            list.append(stageswitch);
+            Type[] interceptTypes = spread ? new Type[arity + 2] : new Type[]{null, null, new ArrayType(Type.OBJECT, 1)};
+            Arrays.fill(interceptTypes, 0, spread ? interceptTypes.length : 2, Type.OBJECT);
+            interceptTypes[1] = new ObjectType(MethodDecorator.class.getName());
+            for (int stage = 0; stage < stageMatch.length; stage++) {
+                int fieldref = constantPool.addFieldref(context.getProxyClassName(), ProxyGenerator.getInterceptorFieldName(stage + 1), SIGNATURE_INVOCATION_INTERCEPTOR);
+                if (primitive) {
+                    stageswitch.setTarget(stage, list.append(new ALOAD(0)));
+                    list.append(new GETFIELD(fieldref));
+                    list.append(new INSTANCEOF(constantPool.addClass(CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR)));
+                    IFEQ ifeq = new IFEQ(null);
+                    list.append(ifeq);
+                    appendNextStage(list, factory, fieldref, constantPool.addClass(CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR), arity);
+                    String interceptMethod = ProxyGenerator.getPrimitiveInterceptMethod(valueType);
+                    list.append(factory.createInvoke(CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR, spread ? interceptMethod + arity : interceptMethod, returnType, interceptTypes, Const.INVOKEINTERFACE));
+                    list.append(InstructionFactory.createReturn(returnType));
+                    InstructionHandle genericHandle = appendNextStage(list, factory, fieldref, -1, arity);
+                    ifeq.setTarget(genericHandle);
+                    genericHandles.add(genericHandle);
+                } else {
+                    stageswitch.setTarget(stage, appendNextStage(list, factory, fieldref, -1, arity));
+                }
+                list.append(factory.createInvoke(InvocationInterceptor.class.getName(), spread ? METHOD_INTERCEPT + arity : METHOD_INTERCEPT, Type.OBJECT, interceptTypes, Const.INVOKEINTERFACE));
+                appendUnboxing(list, factory, constantPool, valueType);
+                list.append(InstructionFactory.createReturn(returnType));
+            }
+        }
+        InstructionHandle indexHandle = list.append(new ALOAD(2));
+        if (stageswitch != null) {
+            stageswitch.setTarget(indexHandle);
+        }
+        list.append(factory.createInvoke(MethodDecorator.class.getName(), METHOD_GET_INDEX, Type.INT, Type.NO_ARGS, Const.INVOKEVIRTUAL));
+        TABLESWITCH tableswitch = new TABLESWITCH(match, new InstructionHandle[match.length], null);
+        list.append(tableswitch);
+
+        for (Map.Entry<Method, Integer> entry : methods.entrySet()) {
+            Method method = entry.getKey();
+            int index = entry.getValue();
+            Class<?> methodReturnType = method.getReturnType();
+            Parameter[] parameters = method.getParameters();
+            Type[] types = new Type[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                types[i] = getTypeFromClass(parameters[i].getType());
+            }
+
+            InstructionHandle handle;
+            if (context.isDelegatedMethod(method)) {
+                // method from interface of delegating proxy class, which is invoked on the target directly
+                handle = list.append(new ALOAD(1));
+                list.append(new CHECKCAST(constantPool.addClass(method.getDeclaringClass().getName())));
+                for (int i = 0; i < parameters.length; i++) {
+                    appendArgument(list, constantPool, spread, i);
+                    appendUnboxing(list, factory, constantPool, parameters[i].getType());
+                }
+                list.append(factory.createInvoke(method.getDeclaringClass().getName(), method.getName(), getTypeFromClass(methodReturnType), types, Const.INVOKEINTERFACE));
+            } else if (context.isDoInvokeMethod(method)) {
+                handle = list.append(new ALOAD(0));
+                // method from interface, which should be invoked via another "doInvoke..." method
+                list.append(new ALOAD(1));
+                for (int i = 0; i < parameters.length; i++) {
+                    appendArgument(list, constantPool, spread, i);
+                    appendUnboxing(list, factory, constantPool, parameters[i].getType());
+                }
+                Type[] parameterTypes = new Type[types.length + 1];
+                parameterTypes[0] = Type.OBJECT;
+                System.arraycopy(types, 0, parameterTypes, 1, types.length);
+                String doMethodName = METHOD_DO_INVOKE + StringUtils.capitalize(method.getName()) + index;
+                list.append(factory.createInvoke(context.getProxyClassName(), doMethodName, getTypeFromClass(methodReturnType), parameterTypes, Const.INVOKEVIRTUAL));
+                if (!spread && !primitive) {
+                    generateDoInvokeMethod(context, classGen, constantPool, method, index);
+                }
+            } else {
+                // method from class (including equals, hashCode and toString from Object), which should be invoked
+                // by "super" directly
+                handle = list.append(new ALOAD(0));
+                for (int i = 0; i < parameters.length; i++) {
+                    appendArgument(list, constantPool, spread, i);
+                    appendUnboxing(list, factory, constantPool, parameters[i].getType());
+                }
+                list.append(factory.createInvoke(method.getDeclaringClass().getName(), method.getName(), getTypeFromClass(methodReturnType), types, Const.INVOKESPECIAL));
+            }
+            tableswitch.setTarget(index - low, handle);
+            if (!primitive) {
+                appendBoxing(list, factory, methodReturnType);
+            }
+            list.append(InstructionFactory.createReturn(returnType));
+        }
+
+        InstructionHandle defaultHandle;
+        if (primitive) {
+            // methods with other return types are dispatched by the dispatch method returning objects
+            defaultHandle = list.append(new ALOAD(0));
+            list.append(new ALOAD(1));
+            list.append(new ALOAD(2));
+            for (int i = 0; i < (spread ? arity : 1); i++) {
+                list.append(new ALOAD(3 + i));
+            }
+            list.append(factory.createInvoke(context.getProxyClassName(), ProxyGenerator.getDispatchMethodName(Object.class, arity), Type.OBJECT, argsType, Const.INVOKEVIRTUAL));
+            appendUnboxing(list, factory, constantPool, valueType);
+        } else if (spread) {
+            // methods with other arity are dispatched with arguments in an array
+            defaultHandle = list.append(new ALOAD(0));
+            list.append(new ALOAD(1));
+            list.append(new ALOAD(2));
+            if (arity == 0) {
+                list.append(new ACONST_NULL());
+            } else {
+                list.append(new PUSH(constantPool, arity));
+                list.append(new ANEWARRAY(constantPool.addClass(CLASS_OBJECT)));
+                for (int i = 0; i < arity; i++) {
+                    list.append(new DUP());
+                    list.append(new PUSH(constantPool, i));
+                    list.append(new ALOAD(3 + i));
+                    list.append(new AASTORE());
+                }
+            }
+            list.append(factory.createInvoke(context.getProxyClassName(), METHOD_DISPATCH, Type.OBJECT, new Type[]{Type.OBJECT, new ObjectType(MethodDecorator.class.getName()), new ArrayType(Type.OBJECT, 1)}, Const.INVOKEVIRTUAL));
+        } else {
+            defaultHandle = list.append(new ACONST_NULL());
+        }
+        list.append(InstructionFactory.createReturn(returnType));
+        tableswitch.setTarget(defaultHandle);
+        for (int i = 0; i < match.length; i++) {
+            if (tableswitch.getTargets()[i] == null) {
+                tableswitch.setTarget(i, defaultHandle);
+            }
+        }
+
+        // all branches of tableswitch share the same frame with the beginning of this method
+        list.setPositions();
+        SortedSet<Integer> positions = new TreeSet<>();
+        for (InstructionHandle target : tableswitch.getTargets()) {
+            positions.add(target.getPosition());
+        }
+        positions.add(defaultHandle.getPosition());
+        if (targetHandle != null) {
+            positions.add(targetHandle.getPosition());
+        }
+        if (stageswitch != null) {
+            for (InstructionHandle target : stageswitch.getTargets()) {
+                positions.add(target.getPosition());
+            }
+            positions.add(indexHandle.getPosition());
+        }
+        for (InstructionHandle genericHandle : genericHandles) {
+            positions.add(genericHandle.getPosition());
+        }
+        StackMapEntry[] entries = new StackMapEntry[positions.size()];
+        int i = 0, pre = -1;
+        for (int position : positions) {
+            entries[i++] = createSameFrame(position - pre - 1, constantPool);
+            pre = position;
+        }
+        methodGen.addCodeAttribute(createStackMap(entries, constantPool));
+        methodGen.addException(CLASS_THROWABLE);
+
+        methodGen.setMaxLocals();
+        methodGen.setMaxStack();
+
+        org.apache.bcel.classfile.Method method = methodGen.getMethod();
+        classGen.addMethod(method);
+        list.dispose();
+    }
+
+    /**
+     * Appends instructions to load the interceptor of the next stage, the proxy instance, the {@link MethodDecorator}
+     * instance of the next stage and the arguments of the dispatch method onto the operand stack, which are the
+     * receiver and arguments of the intercept method of the next stage.
+     *
+     * @param list     {@link InstructionList} instance
+     * @param factory  {@link InstructionFactory} instance
+     * @param fieldref index of the field holding the interceptor of the next stage in the constant pool
+     * @param castref  index of the class which the interceptor is cast to in the constant pool, or {@code -1} if no
+     *                 cast is needed
+     * @param arity    number of arguments of the arity-specialized dispatch method, or {@code -1} for the dispatch
+     *                 method receiving arguments in an array
+     * @return handle of the first instruction appended
+     */
+    private static InstructionHandle appendNextStage(InstructionList list, InstructionFactory factory, int fieldref, int castref, int arity) {
+        InstructionHandle handle = list.append(new ALOAD(0));
+        list.append(new GETFIELD(fieldref));
+        if (castref >= 0) {
+            list.append(new CHECKCAST(castref));
+        }
+        list.append(new ALOAD(0));
+        list.append(new ALOAD(2));
+        list.append(factory.createInvoke(MethodDecorator.class.getName(), METHOD_GET_NEXT, new ObjectType(MethodDecorator.class.getName()), Type.NO_ARGS, Const.INVOKEVIRTUAL));
+        for (int i = 0; i < (arity >= 0 ? arity : 1); i++) {
+            list.append(new ALOAD(3 + i));
+        }
+        return handle;
+    }
+
+    /**
+     * Appends instructions to load an argument of the dispatch method onto the operand stack.
+     *
+     * @param list         {@link InstructionList} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param spread       whether arguments are passed individually or in an array
+     * @param i            index of the argument
+     */
+    private static void appendArgument(InstructionList list, ConstantPoolGen constantPool, boolean spread, int i) {
+        if (spread) {
+            list.append(new ALOAD(3 + i));
+        } else {
+            list.append(new ALOAD(3));
+            list.append(new PUSH(constantPool, i));
+            list.append(new AALOAD());
+        }
+    }
+
+    /**
+     * Appends instructions to convert the object on top of the operand stack into the specified type. Objects are
+     * unwrapped if the specified type is primitive, discarded if it is {@code void}, or cast to the specified type
+     * otherwise.
+     *
+     * @param list         {@link InstructionList} instance
+     * @param factory      {@link InstructionFactory} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param type         type to convert into
+     */
+    private static void appendUnboxing(InstructionList list, InstructionFactory factory, ConstantPoolGen constantPool, Class<?> type) {
+        //noinspection StatementWithEmptyBody
+        if (type.equals(Object.class)) {
+            // parameter type is Object.class, ignore
+        } else if (type.equals(void.class)) {
+            list.append(new POP());
+        } else if (type.isPrimitive()) {
+            Class<?> wrapperClass = ProxyGenerator.transformPrimitiveTypesToWrapperTypes(type);
+            list.append(new CHECKCAST(constantPool.addClass(wrapperClass.getName())));
+            list.append(factory.createInvoke(wrapperClass.getName(), type.getName() + "Value", getTypeFromClass(type), Type.NO_ARGS, Const.INVOKEVIRTUAL));
+        } else {
+            list.append(new CHECKCAST(constantPool.addClass(type.getName())));
+        }
+    }
+
+    /**
+     * Appends instructions to convert the value of the specified type on top of the operand stack into an object.
+     * Values of primitive types are wrapped in instances of the appropriate primitive wrapper class, and {@code null}
+     * is pushed for {@code void}.
+     *
+     * @param list    {@link InstructionList} instance
+     * @param factory {@link InstructionFactory} instance
+     * @param type    type of the value on top of the operand stack
+     */
+    private static void appendBoxing(InstructionList list, InstructionFactory factory, Class<?> type) {
+        if (type.equals(void.class)) {
+            list.append(new ACONST_NULL());
+        } else if (type.isPrimitive()) {
+            Class<?> wrapperClass = ProxyGenerator.transformPrimitiveTypesToWrapperTypes(type);
+            list.append(factory.createInvoke(wrapperClass.getName(), METHOD_VALUE_OF, new ObjectType(wrapperClass.getName()), new Type[]{getTypeFromClass(type)}, Const.INVOKESTATIC));
+        }
+    }
+
+    /**
+     * generate doInvoke method for which inherit from interfaces. The method invokes the interface method on the
+     * actual object to be invoked via {@code invokeinterface}, which is linked lazily by the JVM on first invocation:
+     * <blockquote><pre>
+     * private int doInvokeAdd4(Object object, int x, int y) throws Throwable {
+     *     return ((Foo) object).add(x, y);
+     * }
+     * </pre></blockquote>
+     *
+     * @param context      the context bound to the proxy class
+     * @param classGen     {@link ClassGen} instance
+     * @param constantPool {@link ConstantPoolGen} instance
+     * @param method       {@link Method} instance, which inherit from interfaces
+     * @param index        index of the method in proxy class, which distinguishes overloaded methods
+     */
+    private static void generateDoInvokeMethod(GenerationContext context, ClassGen classGen, ConstantPoolGen constantPool, Method method, int index) {
+        String doMethodName = METHOD_DO_INVOKE + StringUtils.capitalize(method.getName()) + index;
+        Type returnType = getTypeFromClass(method.getReturnType());
+        Parameter[] parameters = method.getParameters();
+
+        InstructionList list = new InstructionList();
+        InstructionFactory factory = new InstructionFactory(constantPool);
+
+        Type[] argsType = new Type[parameters.length + 1];
+        String[] argsName = new String[parameters.length + 1];
+        argsType[0] = Type.OBJECT;
+        argsName[0] = "object";
+        for (int i = 0; i < parameters.length; i++) {
+            argsType[i + 1] = getTypeFromClass(parameters[i].getType());
+            argsName[i + 1] = "arg" + i;
+        }
+        MethodGen methodGen = new MethodGen(Const.ACC_PRIVATE, returnType, argsType, argsName, doMethodName, context.getProxyClassName(), list, constantPool);
+
+        list.append(new ALOAD(1));
+        list.append(new CHECKCAST(constantPool.addClass(method.getDeclaringClass().getName())));
+        Type[] types = new Type[parameters.length];
+        for (int i = 0, slot = 2; i < parameters.length; i++) {
+            types[i] = argsType[i + 1];
+            list.append(InstructionFactory.createLoad(types[i], slot));
+            slot += types[i].getSize();
+        }
+        list.append(factory.createInvoke(method.getDeclaringClass().getName(), method.getName(), returnType, types, Const.INVOKEINTERFACE));
+        list.append(InstructionFactory.createReturn(returnType));
+
+        methodGen.addException(CLASS_THROWABLE);
+
+        methodGen.setMaxStack();
+        methodGen.setMaxLocals();
+
+        classGen.addMethod(methodGen.getMethod());
+        list.dispose();
+    }
+
+}
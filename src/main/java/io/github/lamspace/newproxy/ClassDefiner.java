@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+/**
+ * {@link ClassDefiner} defines generated proxy classes in class loaders. {@link #getInstance()} chooses the
+ * implementation suitable for the running JVM:
+ * <ul>
+ *     <li>On JDK 9 and later, {@link LookupClassDefiner} defines proxy classes via
+ *     {@code MethodHandles.Lookup#defineClass(byte[])}, or {@code MethodHandles.Lookup#defineHiddenClass} on JDK 15
+ *     and later if system property {@value Constants#STRING_HIDDEN_CLASS_FLAG} is {@code true}, and falls back to
+ *     {@link DefineClass0ClassDefiner} if it is still accessible.</li>
+ *     <li>On JDK 8, {@link DefineClass0ClassDefiner} defines proxy classes via
+ *     {@code java.lang.reflect.Proxy#defineClass0}.</li>
+ * </ul>
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @since 1.0.0
+ */
+interface ClassDefiner {
+
+    /**
+     * Defines a proxy class in the specified class loader.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param name        binary name of the proxy class
+     * @param bytes       bytes of the proxy class file
+     * @param classes     classes which the proxy class implements or extends
+     * @return the proxy class defined.
+     * @throws ClassFormatError         if the bytes are not a valid class file
+     * @throws IllegalArgumentException if the proxy class can not be defined in the specified class loader
+     */
+    Class<?> defineClass(ClassLoader classLoader, String name, byte[] bytes, Class<?>[] classes);
+
+    /**
+     * Checks whether a proxy class in the specified package can be defined in the specified class loader or not,
+     * before the proxy class is generated. By default, a proxy class can be defined in any class loader.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param pkg         package of the proxy class, ending with {@code "."}
+     * @param classes     classes which the proxy class implements or extends
+     * @throws IllegalArgumentException if the proxy class can not be defined in the specified class loader
+     */
+    default void checkDefinable(ClassLoader classLoader, String pkg, Class<?>[] classes) {
+    }
+
+    /**
+     * Returns the {@link ClassDefiner} suitable for the running JVM.
+     *
+     * @return a {@link ClassDefiner} instance.
+     * @throws RuntimeException if no {@link ClassDefiner} is available
+     */
+    static ClassDefiner getInstance() {
+        ClassDefiner fallback = DefineClass0ClassDefiner.create();
+        if (LookupClassDefiner.isSupported()) {
+            return new LookupClassDefiner(fallback,
+                    System.getProperty(Constants.STRING_HIDDEN_CLASS_FLAG, "false").equalsIgnoreCase("true"));
+        }
+        if (fallback == null) {
+            throw new RuntimeException("can not define dynamic proxy class");
+        }
+        return fallback;
+    }
+
+    /**
+     * Returns the binary name of the package of the specified class name, ending with {@code "."}, or an empty
+     * string for the unnamed package.
+     *
+     * @param name binary name of a class
+     * @return the package of the class.
+     */
+    static String getPackage(String name) {
+        return name.substring(0, name.lastIndexOf('.') + 1);
+    }
+
+}
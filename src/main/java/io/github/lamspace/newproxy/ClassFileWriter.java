@@ -0,0 +1,984 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ClassFileWriter} writes a Java class file directly into growable byte buffers, without building an object
+ * model of the class file first. Constants are appended to the constant pool on first use and their indexes are
+ * cached, instructions of a method are written in place, and branch offsets are patched when the method ends.
+ * {@code max_stack} and {@code max_locals} are tracked while instructions are written, but entries of
+ * {@code StackMapTable} are specified by the caller, since methods of proxy classes have few and simple branches.<br/>
+ * A {@link ClassFileWriter} instance is not thread-safe, and can be {@link #reset(int, String, String, String[]) reset}
+ * to write another class file, reusing its buffers.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see StreamingProxyBytecodeBackend
+ * @since 1.0.0
+ */
+final class ClassFileWriter {
+
+    static final int NOP = 0;
+    static final int ACONST_NULL = 1;
+    static final int ICONST_0 = 3;
+    static final int BIPUSH = 16;
+    static final int SIPUSH = 17;
+    static final int LDC = 18;
+    static final int LDC_W = 19;
+    static final int ILOAD = 21;
+    static final int LLOAD = 22;
+    static final int FLOAD = 23;
+    static final int DLOAD = 24;
+    static final int ALOAD = 25;
+    static final int AALOAD = 50;
+    static final int ISTORE = 54;
+    static final int LSTORE = 55;
+    static final int ASTORE = 58;
+    static final int AASTORE = 83;
+    static final int POP = 87;
+    static final int DUP = 89;
+    static final int IFEQ = 153;
+    static final int TABLESWITCH = 170;
+    static final int IRETURN = 172;
+    static final int LRETURN = 173;
+    static final int FRETURN = 174;
+    static final int DRETURN = 175;
+    static final int ARETURN = 176;
+    static final int RETURN = 177;
+    static final int GETSTATIC = 178;
+    static final int PUTSTATIC = 179;
+    static final int GETFIELD = 180;
+    static final int PUTFIELD = 181;
+    static final int INVOKEVIRTUAL = 182;
+    static final int INVOKESPECIAL = 183;
+    static final int INVOKESTATIC = 184;
+    static final int INVOKEINTERFACE = 185;
+    static final int NEW = 187;
+    static final int ANEWARRAY = 189;
+    static final int ATHROW = 191;
+    static final int CHECKCAST = 192;
+    static final int INSTANCEOF = 193;
+    static final int WIDE = 196;
+    static final int IFNULL = 198;
+    static final int IFNONNULL = 199;
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int MAJOR_1_8 = 52;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int SAME_FRAME = 0;
+    private static final int SAME_FRAME_MAX = 63;
+    private static final int SAME_LOCALS_1_STACK_ITEM_FRAME = 64;
+    private static final int SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED = 247;
+    private static final int SAME_FRAME_EXTENDED = 251;
+    private static final int APPEND_FRAME = 252;
+    private static final int ITEM_LONG = 4;
+    private static final int ITEM_OBJECT = 7;
+
+    /**
+     * entries of the constant pool, except the leading constant pool count
+     */
+    private final ByteVector pool = new ByteVector(2048);
+
+    /**
+     * indexes of constants in the constant pool, keyed by their tags and values
+     */
+    private final Map<String, Integer> constants = new HashMap<>();
+
+    private int poolCount;
+
+    private int accessFlags;
+
+    private int thisClass;
+
+    private int superClass;
+
+    private int[] interfaces;
+
+    private final ByteVector fields = new ByteVector(256);
+
+    private int fieldCount;
+
+    private final ByteVector methods = new ByteVector(8192);
+
+    private int methodCount;
+
+    private final ByteVector attributes = new ByteVector(64);
+
+    private int attributeCount;
+
+    // states of the method being written
+
+    private int codeAttributeStart;
+
+    private int codeStart;
+
+    private int stack;
+
+    private int maxStack;
+
+    private int maxLocals;
+
+    private String[] exceptions;
+
+    private final List<Jump> jumps = new ArrayList<>();
+
+    private final List<Handler> handlers = new ArrayList<>();
+
+    private final List<Frame> frames = new ArrayList<>();
+
+    /**
+     * Resets this writer to write a new class file, discarding everything written before.
+     *
+     * @param accessFlags access flags of the class
+     * @param className   binary name of the class
+     * @param superName   binary name of the super class
+     * @param interfaces  binary names of interfaces implemented by the class
+     * @return this writer
+     */
+    ClassFileWriter reset(int accessFlags, String className, String superName, String[] interfaces) {
+        pool.length = 0;
+        constants.clear();
+        poolCount = 1;
+        fields.length = 0;
+        fieldCount = 0;
+        methods.length = 0;
+        methodCount = 0;
+        attributes.length = 0;
+        attributeCount = 0;
+        this.accessFlags = accessFlags;
+        this.thisClass = classConstant(className);
+        this.superClass = classConstant(superName);
+        this.interfaces = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            this.interfaces[i] = classConstant(interfaces[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the class file written so far.
+     *
+     * @return bytes of the class file.
+     * @throws IllegalStateException if the constant pool has too many entries
+     */
+    byte[] toByteArray() {
+        if (poolCount > 65535) {
+            throw new IllegalStateException("too many constants: " + poolCount);
+        }
+        int size = 24 + pool.length + 2 * interfaces.length + fields.length + methods.length + attributes.length;
+        ByteVector out = new ByteVector(size);
+        out.putInt(MAGIC).putShort(0).putShort(MAJOR_1_8);
+        out.putShort(poolCount).putBytes(pool);
+        out.putShort(accessFlags).putShort(thisClass).putShort(superClass);
+        out.putShort(interfaces.length);
+        for (int anInterface : interfaces) {
+            out.putShort(anInterface);
+        }
+        out.putShort(fieldCount).putBytes(fields);
+        out.putShort(methodCount).putBytes(methods);
+        out.putShort(attributeCount).putBytes(attributes);
+        return out.data;
+    }
+
+    /**
+     * Adds a {@code SourceFile} attribute to the class.
+     *
+     * @param sourceFile name of the source file
+     */
+    void addSourceFile(String sourceFile) {
+        attributeCount++;
+        attributes.putShort(utf8("SourceFile")).putInt(2).putShort(utf8(sourceFile));
+    }
+
+    /**
+     * Adds a {@code RuntimeVisibleAnnotations} attribute to the class, holding a single annotation without elements.
+     *
+     * @param descriptor descriptor of the annotation type, such as {@code "Lfoo/Bar;"}
+     */
+    void addVisibleAnnotation(String descriptor) {
+        attributeCount++;
+        attributes.putShort(utf8("RuntimeVisibleAnnotations")).putInt(6).putShort(1).putShort(utf8(descriptor)).putShort(0);
+    }
+
+    /**
+     * Adds a field to the class.
+     *
+     * @param access     access flags of the field
+     * @param name       name of the field
+     * @param descriptor descriptor of the field
+     */
+    void addField(int access, String name, String descriptor) {
+        fieldCount++;
+        fields.putShort(access).putShort(utf8(name)).putShort(utf8(descriptor)).putShort(0);
+    }
+
+    /**
+     * Begins to write a method with a {@code Code} attribute. Instructions of the method are written by the
+     * following invocations, until {@link #endMethod()} is invoked.
+     *
+     * @param access     access flags of the method
+     * @param name       name of the method
+     * @param descriptor descriptor of the method
+     * @param exceptions binary names of exceptions declared by the method
+     */
+    void beginMethod(int access, String name, String descriptor, String... exceptions) {
+        methodCount++;
+        methods.putShort(access).putShort(utf8(name)).putShort(utf8(descriptor));
+        methods.putShort(exceptions.length == 0 ? 1 : 2);
+        methods.putShort(utf8("Code"));
+        codeAttributeStart = methods.length;
+        // attribute_length, max_stack, max_locals and code_length are patched when the method ends
+        methods.putInt(0).putShort(0).putShort(0).putInt(0);
+        codeStart = methods.length;
+        stack = 0;
+        maxStack = 0;
+        maxLocals = getArgumentsSize(descriptor) + (Modifier.isStatic(access) ? 0 : 1);
+        this.exceptions = exceptions;
+        jumps.clear();
+        handlers.clear();
+        frames.clear();
+    }
+
+    /**
+     * Ends the method being written, which resolves branch offsets, and writes the exception table, the
+     * {@code StackMapTable} attribute and the {@code Exceptions} attribute of the method.
+     *
+     * @throws IllegalStateException if the code of the method is too large, or a label is never marked
+     */
+    void endMethod() {
+        int codeLength = methods.length - codeStart;
+        if (codeLength > 65535) {
+            throw new IllegalStateException("code of method is too large: " + codeLength);
+        }
+        for (Jump jump : jumps) {
+            int offset = getPosition(jump.label) - jump.instruction;
+            if (jump.wide) {
+                methods.setInt(jump.offset, offset);
+            } else if (offset == (short) offset) {
+                methods.setShort(jump.offset, offset);
+            } else {
+                throw new IllegalStateException("branch offset is too large: " + offset);
+            }
+        }
+        methods.putShort(handlers.size());
+        for (Handler handler : handlers) {
+            methods.putShort(getPosition(handler.start)).putShort(getPosition(handler.end))
+                    .putShort(getPosition(handler.handler)).putShort(handler.type);
+        }
+        if (frames.isEmpty()) {
+            methods.putShort(0);
+        } else {
+            methods.putShort(1);
+            writeStackMapTable();
+        }
+        methods.setInt(codeAttributeStart, methods.length - codeAttributeStart - 4);
+        methods.setShort(codeAttributeStart + 4, maxStack);
+        methods.setShort(codeAttributeStart + 6, maxLocals);
+        methods.setInt(codeAttributeStart + 8, codeLength);
+        if (exceptions.length > 0) {
+            methods.putShort(utf8("Exceptions")).putInt(2 + 2 * exceptions.length).putShort(exceptions.length);
+            for (String exception : exceptions) {
+                methods.putShort(classConstant(exception));
+            }
+        }
+    }
+
+    /**
+     * Writes the {@code StackMapTable} attribute of the method being written, whose entries are sorted by their
+     * offsets. Repeated entries at the same offset are written only once.
+     */
+    private void writeStackMapTable() {
+        frames.sort((a, b) -> Integer.compare(getPosition(a.label), getPosition(b.label)));
+        methods.putShort(utf8(Constants.STACK_MAP_TABLE));
+        int start = methods.length;
+        methods.putInt(0).putShort(0);
+        int count = 0, pre = -1;
+        for (Frame frame : frames) {
+            int position = getPosition(frame.label);
+            if (position == pre) {
+                continue;
+            }
+            int offsetDelta = position - pre - 1;
+            if (frame.type == SAME_FRAME) {
+                if (offsetDelta <= SAME_FRAME_MAX) {
+                    methods.putByte(offsetDelta);
+                } else {
+                    methods.putByte(SAME_FRAME_EXTENDED).putShort(offsetDelta);
+                }
+            } else if (frame.type == SAME_LOCALS_1_STACK_ITEM_FRAME) {
+                if (offsetDelta <= SAME_FRAME_MAX) {
+                    methods.putByte(SAME_LOCALS_1_STACK_ITEM_FRAME + offsetDelta);
+                } else {
+                    methods.putByte(SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED).putShort(offsetDelta);
+                }
+                methods.putByte(ITEM_OBJECT).putShort(frame.classIndex);
+            } else {
+                methods.putByte(APPEND_FRAME).putShort(offsetDelta).putByte(ITEM_LONG);
+            }
+            count++;
+            pre = position;
+        }
+        methods.setInt(start, methods.length - start - 4);
+        methods.setShort(start + 4, count);
+    }
+
+    /**
+     * Adds a {@code same_frame} entry of {@code StackMapTable} at the specified label.
+     *
+     * @param label the label where the frame is
+     */
+    void addSameFrame(Label label) {
+        frames.add(new Frame(label, SAME_FRAME, 0));
+    }
+
+    /**
+     * Adds a {@code same_locals_1_stack_item_frame} entry of {@code StackMapTable} at the specified label, whose only
+     * stack item is an instance of the specified class.
+     *
+     * @param label     the label where the frame is
+     * @param className binary name of the class of the stack item
+     */
+    void addSameLocals1StackItemFrame(Label label, String className) {
+        frames.add(new Frame(label, SAME_LOCALS_1_STACK_ITEM_FRAME, classConstant(className)));
+    }
+
+    /**
+     * Adds an {@code append_frame} entry of {@code StackMapTable} at the specified label, which appends a local
+     * variable of type {@code long} to the frame.
+     *
+     * @param label the label where the frame is
+     */
+    void addAppendLongFrame(Label label) {
+        frames.add(new Frame(label, APPEND_FRAME, 0));
+    }
+
+    /**
+     * Adds an entry to the exception table of the method being written. The operand stack at the handler holds the
+     * exception only, so this method should be invoked before the handler is {@link #mark(Label) marked}.
+     *
+     * @param start     the label where the range of the handler starts, inclusive
+     * @param end       the label where the range of the handler ends, exclusive
+     * @param handler   the label of the handler
+     * @param className binary name of the exception class caught by the handler
+     */
+    void addHandler(Label start, Label end, Label handler, String className) {
+        handlers.add(new Handler(start, end, handler, classConstant(className)));
+        handler.stack = 1;
+    }
+
+    /**
+     * Marks the current position of the method being written with the specified label. If the label is the target
+     * of a branch written before, the depth of the operand stack is restored to the one at that branch.
+     *
+     * @param label the label to mark
+     */
+    void mark(Label label) {
+        label.position = methods.length - codeStart;
+        if (label.stack >= 0) {
+            stack = label.stack;
+        }
+    }
+
+    /**
+     * Writes an instruction without operands.
+     *
+     * @param opcode opcode of the instruction
+     */
+    void insn(int opcode) {
+        methods.putByte(opcode);
+        switch (opcode) {
+            case ACONST_NULL:
+            case DUP:
+                push(1);
+                break;
+            case AALOAD:
+            case POP:
+                stack -= 1;
+                break;
+            case AASTORE:
+                stack -= 3;
+                break;
+            case IRETURN:
+            case LRETURN:
+            case FRETURN:
+            case DRETURN:
+            case ARETURN:
+            case RETURN:
+            case ATHROW:
+                // the following instruction is not reachable from this one
+                stack = 0;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Writes an instruction to load or store a local variable, such as {@code aload} or {@code lstore}, using its
+     * short form if possible.
+     *
+     * @param opcode opcode of the instruction, from {@link #ILOAD} to {@link #ALOAD}, or from {@link #ISTORE} to
+     *               {@link #ASTORE}
+     * @param slot   slot of the local variable
+     */
+    void varInsn(int opcode, int slot) {
+        boolean load = opcode <= ALOAD;
+        int kind = opcode - (load ? ILOAD : ISTORE);
+        int size = kind == 1 || kind == 3 ? 2 : 1;
+        if (slot <= 3) {
+            // iload_0 = 26, istore_0 = 59, and the short forms of each kind take 4 opcodes
+            methods.putByte((load ? 26 : 59) + 4 * kind + slot);
+        } else if (slot <= 255) {
+            methods.putByte(opcode).putByte(slot);
+        } else {
+            methods.putByte(WIDE).putByte(opcode).putShort(slot);
+        }
+        if (load) {
+            push(size);
+        } else {
+            stack -= size;
+        }
+        maxLocals = Math.max(maxLocals, slot + size);
+    }
+
+    /**
+     * Writes an instruction to load a local variable of the specified type.
+     *
+     * @param type the type of the local variable
+     * @param slot slot of the local variable
+     */
+    void load(Class<?> type, int slot) {
+        varInsn(getLoadOpcode(type), slot);
+    }
+
+    /**
+     * Writes an instruction to return a value of the specified type from the method being written.
+     *
+     * @param type the return type, {@code void.class} if no value is returned
+     */
+    void returnValue(Class<?> type) {
+        insn(type == void.class ? RETURN : IRETURN + getLoadOpcode(type) - ILOAD);
+    }
+
+    /**
+     * Writes an instruction to push the specified integer onto the operand stack, using {@code iconst_<i>},
+     * {@code bipush}, {@code sipush} or {@code ldc} depending on the value.
+     *
+     * @param value the integer to push
+     */
+    void pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            methods.putByte(ICONST_0 + value);
+        } else if (value == (byte) value) {
+            methods.putByte(BIPUSH).putByte(value);
+        } else if (value == (short) value) {
+            methods.putByte(SIPUSH).putShort(value);
+        } else {
+            ldc(constant(CONSTANT_INTEGER, "I" + value, value));
+            return;
+        }
+        push(1);
+    }
+
+    /**
+     * Writes an instruction to push the specified string constant onto the operand stack.
+     *
+     * @param value the string to push, which takes at most 65535 bytes in modified UTF-8
+     */
+    void pushString(String value) {
+        Integer index = constants.get("S" + value);
+        if (index == null) {
+            int utf8 = utf8(value);
+            index = poolCount++;
+            pool.putByte(CONSTANT_STRING).putShort(utf8);
+            constants.put("S" + value, index);
+        }
+        ldc(index);
+    }
+
+    /**
+     * Writes an instruction to push the {@code Class} object of the specified class onto the operand stack.
+     *
+     * @param className binary name of the class
+     */
+    void pushClass(String className) {
+        ldc(classConstant(className));
+    }
+
+    /**
+     * Writes {@code ldc} or {@code ldc_w} for the constant of the specified index.
+     *
+     * @param index index of the constant in the constant pool
+     */
+    private void ldc(int index) {
+        if (index <= 255) {
+            methods.putByte(LDC).putByte(index);
+        } else {
+            methods.putByte(LDC_W).putShort(index);
+        }
+        push(1);
+    }
+
+    /**
+     * Writes an instruction to access a field.
+     *
+     * @param opcode     one of {@link #GETSTATIC}, {@link #PUTSTATIC}, {@link #GETFIELD} or {@link #PUTFIELD}
+     * @param owner      binary name of the class declaring the field
+     * @param name       name of the field
+     * @param descriptor descriptor of the field
+     */
+    void fieldInsn(int opcode, String owner, String name, String descriptor) {
+        methods.putByte(opcode).putShort(memberConstant(CONSTANT_FIELDREF, owner, name, descriptor));
+        int size = descriptor.charAt(0) == 'J' || descriptor.charAt(0) == 'D' ? 2 : 1;
+        if (opcode == GETSTATIC) {
+            push(size);
+        } else if (opcode == PUTSTATIC) {
+            stack -= size;
+        } else if (opcode == GETFIELD) {
+            push(size - 1);
+        } else {
+            stack -= size + 1;
+        }
+    }
+
+    /**
+     * Writes an instruction to invoke a method. Methods invoked via {@code invokeinterface} are referred to as
+     * interface methods, and others as methods of classes.
+     *
+     * @param opcode     one of {@link #INVOKEVIRTUAL}, {@link #INVOKESPECIAL}, {@link #INVOKESTATIC} or
+     *                   {@link #INVOKEINTERFACE}
+     * @param owner      binary name of the class or interface declaring the method
+     * @param name       name of the method
+     * @param descriptor descriptor of the method
+     */
+    void invoke(int opcode, String owner, String name, String descriptor) {
+        int argumentsSize = getArgumentsSize(descriptor);
+        if (opcode == INVOKEINTERFACE) {
+            methods.putByte(opcode).putShort(memberConstant(CONSTANT_INTERFACE_METHODREF, owner, name, descriptor))
+                    .putByte(argumentsSize + 1).putByte(0);
+        } else {
+            methods.putByte(opcode).putShort(memberConstant(CONSTANT_METHODREF, owner, name, descriptor));
+        }
+        stack -= opcode == INVOKESTATIC ? argumentsSize : argumentsSize + 1;
+        char returnType = descriptor.charAt(descriptor.indexOf(')') + 1);
+        push(returnType == 'V' ? 0 : returnType == 'J' || returnType == 'D' ? 2 : 1);
+    }
+
+    /**
+     * Writes an instruction which takes a class as its operand.
+     *
+     * @param opcode    one of {@link #NEW}, {@link #ANEWARRAY}, {@link #CHECKCAST} or {@link #INSTANCEOF}
+     * @param className binary name of the class, or the descriptor of an array class
+     */
+    void typeInsn(int opcode, String className) {
+        methods.putByte(opcode).putShort(classConstant(className));
+        if (opcode == NEW) {
+            push(1);
+        }
+    }
+
+    /**
+     * Writes a conditional branch instruction which pops a value from the operand stack.
+     *
+     * @param opcode one of {@link #IFEQ}, {@link #IFNULL} or {@link #IFNONNULL}
+     * @param label  target of the branch
+     */
+    void jump(int opcode, Label label) {
+        int instruction = methods.length - codeStart;
+        methods.putByte(opcode);
+        jumps.add(new Jump(instruction, methods.length, false, label));
+        methods.putShort(0);
+        stack -= 1;
+        label.stack = stack;
+    }
+
+    /**
+     * Writes a {@code tableswitch} instruction which pops the key from the operand stack.
+     *
+     * @param low          the lowest key
+     * @param defaultLabel target of the default branch
+     * @param labels       targets of keys from {@code low}, whose {@code null} elements are replaced by the default
+     *                     branch
+     */
+    void tableSwitch(int low, Label defaultLabel, Label... labels) {
+        int instruction = methods.length - codeStart;
+        methods.putByte(TABLESWITCH);
+        // operands of tableswitch are aligned to 4 bytes from the beginning of the code
+        while ((methods.length - codeStart) % 4 != 0) {
+            methods.putByte(0);
+        }
+        stack -= 1;
+        jumps.add(new Jump(instruction, methods.length, true, defaultLabel));
+        defaultLabel.stack = stack;
+        methods.putInt(0).putInt(low).putInt(low + labels.length - 1);
+        for (Label label : labels) {
+            Label target = label == null ? defaultLabel : label;
+            jumps.add(new Jump(instruction, methods.length, true, target));
+            target.stack = stack;
+            methods.putInt(0);
+        }
+    }
+
+    /**
+     * Adds the specified number of slots to the depth of the operand stack.
+     *
+     * @param size number of slots pushed onto the operand stack
+     */
+    private void push(int size) {
+        stack += size;
+        if (stack > maxStack) {
+            maxStack = stack;
+        }
+    }
+
+    /**
+     * Gets the offset of the specified label from the beginning of the code.
+     *
+     * @param label the label
+     * @return the offset of the label
+     * @throws IllegalStateException if the label has not been marked
+     */
+    private static int getPosition(Label label) {
+        if (label.position < 0) {
+            throw new IllegalStateException("label is not marked");
+        }
+        return label.position;
+    }
+
+    /**
+     * Gets the opcode to load a local variable of the specified type, from {@link #ILOAD} to {@link #ALOAD}.
+     *
+     * @param type the type of the local variable
+     * @return the opcode
+     */
+    private static int getLoadOpcode(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return ALOAD;
+        } else if (type == long.class) {
+            return LLOAD;
+        } else if (type == float.class) {
+            return FLOAD;
+        } else if (type == double.class) {
+            return DLOAD;
+        } else {
+            return ILOAD;
+        }
+    }
+
+    /**
+     * Gets the number of slots taken by arguments of a method with the specified descriptor, excluding {@code this}.
+     *
+     * @param descriptor descriptor of the method
+     * @return the number of slots
+     */
+    private static int getArgumentsSize(String descriptor) {
+        int size = 0;
+        for (int i = 1; descriptor.charAt(i) != ')'; i++) {
+            char c = descriptor.charAt(i);
+            boolean array = false;
+            while (c == '[') {
+                array = true;
+                c = descriptor.charAt(++i);
+            }
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            // an array is a reference whatever its component type is
+            size += !array && (c == 'J' || c == 'D') ? 2 : 1;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the index of the {@code CONSTANT_Utf8_info} entry of the specified string, which is added to the constant
+     * pool if absent.
+     *
+     * @param value the string
+     * @return the index of the constant
+     */
+    int utf8(String value) {
+        String key = "U" + value;
+        Integer index = constants.get(key);
+        if (index == null) {
+            index = poolCount++;
+            pool.putByte(CONSTANT_UTF8).putUtf8(value);
+            constants.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index of the {@code CONSTANT_Class_info} entry of the specified class, which is added to the constant
+     * pool if absent.
+     *
+     * @param className binary name of the class, or the descriptor of an array class
+     * @return the index of the constant
+     */
+    int classConstant(String className) {
+        String key = "C" + className;
+        Integer index = constants.get(key);
+        if (index == null) {
+            int name = utf8(className.replace('.', '/'));
+            index = poolCount++;
+            pool.putByte(CONSTANT_CLASS).putShort(name);
+            constants.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index of the {@code CONSTANT_Integer_info} entry, which is added to the constant pool if absent.
+     *
+     * @param tag   tag of the constant
+     * @param key   key of the constant in {@link #constants}
+     * @param value the integer
+     * @return the index of the constant
+     */
+    private int constant(int tag, String key, int value) {
+        Integer index = constants.get(key);
+        if (index == null) {
+            index = poolCount++;
+            pool.putByte(tag).putInt(value);
+            constants.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index of the {@code CONSTANT_Fieldref_info}, {@code CONSTANT_Methodref_info} or
+     * {@code CONSTANT_InterfaceMethodref_info} entry of the specified member, which is added to the constant pool if
+     * absent.
+     *
+     * @param tag        tag of the constant
+     * @param owner      binary name of the class declaring the member
+     * @param name       name of the member
+     * @param descriptor descriptor of the member
+     * @return the index of the constant
+     */
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+        String key = (char) tag + owner + '.' + name + descriptor;
+        Integer index = constants.get(key);
+        if (index == null) {
+            int ownerIndex = classConstant(owner);
+            String nameAndTypeKey = "N" + name + ' ' + descriptor;
+            Integer nameAndType = constants.get(nameAndTypeKey);
+            if (nameAndType == null) {
+                int nameIndex = utf8(name), descriptorIndex = utf8(descriptor);
+                nameAndType = poolCount++;
+                pool.putByte(CONSTANT_NAME_AND_TYPE).putShort(nameIndex).putShort(descriptorIndex);
+                constants.put(nameAndTypeKey, nameAndType);
+            }
+            index = poolCount++;
+            pool.putByte(tag).putShort(ownerIndex).putShort(nameAndType);
+            constants.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * A position in the code of the method being written, which is the target of branches, the boundary of exception
+     * handlers or the location of a stack map frame.
+     */
+    static final class Label {
+
+        /**
+         * offset from the beginning of the code, or {@code -1} if not marked yet
+         */
+        private int position = -1;
+
+        /**
+         * depth of the operand stack at this label, or {@code -1} if unknown
+         */
+        private int stack = -1;
+
+    }
+
+    /**
+     * A branch whose offset is patched when the method ends.
+     */
+    private static final class Jump {
+
+        private final int instruction;
+
+        private final int offset;
+
+        private final boolean wide;
+
+        private final Label label;
+
+        private Jump(int instruction, int offset, boolean wide, Label label) {
+            this.instruction = instruction;
+            this.offset = offset;
+            this.wide = wide;
+            this.label = label;
+        }
+
+    }
+
+    /**
+     * An entry of the exception table.
+     */
+    private static final class Handler {
+
+        private final Label start;
+
+        private final Label end;
+
+        private final Label handler;
+
+        private final int type;
+
+        private Handler(Label start, Label end, Label handler, int type) {
+            this.start = start;
+            this.end = end;
+            this.handler = handler;
+            this.type = type;
+        }
+
+    }
+
+    /**
+     * An entry of {@code StackMapTable}.
+     */
+    private static final class Frame {
+
+        private final Label label;
+
+        private final int type;
+
+        private final int classIndex;
+
+        private Frame(Label label, int type, int classIndex) {
+            this.label = label;
+            this.type = type;
+            this.classIndex = classIndex;
+        }
+
+    }
+
+    /**
+     * A growable array of bytes in big-endian order.
+     */
+    private static final class ByteVector {
+
+        private byte[] data;
+
+        private int length;
+
+        private ByteVector(int capacity) {
+            this.data = new byte[capacity];
+        }
+
+        private ByteVector putByte(int b) {
+            ensureCapacity(1);
+            data[length++] = (byte) b;
+            return this;
+        }
+
+        private ByteVector putShort(int s) {
+            ensureCapacity(2);
+            data[length++] = (byte) (s >>> 8);
+            data[length++] = (byte) s;
+            return this;
+        }
+
+        private ByteVector putInt(int i) {
+            ensureCapacity(4);
+            data[length++] = (byte) (i >>> 24);
+            data[length++] = (byte) (i >>> 16);
+            data[length++] = (byte) (i >>> 8);
+            data[length++] = (byte) i;
+            return this;
+        }
+
+        private ByteVector putBytes(ByteVector vector) {
+            ensureCapacity(vector.length);
+            System.arraycopy(vector.data, 0, data, length, vector.length);
+            length += vector.length;
+            return this;
+        }
+
+        /**
+         * Puts the length and the bytes of the specified string in modified UTF-8.
+         */
+        private ByteVector putUtf8(String s) {
+            int charLength = s.length();
+            int byteLength = 0;
+            for (int i = 0; i < charLength; i++) {
+                char c = s.charAt(i);
+                byteLength += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+            }
+            if (byteLength > 65535) {
+                throw new IllegalArgumentException("UTF8 string too large: " + byteLength);
+            }
+            ensureCapacity(2 + byteLength);
+            data[length++] = (byte) (byteLength >>> 8);
+            data[length++] = (byte) byteLength;
+            for (int i = 0; i < charLength; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x0001 && c <= 0x007F) {
+                    data[length++] = (byte) c;
+                } else if (c <= 0x07FF) {
+                    data[length++] = (byte) (0xC0 | c >> 6 & 0x1F);
+                    data[length++] = (byte) (0x80 | c & 0x3F);
+                } else {
+                    data[length++] = (byte) (0xE0 | c >> 12 & 0xF);
+                    data[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    data[length++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            return this;
+        }
+
+        private void setShort(int position, int s) {
+            data[position] = (byte) (s >>> 8);
+            data[position + 1] = (byte) s;
+        }
+
+        private void setInt(int position, int i) {
+            data[position] = (byte) (i >>> 24);
+            data[position + 1] = (byte) (i >>> 16);
+            data[position + 2] = (byte) (i >>> 8);
+            data[position + 3] = (byte) i;
+        }
+
+        private void ensureCapacity(int size) {
+            if (length + size > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length << 1, length + size));
+            }
+        }
+
+    }
+
+}
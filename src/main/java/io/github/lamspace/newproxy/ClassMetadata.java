@@ -0,0 +1,256 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClassMetadata} caches reflection metadata of a type which is needed to generate proxy classes and resolve
+ * {@link MethodDecorator} instances, so that it is computed once per type and shared by all proxy classes implementing
+ * or extending the type, instead of once per proxy class.<br/>
+ * Where metadata is cached depends on the class loader of the type, so that caching never prevents a class loader from
+ * being unloaded. A value of {@link ClassValue} stays reachable from its type and references the class loader of
+ * {@link NewProxy}, hence metadata is:
+ * <ul>
+ *     <li>held by a {@link ClassValue} if the type is defined by the class loader of {@link NewProxy} or one of its
+ *     descendants, which can not outlive the class loader of {@link NewProxy} anyway;</li>
+ *     <li>held by a map of {@link ClassMetadata} if the type is defined by an ancestor of the class loader of
+ *     {@link NewProxy}, including the bootstrap class loader, which outlive the class loader of {@link NewProxy};</li>
+ *     <li>not cached at all if the type is defined by any other class loader.</li>
+ * </ul>
+ * Metadata of a type consists of two parts, both of which are computed on first access:
+ * <ul>
+ *     <li>methods of the type which may be overridden by proxy classes, see {@link #getProxyableMethods()};</li>
+ *     <li>methods declared by the type, with their descriptors and signatures.</li>
+ * </ul>
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ProxyGenerator
+ * @see MethodDecorator
+ * @since 1.0.0
+ */
+final class ClassMetadata {
+
+    /**
+     * class loader of {@link NewProxy}
+     */
+    private static final ClassLoader LOADER = ClassMetadata.class.getClassLoader();
+
+    /**
+     * metadata of types defined by the class loader of {@link NewProxy} or one of its descendants
+     */
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type, true);
+        }
+    };
+
+    /**
+     * metadata of types defined by ancestors of the class loader of {@link NewProxy}
+     */
+    private static final Map<Class<?>, ClassMetadata> SHARED_METADATA = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+
+    /**
+     * whether this metadata is cached or not, methods declared by the type are not indexed if not
+     */
+    private final boolean cached;
+
+    /**
+     * methods which may be overridden by proxy classes, which are computed on first access
+     */
+    private volatile List<Method> proxyableMethods;
+
+    /**
+     * methods declared by the type, which are computed on first access
+     */
+    private volatile DeclaredMethods declaredMethods;
+
+    private ClassMetadata(Class<?> type, boolean cached) {
+        this.type = type;
+        this.cached = cached;
+    }
+
+    /**
+     * Gets the metadata of the specified type.
+     *
+     * @param type the type
+     * @return the metadata of the type
+     */
+    static ClassMetadata of(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (LOADER == null || loader == LOADER || loader != null && NewProxy.isAncestor(LOADER, loader)) {
+            return METADATA.get(type);
+        }
+        if (loader == null || NewProxy.isAncestor(loader, LOADER)) {
+            return SHARED_METADATA.computeIfAbsent(type, aClass -> new ClassMetadata(aClass, true));
+        }
+        return new ClassMetadata(type, false);
+    }
+
+    /**
+     * Gets public methods of the type which may be overridden by proxy classes, in order of {@link Class#getMethods()}.
+     * All public methods of an interface are included, while static methods, final methods and methods declared by
+     * {@link Object} are excluded for a class.
+     *
+     * @return an unmodifiable list of methods
+     */
+    List<Method> getProxyableMethods() {
+        // racy single-check is fine since the list is immutable and computed deterministically
+        List<Method> methods = proxyableMethods;
+        if (methods == null) {
+            if (type.isInterface()) {
+                methods = Arrays.asList(type.getMethods());
+            } else {
+                methods = new ArrayList<>();
+                for (Method method : type.getMethods()) {
+                    int modifiers = method.getModifiers();
+                    if (method.getDeclaringClass() != Object.class && !Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers)) {
+                        methods.add(method);
+                    }
+                }
+            }
+            proxyableMethods = methods = Collections.unmodifiableList(methods);
+        }
+        return methods;
+    }
+
+    /**
+     * Gets the descriptor of the specified method declared by the type, such as {@code "(Ljava/lang/String;I)V"}.
+     *
+     * @param method {@link Method} instance declared by the type
+     * @return the descriptor of the method
+     */
+    String getDescriptor(Method method) {
+        if (!cached) {
+            return describe(method);
+        }
+        MethodMetadata metadata = getDeclaredMethods().byMethod.get(method);
+        return metadata == null ? describe(method) : metadata.descriptor;
+    }
+
+    /**
+     * Gets the signature of the specified method declared by the type, see
+     * {@link ProxyGenerator#getMethodSignature(Method)}.
+     *
+     * @param method {@link Method} instance declared by the type
+     * @return the signature of the method
+     */
+    String getSignature(Method method) {
+        if (!cached) {
+            return sign(method);
+        }
+        MethodMetadata metadata = getDeclaredMethods().byMethod.get(method);
+        if (metadata == null) {
+            return sign(method);
+        }
+        String signature = metadata.signature;
+        if (signature == null) {
+            metadata.signature = signature = sign(method);
+        }
+        return signature;
+    }
+
+    /**
+     * Finds the method declared by the type with the specified name and descriptor.
+     *
+     * @param nameAndDescriptor name of the method followed by its descriptor, such as {@code "foo(I)V"}
+     * @return the declared method, or {@code null} if there is no such method
+     */
+    Method getDeclaredMethod(String nameAndDescriptor) {
+        MethodMetadata metadata = getDeclaredMethods().byNameAndDescriptor.get(nameAndDescriptor);
+        return metadata == null ? null : metadata.method;
+    }
+
+    private DeclaredMethods getDeclaredMethods() {
+        // racy single-check is fine since declared methods are immutable and computed deterministically
+        DeclaredMethods methods = declaredMethods;
+        if (methods == null) {
+            declaredMethods = methods = new DeclaredMethods(AccessController.doPrivileged((PrivilegedAction<Method[]>) type::getDeclaredMethods));
+        }
+        return methods;
+    }
+
+    private static String describe(Method method) {
+        StringBuilder builder = new StringBuilder("(");
+        for (Class<?> type : method.getParameterTypes()) {
+            MethodDecorator.appendDescriptor(builder, type);
+        }
+        return MethodDecorator.appendDescriptor(builder.append(')'), method.getReturnType()).toString();
+    }
+
+    private static String sign(Method method) {
+        return method.getName() + ";" + method.getReturnType() + ";" + Arrays.toString(method.getParameters());
+    }
+
+    /**
+     * Methods declared by a type, indexed by {@link Method} instances and by names followed by descriptors.
+     */
+    private static final class DeclaredMethods {
+
+        private final Map<Method, MethodMetadata> byMethod;
+
+        private final Map<String, MethodMetadata> byNameAndDescriptor;
+
+        DeclaredMethods(Method[] methods) {
+            Map<Method, MethodMetadata> byMethod = new HashMap<>(methods.length * 2);
+            Map<String, MethodMetadata> byNameAndDescriptor = new HashMap<>(methods.length * 2);
+            for (Method method : methods) {
+                MethodMetadata metadata = new MethodMetadata(method, describe(method));
+                byMethod.put(method, metadata);
+                byNameAndDescriptor.put(method.getName() + metadata.descriptor, metadata);
+            }
+            this.byMethod = byMethod;
+            this.byNameAndDescriptor = byNameAndDescriptor;
+        }
+
+    }
+
+    /**
+     * Metadata of a declared method, whose signature is computed on first access since it is only used to generate
+     * proxy classes.
+     */
+    private static final class MethodMetadata {
+
+        private final Method method;
+
+        private final String descriptor;
+
+        private volatile String signature;
+
+        MethodMetadata(Method method, String descriptor) {
+            this.method = method;
+            this.descriptor = descriptor;
+        }
+
+    }
+
+}
@@ -16,9 +16,10 @@
 
 package io.github.lamspace.newproxy;
 
-import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Constants used when create dynamic class and instances in {@link ProxyGenerator}.
@@ -37,11 +38,46 @@ public final class Constants {
      */
     public static final String SIGNATURE_METHOD_DECORATOR = "Lio/github/lamspace/newproxy/MethodDecorator;";
 
+    /**
+     * signature for {@link MethodDecorator} array type variable in String format
+     */
+    public static final String SIGNATURE_METHOD_DECORATOR_ARRAY = "[Lio/github/lamspace/newproxy/MethodDecorator;";
+
+    /**
+     * signature for {@link MethodMetrics} type variable in String format
+     */
+    public static final String SIGNATURE_METHOD_METRICS = "Lio/github/lamspace/newproxy/MethodMetrics;";
+
     /**
      * signature for {@link Class} type instance variable in String format
      */
     public static final String SIGNATURE_CLASS = "Ljava/lang/Class;";
 
+    /**
+     * signature for {@link Object} type variable in String format
+     */
+    public static final String SIGNATURE_OBJECT = "Ljava/lang/Object;";
+
+    /**
+     * signature for {@link Object} array type variable in String format
+     */
+    public static final String SIGNATURE_OBJECT_ARRAY = "[Ljava/lang/Object;";
+
+    /**
+     * signature for {@link String} type variable in String format
+     */
+    public static final String SIGNATURE_STRING = "Ljava/lang/String;";
+
+    /**
+     * signature for {@link Throwable} type variable in String format
+     */
+    public static final String SIGNATURE_THROWABLE = "Ljava/lang/Throwable;";
+
+    /**
+     * signature for annotation {@link Proxied} in String format
+     */
+    public static final String SIGNATURE_PROXIED = "Lio/github/lamspace/newproxy/Proxied;";
+
     /**
      * signature for {@link InvocationInterceptor} type instance variable in String format
      */
@@ -67,6 +103,16 @@ public final class Constants {
      */
     public static final String CLASS_METHOD_DECORATOR = MethodDecorator.class.getName();
 
+    /**
+     * full-qualified class name for class {@link MethodMetrics}
+     */
+    public static final String CLASS_METHOD_METRICS = MethodMetrics.class.getName();
+
+    /**
+     * full-qualified class name for class {@link System}
+     */
+    public static final String CLASS_SYSTEM = System.class.getName();
+
     /**
      * full-qualified class name for class {@link NoSuchMethodError}
      */
@@ -87,6 +133,16 @@ public final class Constants {
      */
     public static final String Class_CLASS_NOT_FOUND_EXCEPTION = ClassNotFoundException.class.getName();
 
+    /**
+     * full-qualified class name for class {@link IllegalAccessException}
+     */
+    public static final String CLASS_ILLEGAL_ACCESS_EXCEPTION = IllegalAccessException.class.getName();
+
+    /**
+     * full-qualified class name for class {@link IllegalAccessError}
+     */
+    public static final String CLASS_ILLEGAL_ACCESS_ERROR = IllegalAccessError.class.getName();
+
     /**
      * full-qualified class name for class {@link UndeclaredThrowableException}
      */
@@ -102,6 +158,31 @@ public final class Constants {
      */
     public static final String CLASS_INVOCATION_DISPATCHER = InvocationDispatcher.class.getName();
 
+    /**
+     * full-qualified class name for class {@link InterceptorAccessor}
+     */
+    public static final String CLASS_INTERCEPTOR_ACCESSOR = InterceptorAccessor.class.getName();
+
+    /**
+     * full-qualified class name for class {@link PrimitiveInvocationInterceptor}
+     */
+    public static final String CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR = PrimitiveInvocationInterceptor.class.getName();
+
+    /**
+     * full-qualified class name for class {@link AsyncInvocationInterceptor}
+     */
+    public static final String CLASS_ASYNC_INVOCATION_INTERCEPTOR = AsyncInvocationInterceptor.class.getName();
+
+    /**
+     * full-qualified class name for class {@link CompletionStage}
+     */
+    public static final String CLASS_COMPLETION_STAGE = CompletionStage.class.getName();
+
+    /**
+     * full-qualified class name for class {@link CompletableFuture}
+     */
+    public static final String CLASS_COMPLETABLE_FUTURE = CompletableFuture.class.getName();
+
     /**
      * method name for {@link Exception#getMessage()} in string format
      */
@@ -123,25 +204,128 @@ public final class Constants {
     public static final String METHOD_INVOKE_EXACT = "invokeExact";
 
     /**
-     * method name for {@link InvocationInterceptor#intercept(Object, MethodDecorator, Object[])} in string format
+     * method name for {@link InvocationInterceptor#intercept(Object, MethodDecorator, Object[])} in string format,
+     * which is also the prefix of arity-specialized intercept methods
      */
     public static final String METHOD_INTERCEPT = "intercept";
 
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptInt(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_INT = "interceptInt";
+
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptLong(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_LONG = "interceptLong";
+
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptFloat(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_FLOAT = "interceptFloat";
+
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptDouble(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_DOUBLE = "interceptDouble";
+
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptBoolean(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_BOOLEAN = "interceptBoolean";
+
+    /**
+     * method name for {@link PrimitiveInvocationInterceptor#interceptVoid(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_VOID = "interceptVoid";
+
+    /**
+     * method name for {@link AsyncInvocationInterceptor#interceptAsync(Object, MethodDecorator, Object[])} in string format
+     */
+    public static final String METHOD_INTERCEPT_ASYNC = "interceptAsync";
+
+    /**
+     * method name for {@link CompletionStage#toCompletableFuture()} in string format
+     */
+    public static final String METHOD_TO_COMPLETABLE_FUTURE = "toCompletableFuture";
+
+    /**
+     * method name for {@link InvocationDispatcher#dispatch(Object, MethodDecorator, Object...)} in string format, which
+     * is also the prefix of arity-specialized dispatch methods
+     */
+    public static final String METHOD_DISPATCH = "dispatch";
+
+    /**
+     * method name for {@link String#concat(String)} in string format
+     */
+    public static final String METHOD_CONCAT = "concat";
+
     /**
      * method name for {@link Class#forName(String)} in string format
      */
     public static final String METHOD_FOR_NAME = "forName";
 
     /**
-     * method name for {@link Class#getMethod(String, Class[])} in string format
+     * method name for {@link Class#getMethod(String, Class[])} and {@link MethodDecorator#getMethod()} in string format
      */
     public static final String METHOD_GET_METHOD = "getMethod";
 
     /**
-     * method name for {@link MethodDecorator#of(Method)} in string format
+     * method name for {@link MethodDecorator#of(Method, int)} in string format
      */
     public static final String METHOD_OF = "of";
 
+    /**
+     * method name for {@link MethodDecorator#getIndex()} in string format
+     */
+    public static final String METHOD_GET_INDEX = "getIndex";
+
+    /**
+     * method name for {@link MethodDecorator#getStage()} in string format
+     */
+    public static final String METHOD_GET_STAGE = "getStage";
+
+    /**
+     * method name for {@link InterceptorAccessor#getInvocationInterceptor()} in string format
+     */
+    public static final String METHOD_GET_INVOCATION_INTERCEPTOR = "getInvocationInterceptor";
+
+    /**
+     * method name for {@link MethodDecorator#getNext()} in string format
+     */
+    public static final String METHOD_GET_NEXT = "getNext";
+
+    /**
+     * name of static method in generated proxy class which returns the {@link MethodDecorator} instance of the
+     * specified index, resolving it on first access
+     */
+    public static final String METHOD_GET_METHOD_DECORATOR = "getMethodDecorator";
+
+    /**
+     * method name for {@link MethodDecorator#resolve(MethodDecorator[], Class, String, int, int)} in string format
+     */
+    public static final String METHOD_RESOLVE = "resolve";
+
+    /**
+     * method name for {@link MethodMetrics#register(Class, String)} in string format
+     */
+    public static final String METHOD_REGISTER = "register";
+
+    /**
+     * method name for {@link MethodMetrics#record(int, long)} in string format
+     */
+    public static final String METHOD_RECORD = "record";
+
+    /**
+     * method name for {@link MethodMetrics#recordError(int, long)} in string format
+     */
+    public static final String METHOD_RECORD_ERROR = "recordError";
+
+    /**
+     * method name for {@link System#nanoTime()} in string format
+     */
+    public static final String METHOD_NANO_TIME = "nanoTime";
+
     /**
      * name of static method for all wrapper class for primitive types
      */
@@ -163,19 +347,14 @@ public final class Constants {
     public static final String METHOD_TO_STRING = "toString";
 
     /**
-     * name of {@link java.lang.invoke.MethodType#methodType(Class) methodType} method
-     */
-    public static final String METHOD_METHOD_TYPE = "methodType";
-
-    /**
-     * name of {@link java.lang.invoke.MethodHandles.Lookup#findVirtual(Class, String, MethodType)} method
+     * name of {@link java.lang.invoke.MethodHandles#lookup()} method
      */
-    public static final String METHOD_FIND_VIRTUAL = "findVirtual";
+    public static final String METHOD_LOOKUP = "lookup";
 
     /**
-     * name of {@link java.lang.invoke.MethodHandle#bindTo(Object)} method
+     * name of {@link java.lang.invoke.MethodHandles.Lookup#unreflect(Method)} method
      */
-    public static final String METHOD_BIND_TO = "bindTo";
+    public static final String METHOD_UNREFLECT = "unreflect";
 
     /**
      * name of {@link Boolean#booleanValue()} method
@@ -222,11 +401,34 @@ public final class Constants {
      */
     public static final String METHOD_DO_INVOKE = "doInvoke";
 
+    /**
+     * maximum number of arguments of arity-specialized intercept methods and dispatch methods, such as
+     * {@link InvocationInterceptor#intercept6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object)}
+     */
+    public static final int MAX_ARITY = 6;
+
     /**
      * field name in generated dynamic proxy class which represents an {@link InvocationInterceptor} instance
      */
     public static final String FIELD_INTERCEPTOR = "interceptor";
 
+    /**
+     * static field name in generated dynamic proxy class which holds {@link MethodDecorator} instances indexed by
+     * indexes of methods, which are resolved lazily
+     */
+    public static final String FIELD_METHOD_DECORATORS = "methodDecorators";
+
+    /**
+     * static field name in generated dynamic proxy class which holds the {@link MethodMetrics} instance, if invocation
+     * metrics are enabled
+     */
+    public static final String FIELD_METHOD_METRICS = "methodMetrics";
+
+    /**
+     * field name in generated delegating proxy class which represents the target to dispatch method invocations to
+     */
+    public static final String FIELD_TARGET = "target";
+
     /**
      * static field name for all wrapper class for primitive types
      */
@@ -257,4 +459,66 @@ public final class Constants {
      */
     public static final String STRING_GENERATE_DO_INVOKE_METHOD = "io.github.lamspace.newproxy.doInvoke";
 
+    /**
+     * flag to indicate whether generated proxy classes record invocation metrics via {@link MethodMetrics} or not
+     */
+    public static final String STRING_METRICS_FLAG = "io.github.lamspace.newproxy.metrics";
+
+    /**
+     * backend to emit class files of proxy classes, which is {@code streaming} by default
+     */
+    public static final String STRING_BACKEND = "io.github.lamspace.newproxy.backend";
+
+    /**
+     * value of {@value #STRING_BACKEND} to emit class files of proxy classes via {@code BCEL}
+     */
+    public static final String STRING_BACKEND_BCEL = "bcel";
+
+    /**
+     * flag to indicate whether define proxy classes as hidden classes or not on JDK 15 and later
+     */
+    public static final String STRING_HIDDEN_CLASS_FLAG = "io.github.lamspace.newproxy.hidden";
+
+    /**
+     * directory of persistent cache of generated proxy classes, which is disabled if not specified
+     */
+    public static final String STRING_CACHE_DIR = "io.github.lamspace.newproxy.cache.dir";
+
+    /**
+     * flag to indicate whether register {@link NewProxyStats} in the platform MBean server when it is initialized or
+     * not, which is {@code false} by default
+     */
+    public static final String STRING_JMX_FLAG = "io.github.lamspace.newproxy.jmx";
+
+    /**
+     * object name of {@link NewProxyStats} registered in the platform MBean server
+     */
+    public static final String JMX_OBJECT_NAME = "io.github.lamspace.newproxy:type=NewProxyStats";
+
+    /**
+     * version of {@link ProxyGenerator}, which should be changed whenever generated proxy classes change, so that
+     * proxy classes generated by another version are not reused
+     */
+    public static final String GENERATOR_VERSION = "1.0.7";
+
+    /**
+     * resource name of index files of proxy classes pregenerated at build time
+     */
+    public static final String PREGENERATED_INDEX = "META-INF/newproxy/proxies.index";
+
+    /**
+     * key of the version of {@link ProxyGenerator} in index files of pregenerated proxy classes
+     */
+    public static final String PREGENERATED_INDEX_VERSION = "@version";
+
+    /**
+     * resource directory of proxy classes pregenerated at build time
+     */
+    public static final String PREGENERATED_CLASSES = "META-INF/newproxy/classes/";
+
+    /**
+     * prefix of simple names of pregenerated proxy classes
+     */
+    public static final String PREGENERATED_CLASS_NAME_PREFIX = "$NewProxy$";
+
 }
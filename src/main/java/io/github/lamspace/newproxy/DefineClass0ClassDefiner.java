@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link ClassDefiner} which defines proxy classes via the private native method
+ * {@code java.lang.reflect.Proxy#defineClass0(ClassLoader, String, byte[], int, int)}, which is available on JDK 8
+ * and accessible until strong encapsulation of JDK internals.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ClassDefiner
+ * @since 1.0.0
+ */
+final class DefineClass0ClassDefiner implements ClassDefiner {
+
+    /**
+     * a method to define class via {@code Proxy#defineClass0(ClassLoader, String, byte[], int, int)}
+     */
+    private final Method defineClass;
+
+    private DefineClass0ClassDefiner(Method defineClass) {
+        this.defineClass = defineClass;
+    }
+
+    /**
+     * Acquires a Method object in Proxy with the name "defineClass0" to define Class from generated bytes.
+     *
+     * @return a {@link DefineClass0ClassDefiner} instance, or {@code null} if the method does not exist or can not
+     * be accessed.
+     */
+    static DefineClass0ClassDefiner create() {
+        for (Method method : Proxy.class.getDeclaredMethods()) {
+            int modifiers = method.getModifiers();
+            if ("defineClass0".equals(method.getName()) &&
+                    Modifier.isNative(modifiers) && Modifier.isPrivate(modifiers) && Modifier.isStatic(modifiers)) {
+                try {
+                    method.setAccessible(true);
+                } catch (RuntimeException e) {
+                    // java.lang.reflect.InaccessibleObjectException since JDK 9
+                    return null;
+                }
+                return new DefineClass0ClassDefiner(method);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Class<?> defineClass(ClassLoader classLoader, String name, byte[] bytes, Class<?>[] classes) {
+        try {
+            return (Class<?>) defineClass.invoke(Proxy.class, classLoader, name, bytes, 0, bytes.length);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("defineClass0 in class Proxy can not be accessed");
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("invocation on defineClass0 in class Proxy fails");
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.lamspace.newproxy.Constants.STRING_GENERATE_DO_INVOKE_METHOD;
+
+/**
+ * {@link GenerationContext} is the immutable specification of a proxy class to generate, which is passed explicitly
+ * from {@link NewProxy} through {@link ProxyGenerator} to {@link ProxyBytecodeBackend}, so that generation of proxy
+ * classes is reentrant and may run in parallel. A context created by {@link NewProxy} only holds what identifies a
+ * proxy class, which is also the parameter to look up the cache of proxy classes; {@link ProxyGenerator} derives a
+ * context bound to the proxy class being generated via
+ * {@link #bind(String, Map, List)}, holding its name and its methods additionally.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @see ProxyGenerator
+ * @since 1.0.0
+ */
+final class GenerationContext {
+
+    /**
+     * classes to implement or extend, in canonical order
+     */
+    private final Class<?>[] classes;
+
+    /**
+     * argument types of the proxy class's constructor
+     */
+    private final Class<?>[] argTypes;
+
+    /**
+     * the filter to select methods to be intercepted, may be {@code null}
+     */
+    private final MethodFilter filter;
+
+    /**
+     * number of interceptors in the chain of the proxy class
+     */
+    private final int chainLength;
+
+    /**
+     * flag to indicate whether to generate a delegating proxy class which holds a target
+     */
+    private final boolean delegating;
+
+    /**
+     * name of the proxy class being generated, or {@code null} if this context is not bound yet
+     */
+    private final String proxyClassName;
+
+    /**
+     * methods of the proxy class which are intercepted, mapping to their indexes in order of registration
+     */
+    private final Map<Method, Integer> methods;
+
+    /**
+     * methods of delegating proxy class which are delegated to the target directly without interception
+     */
+    private final List<Method> delegatedMethods;
+
+    /**
+     * flag to indicate whether to generate {@code doInvoke...} methods for method invocation of methods inherit from
+     * interfaces
+     */
+    private final boolean generateDoInvoke;
+
+    /**
+     * flag to indicate whether generated methods record invocation metrics via {@link MethodMetrics}
+     */
+    private final boolean generateMetrics;
+
+    /**
+     * Creates a context for the specified proxy class.
+     *
+     * @param classes     classes to implement or extend, in canonical order
+     * @param argTypes    argument types of the proxy class's constructor, may be {@code null}
+     * @param filter      the filter to select methods to be intercepted, may be {@code null}
+     * @param chainLength number of interceptors in the chain of the proxy class
+     * @param delegating  whether the proxy class is a delegating proxy class holding a target
+     */
+    GenerationContext(Class<?>[] classes, Class<?>[] argTypes, MethodFilter filter, int chainLength, boolean delegating) {
+        this.classes = classes;
+        this.argTypes = argTypes == null ? new Class[0] : argTypes;
+        this.filter = filter;
+        this.chainLength = chainLength;
+        this.delegating = delegating;
+        this.proxyClassName = null;
+        this.methods = Collections.emptyMap();
+        this.delegatedMethods = Collections.emptyList();
+        this.generateDoInvoke = false;
+        this.generateMetrics = false;
+    }
+
+    private GenerationContext(GenerationContext context, String proxyClassName, Map<Method, Integer> methods, List<Method> delegatedMethods) {
+        this.classes = context.classes;
+        this.argTypes = context.argTypes;
+        this.filter = context.filter;
+        this.chainLength = context.chainLength;
+        this.delegating = context.delegating;
+        this.proxyClassName = proxyClassName;
+        this.methods = Collections.unmodifiableMap(methods);
+        this.delegatedMethods = Collections.unmodifiableList(delegatedMethods);
+        this.generateDoInvoke = System.getProperty(STRING_GENERATE_DO_INVOKE_METHOD, "true").equalsIgnoreCase("true");
+        this.generateMetrics = MethodMetrics.isEnabled();
+    }
+
+    /**
+     * Returns a context bound to the proxy class being generated, with flags read from system properties at this
+     * moment.
+     *
+     * @param proxyClassName   name of the proxy class being generated
+     * @param methods          methods which are intercepted, mapping to their indexes in order of registration
+     * @param delegatedMethods methods which are delegated to the target directly
+     * @return a bound context.
+     */
+    GenerationContext bind(String proxyClassName, Map<Method, Integer> methods, List<Method> delegatedMethods) {
+        return new GenerationContext(this, proxyClassName, methods, delegatedMethods);
+    }
+
+    Class<?>[] getClasses() {
+        return classes;
+    }
+
+    Class<?>[] getArgTypes() {
+        return argTypes;
+    }
+
+    MethodFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Gets the number of interceptors in the chain of the proxy class.
+     *
+     * @return number of interceptors, which is {@code 1} if the proxy class has no interceptor chain
+     */
+    int getChainLength() {
+        return chainLength;
+    }
+
+    /**
+     * Checks whether the proxy class is a delegating proxy class, which holds a target object to dispatch method
+     * invocations to.
+     *
+     * @return true if the proxy class is a delegating proxy class, otherwise false.
+     */
+    boolean isDelegating() {
+        return delegating;
+    }
+
+    /**
+     * Checks whether the proxy class is customized by a filter, an interceptor chain or a target, which neither
+     * pregenerated proxy classes nor the persistent cache are aware of.
+     *
+     * @return true if the proxy class is customized, otherwise false.
+     */
+    boolean isCustomized() {
+        return filter != null || chainLength > 1 || delegating;
+    }
+
+    /**
+     * Gets the name of the proxy class being generated.
+     *
+     * @return the proxy class name
+     */
+    String getProxyClassName() {
+        return proxyClassName;
+    }
+
+    /**
+     * Gets methods of the proxy class being generated which are intercepted, mapping to their indexes.
+     *
+     * @return methods with their indexes, in order of registration
+     */
+    Map<Method, Integer> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Gets methods of the delegating proxy class being generated which are delegated to the target directly.
+     *
+     * @return delegated methods
+     */
+    List<Method> getDelegatedMethods() {
+        return delegatedMethods;
+    }
+
+    /**
+     * Checks whether methods of the proxy class being generated record invocation metrics via {@link MethodMetrics}.
+     *
+     * @return true if invocation metrics are recorded, otherwise false.
+     */
+    boolean isGenerateMetrics() {
+        return generateMetrics;
+    }
+
+    /**
+     * Gets the table of methods of the proxy class, in which each line represents the method of the same index.
+     *
+     * @return the table of methods
+     * @see MethodDecorator#resolve(MethodDecorator[], Class, String, int, int)
+     */
+    String getMethodTable() {
+        String[] entries = new String[Collections.max(methods.values()) + 1];
+        Arrays.fill(entries, "");
+        methods.forEach((method, index) -> entries[index] = MethodDecorator.getTableEntry(method));
+        return String.join("\n", entries);
+    }
+
+    /**
+     * Checks whether method invocation for the specified method is dispatched via a {@code doInvoke...} method in a
+     * proxy class, which is true for methods inherit from interfaces.
+     *
+     * @param method {@link Method} instance
+     * @return true if method invocation is dispatched via a {@code doInvoke...} method, otherwise false.
+     */
+    boolean isDoInvokeMethod(Method method) {
+        return method.getDeclaringClass().isInterface() && generateDoInvoke && !delegating;
+    }
+
+    /**
+     * Checks whether method invocation for the specified method is dispatched to the target of delegating proxy class
+     * via {@code invokeinterface} directly, which is true for methods inherit from interfaces.
+     *
+     * @param method {@link Method} instance
+     * @return true if method invocation is dispatched to the target directly, otherwise false.
+     */
+    boolean isDelegatedMethod(Method method) {
+        return method.getDeclaringClass().isInterface() && delegating;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+/**
+ * {@link InterceptorAccessor} extends {@link InvocationDispatcher} with an accessor of the interceptor, and is
+ * implemented by every proxy class generated by {@link ProxyGenerator} instead of {@link InvocationDispatcher}
+ * directly, so that {@link NewProxy#getInvocationInterceptor(Object)} acquires the interceptor of a proxy instance
+ * via a plain interface call, without reflection.<br/>
+ * This interface is implemented by generated proxy classes automatically and not intended to be implemented or
+ * invoked directly, use {@link NewProxy#getInvocationInterceptor(Object)} instead.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy#getInvocationInterceptor(Object)
+ * @since 1.0.0
+ */
+public interface InterceptorAccessor extends InvocationDispatcher {
+
+    /**
+     * Returns the interceptor of this proxy instance, which is the first one of the chain if the proxy class has an
+     * interceptor chain.
+     *
+     * @return the interceptor of this proxy instance.
+     */
+    InvocationInterceptor getInvocationInterceptor();
+
+}
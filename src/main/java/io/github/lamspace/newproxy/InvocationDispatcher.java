@@ -28,7 +28,12 @@ import java.lang.reflect.Method;
  * Generally, this interface must be implemented by generated dynamic proxy class automatically
  * via byte code generation technology, enabling method invocation to be dispatched to an appropriate implementation.
  * And this interface is also a mark interface to indicate if the specified class is a proxy class or not, see in
- * {@link NewProxy#isProxyClass(Class)}.
+ * {@link NewProxy#isProxyClass(Class)}.<br/>
+ * Methods whose return type has a specialized intercept method in {@link PrimitiveInvocationInterceptor} are also
+ * dispatched by the specialized dispatch methods, such as
+ * {@link #dispatchLong2(Object, MethodDecorator, Object, Object) dispatchLong2}, which return the value without
+ * wrapping it, so that {@link MethodDecorator#invokeLong2(Object, Object, Object, Object) invokeLong2} and so on
+ * return the value of the target to the invocation interceptor without allocation.
  *
  * @author Lam Tong
  * @version 1.0.0
@@ -65,4 +70,1039 @@ public interface InvocationDispatcher {
      */
     Object dispatch(Object object, MethodDecorator method, Object... args) throws Throwable;
 
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes no arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch0(Object object, MethodDecorator method) throws Throwable {
+        return dispatch(object, method, (Object[]) null);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes one argument, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes two arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes three arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes four arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes five arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method takes six arguments, which are passed
+     * individually instead of in an array. Generated proxy classes override this method to dispatch method invocation
+     * without allocating an array, while this default implementation delegates to
+     * {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default Object dispatch6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return dispatch(object, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code int}. Generated proxy classes
+     * override this method for methods returning {@code int}, to return the value without wrapping it, while this
+     * default implementation unwraps the value returned by {@link #dispatch(Object, MethodDecorator, Object...)
+     * dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt(Object object, MethodDecorator method, Object... args) throws Throwable {
+        return (Integer) dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt0(Object object, MethodDecorator method) throws Throwable {
+        return (Integer) dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return (Integer) dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes two arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return (Integer) dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes three arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Integer) dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes four arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object) dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Integer) dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes five arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object) dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return (Integer) dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code int} and takes six arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchInt(Object,
+     * MethodDecorator, Object...) dispatchInt} otherwise, and this default implementation unwraps the value returned by
+     * {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchInt(Object, MethodDecorator, Object...)
+     */
+    default int dispatchInt6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return (Integer) dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code long}. Generated proxy classes
+     * override this method for methods returning {@code long}, to return the value without wrapping it, while this
+     * default implementation unwraps the value returned by {@link #dispatch(Object, MethodDecorator, Object...)
+     * dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong(Object object, MethodDecorator method, Object... args) throws Throwable {
+        return (Long) dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong0(Object object, MethodDecorator method) throws Throwable {
+        return (Long) dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return (Long) dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes two arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return (Long) dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes three arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Long) dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes four arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object) dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Long) dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes five arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object) dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return (Long) dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code long} and takes six arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchLong(Object,
+     * MethodDecorator, Object...) dispatchLong} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchLong(Object, MethodDecorator, Object...)
+     */
+    default long dispatchLong6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return (Long) dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code float}. Generated proxy classes
+     * override this method for methods returning {@code float}, to return the value without wrapping it, while this
+     * default implementation unwraps the value returned by {@link #dispatch(Object, MethodDecorator, Object...)
+     * dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat(Object object, MethodDecorator method, Object... args) throws Throwable {
+        return (Float) dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat0(Object object, MethodDecorator method) throws Throwable {
+        return (Float) dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return (Float) dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes two arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return (Float) dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes three
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchFloat(Object, MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Float) dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes four arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object) dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Float) dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes five arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object) dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return (Float) dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code float} and takes six arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchFloat(Object,
+     * MethodDecorator, Object...) dispatchFloat} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    default float dispatchFloat6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return (Float) dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code double}. Generated proxy classes
+     * override this method for methods returning {@code double}, to return the value without wrapping it, while this
+     * default implementation unwraps the value returned by {@link #dispatch(Object, MethodDecorator, Object...)
+     * dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble(Object object, MethodDecorator method, Object... args) throws Throwable {
+        return (Double) dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchDouble(Object,
+     * MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble0(Object object, MethodDecorator method) throws Throwable {
+        return (Double) dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchDouble(Object,
+     * MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return (Double) dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes two arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchDouble(Object,
+     * MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return (Double) dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes three
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchDouble(Object, MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Double) dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes four
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchDouble(Object, MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object)
+     * dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Double) dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes five
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchDouble(Object, MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object)
+     * dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return (Double) dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code double} and takes six arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchDouble(Object,
+     * MethodDecorator, Object...) dispatchDouble} otherwise, and this default implementation unwraps the value returned
+     * by {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    default double dispatchDouble6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return (Double) dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code boolean}. Generated proxy
+     * classes override this method for methods returning {@code boolean}, to return the value without wrapping it,
+     * while this default implementation unwraps the value returned by {@link #dispatch(Object, MethodDecorator,
+     * Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean(Object object, MethodDecorator method, Object... args) throws Throwable {
+        return (Boolean) dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchBoolean(Object,
+     * MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation unwraps the value
+     * returned by {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean0(Object object, MethodDecorator method) throws Throwable {
+        return (Boolean) dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchBoolean(Object,
+     * MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation unwraps the value
+     * returned by {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        return (Boolean) dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes two
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchBoolean(Object, MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return (Boolean) dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes three
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchBoolean(Object, MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Boolean) dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes four
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchBoolean(Object, MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object)
+     * dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Boolean) dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes five
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchBoolean(Object, MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object)
+     * dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return (Boolean) dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code boolean} and takes six
+     * arguments, which are passed individually instead of in an array. Behaves as the same as {@link
+     * #dispatchBoolean(Object, MethodDecorator, Object...) dispatchBoolean} otherwise, and this default implementation
+     * unwraps the value returned by {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object,
+     * Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    default boolean dispatchBoolean6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return (Boolean) dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose return type is {@code void}. Generated proxy classes
+     * override this method for methods returning {@code void}, to return without any value, while this default
+     * implementation discards the value returned by {@link #dispatch(Object, MethodDecorator, Object...) dispatch}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatch(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid(Object object, MethodDecorator method, Object... args) throws Throwable {
+        dispatch(object, method, args);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes no arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch0(Object, MethodDecorator) dispatch0}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid0(Object object, MethodDecorator method) throws Throwable {
+        dispatch0(object, method);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes one argument,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch1(Object, MethodDecorator, Object) dispatch1}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid1(Object object, MethodDecorator method, Object arg0) throws Throwable {
+        dispatch1(object, method, arg0);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes two arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch2(Object, MethodDecorator, Object, Object) dispatch2}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid2(Object object, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        dispatch2(object, method, arg0, arg1);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes three arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch3(Object, MethodDecorator, Object, Object, Object) dispatch3}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid3(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        dispatch3(object, method, arg0, arg1, arg2);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes four arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch4(Object, MethodDecorator, Object, Object, Object, Object) dispatch4}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid4(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        dispatch4(object, method, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes five arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch5(Object, MethodDecorator, Object, Object, Object, Object, Object) dispatch5}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid5(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        dispatch5(object, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Dispatches the method invocation on a proxy instance whose method returns {@code void} and takes six arguments,
+     * which are passed individually instead of in an array. Behaves as the same as {@link #dispatchVoid(Object,
+     * MethodDecorator, Object...) dispatchVoid} otherwise, and this default implementation discards the value returned
+     * by {@link #dispatch6(Object, MethodDecorator, Object, Object, Object, Object, Object, Object) dispatch6}.
+     *
+     * @param object object on which the method was invoked
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    default void dispatchVoid6(Object object, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        dispatch6(object, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
 }
@@ -22,7 +22,12 @@ package io.github.lamspace.newproxy;
  * the method invocation is encoded and dispatched to the {@link #intercept(Object, MethodDecorator, Object[])
  * intercept} method of its invocation interceptor.<br/>
  * Generally, {@link InvocationInterceptor} works as the same as {@link java.lang.reflect.InvocationHandler} while the
- * former one decorates the method instance.
+ * former one decorates the method instance.<br/>
+ * Methods taking no more than six arguments are dispatched to the arity-specialized intercept methods, such as
+ * {@link #intercept2(Object, MethodDecorator, Object, Object) intercept2}, which receive arguments individually and
+ * delegate to {@link #intercept(Object, MethodDecorator, Object[]) intercept} by default. An invocation interceptor
+ * can override them along with {@link MethodDecorator#invoke2(Object, Object, Object, Object) invoke2} and so on, so
+ * that no array is allocated for method invocation.
  *
  * @author Lam Tong
  * @version 1.0.0
@@ -61,4 +66,130 @@ public interface InvocationInterceptor {
      */
     Object intercept(Object proxy, MethodDecorator method, Object[] args) throws Throwable;
 
+    /**
+     * Processes a method invocation on a proxy instance whose method takes no arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept0(Object proxy, MethodDecorator method) throws Throwable {
+        return intercept(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes one argument, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes two arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes three arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes four arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes five arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose method takes six arguments, which are passed
+     * individually instead of in an array. By default, this method delegates to
+     * {@link #intercept(Object, MethodDecorator, Object[]) intercept}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #intercept(Object, MethodDecorator, Object[])
+     */
+    default Object intercept6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return intercept(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * {@link ClassDefiner} which defines proxy classes via {@code MethodHandles.Lookup#defineClass(byte[])} on JDK 9 and
+ * later, or via {@code MethodHandles.Lookup#defineHiddenClass(byte[], boolean, ClassOption...)} on JDK 15 and later
+ * if hidden classes are enabled, so that proxy classes can be unloaded independently of their class loader.<br/>
+ * A proxy class is defined in the runtime package of a host class, which is {@link NewProxy} itself or one of the
+ * classes the proxy class implements or extends, in the same package and the same class loader as the proxy class.
+ * {@link NewProxy#getProxyPackage(ClassLoader, Class[])} chooses such a package whenever the class loader defines
+ * {@link NewProxy} or any of the classes. If no such host class exists, the proxy class is defined by the fallback
+ * {@link ClassDefiner}, which is not available on JDK 16 and later, and {@link #checkDefinable} rejects the proxy
+ * class before it is generated.<br/>
+ * Since this project is compiled for JDK 8, APIs of later JDKs are linked via {@link MethodHandle} once.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ClassDefiner
+ * @since 1.0.0
+ */
+final class LookupClassDefiner implements ClassDefiner {
+
+    /**
+     * {@code MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}, null before JDK 9
+     */
+    private static final MethodHandle PRIVATE_LOOKUP_IN;
+
+    /**
+     * {@code MethodHandles.Lookup#defineClass(byte[])}, null before JDK 9
+     */
+    private static final MethodHandle DEFINE_CLASS;
+
+    /**
+     * {@code MethodHandles.Lookup#defineHiddenClass(byte[], boolean, ClassOption...)} bound to no class options,
+     * null before JDK 15
+     */
+    private static final MethodHandle DEFINE_HIDDEN_CLASS;
+
+    /**
+     * {@code MethodHandles.Lookup#hasFullPrivilegeAccess()}, null before JDK 14 or if hidden classes are not supported
+     */
+    private static final MethodHandle HAS_FULL_PRIVILEGE_ACCESS;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle privateLookupIn = null, defineClass = null, defineHiddenClass = null, hasFullPrivilegeAccess = null;
+        try {
+            privateLookupIn = lookup.findStatic(MethodHandles.class, "privateLookupIn",
+                    MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+            defineClass = lookup.findVirtual(MethodHandles.Lookup.class, "defineClass",
+                    MethodType.methodType(Class.class, byte[].class));
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Class<?> classOptions = Array.newInstance(classOption, 0).getClass();
+            MethodHandle hidden = lookup.findVirtual(MethodHandles.Lookup.class, "defineHiddenClass",
+                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, classOptions));
+            MethodHandle lookupClass = lookup.findVirtual(MethodHandles.Lookup.class, "lookupClass",
+                    MethodType.methodType(Class.class));
+            // (Lookup, byte[]) -> Class, initializes the hidden class and no class options
+            defineHiddenClass = MethodHandles.filterReturnValue(
+                    MethodHandles.insertArguments(hidden, 2, true, Array.newInstance(classOption, 0)), lookupClass);
+            hasFullPrivilegeAccess = lookup.findVirtual(MethodHandles.Lookup.class, "hasFullPrivilegeAccess",
+                    MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException | ClassNotFoundException e) {
+            // not supported by the running JVM
+        }
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+        DEFINE_CLASS = defineClass;
+        DEFINE_HIDDEN_CLASS = hasFullPrivilegeAccess == null ? null : defineHiddenClass;
+        HAS_FULL_PRIVILEGE_ACCESS = hasFullPrivilegeAccess;
+    }
+
+    /**
+     * {@link ClassDefiner} to define proxy classes without host classes, may be null
+     */
+    private final ClassDefiner fallback;
+
+    /**
+     * whether to define proxy classes as hidden classes or not
+     */
+    private final boolean hidden;
+
+    LookupClassDefiner(ClassDefiner fallback, boolean hidden) {
+        this.fallback = fallback;
+        this.hidden = hidden && DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Checks if the running JVM supports {@code MethodHandles.Lookup#defineClass(byte[])} or not.
+     *
+     * @return true if and only if the running JVM is JDK 9 or later.
+     */
+    static boolean isSupported() {
+        return PRIVATE_LOOKUP_IN != null && DEFINE_CLASS != null;
+    }
+
+    @Override
+    public void checkDefinable(ClassLoader classLoader, String pkg, Class<?>[] classes) {
+        if (fallback == null && findHost(classLoader, pkg, classes) == null) {
+            throw new IllegalArgumentException("proxy class of " + Arrays.toString(classes) + " can not be defined " +
+                    "in class loader " + classLoader + ", which defines neither NewProxy nor any of the classes");
+        }
+    }
+
+    @Override
+    public Class<?> defineClass(ClassLoader classLoader, String name, byte[] bytes, Class<?>[] classes) {
+        Class<?> host = findHost(classLoader, ClassDefiner.getPackage(name), classes);
+        if (host == null) {
+            checkDefinable(classLoader, ClassDefiner.getPackage(name), classes);
+            return fallback.defineClass(classLoader, name, bytes, classes);
+        }
+        try {
+            MethodHandles.Lookup lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact(host, MethodHandles.lookup());
+            // hidden classes require full privilege access, which is lost if the host is in another module, such as
+            // the unnamed module of another class loader, and then the proxy class is defined as a normal class
+            return hidden && (boolean) HAS_FULL_PRIVILEGE_ACCESS.invokeExact(lookup) ?
+                    (Class<?>) DEFINE_HIDDEN_CLASS.invokeExact(lookup, bytes) :
+                    (Class<?>) DEFINE_CLASS.invokeExact(lookup, bytes);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("proxy class " + name + " can not be defined via lookup of " + host, e);
+        } catch (Throwable t) {
+            throw new InternalError(t.toString(), t);
+        }
+    }
+
+    /**
+     * Finds a class in the same package and the same class loader as the proxy class, whose lookup can define the
+     * proxy class.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param pkg         package of the proxy class, ending with {@code "."}
+     * @param classes     classes which the proxy class implements or extends
+     * @return a host class, or {@code null} if not found.
+     */
+    private static Class<?> findHost(ClassLoader classLoader, String pkg, Class<?>[] classes) {
+        if (NewProxy.class.getClassLoader() == classLoader && pkg.equals(ClassDefiner.getPackage(NewProxy.class.getName()))) {
+            return NewProxy.class;
+        }
+        for (Class<?> aClass : classes) {
+            if (aClass.getClassLoader() == classLoader && pkg.equals(ClassDefiner.getPackage(aClass.getName()))) {
+                return aClass;
+            }
+        }
+        return null;
+    }
+
+}
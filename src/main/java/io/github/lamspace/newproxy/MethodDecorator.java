@@ -16,8 +16,6 @@
 
 package io.github.lamspace.newproxy;
 
-import sun.reflect.CallerSensitive;
-
 import java.lang.reflect.Method;
 import java.util.Objects;
 
@@ -44,20 +42,42 @@ public final class MethodDecorator {
     private final Class<?> declaringClass;
 
     /**
-     * {@link Method} signature
+     * {@link Method} signature, which is computed on first access since it is rarely used
      */
-    private final String methodSignature;
+    private String methodSignature;
 
     /**
      * {@link Method} hash code
      */
     private final int hashCode;
 
-    private MethodDecorator(Method method) {
+    /**
+     * index of {@link Method} in the proxy class, or {@code -1} if the method does not belong to any proxy class
+     */
+    private final int index;
+
+    /**
+     * position in the interceptor chain of the proxy class, which starts from {@code 0}
+     */
+    private final int stage;
+
+    /**
+     * {@link MethodDecorator} instance passed to the next interceptor in the chain, or {@code null} if this is the
+     * last one
+     */
+    private final MethodDecorator next;
+
+    private MethodDecorator(Method method, int index) {
+        this(method, index, 0, 1);
+    }
+
+    private MethodDecorator(Method method, int index, int stage, int stages) {
         this.method = method;
         this.declaringClass = method.getDeclaringClass();
-        this.methodSignature = ProxyGenerator.getMethodSignature(this.method);
         this.hashCode = Objects.hashCode(this.method);
+        this.index = index;
+        this.stage = stage;
+        this.next = stage + 1 < stages ? new MethodDecorator(method, index, stage + 1, stages) : null;
     }
 
     /**
@@ -67,7 +87,143 @@ public final class MethodDecorator {
      * @return {@link MethodDecorator} instance.
      */
     public static MethodDecorator of(Method method) {
-        return new MethodDecorator(method);
+        return new MethodDecorator(method, -1);
+    }
+
+    /**
+     * Static factory method to create a {@link MethodDecorator} instance with the index of the method in a proxy
+     * class, which is used to dispatch method invocation.
+     *
+     * @param method {@link Method} instance
+     * @param index  index of the method in a proxy class
+     * @return {@link MethodDecorator} instance.
+     */
+    public static MethodDecorator of(Method method, int index) {
+        return new MethodDecorator(method, index);
+    }
+
+    /**
+     * Static factory method to create a {@link MethodDecorator} instance for the first interceptor of a proxy class
+     * with an interceptor chain, which links the instances passed to the following interceptors.
+     *
+     * @param method {@link Method} instance
+     * @param index  index of the method in a proxy class
+     * @param stages number of interceptors in the chain
+     * @return {@link MethodDecorator} instance.
+     */
+    public static MethodDecorator of(Method method, int index, int stages) {
+        return new MethodDecorator(method, index, 0, stages);
+    }
+
+    /**
+     * Resolves the {@link MethodDecorator} instance of the specified index for a proxy class on first access, which
+     * is invoked by proxy classes generated by {@link ProxyGenerator} and not intended to be invoked directly.<br/>
+     * Methods of a proxy class are described by a compact table, in which each line represents the method of the
+     * same index in format {@code "full-qualified-name-of-class.name(descriptor)"}, and is empty if the index is not
+     * used. All unresolved methods declared by the same class as the specified one are resolved together, and declared
+     * methods of each class are looked up in {@link ClassMetadata} shared by all proxy classes.
+     *
+     * @param methods    {@link MethodDecorator} instances of the proxy class indexed by indexes of methods, which are
+     *                   filled in by this method
+     * @param proxyClass the proxy class, whose class loader loads declaring classes of methods
+     * @param table      the table of methods of the proxy class
+     * @param index      index of the method to resolve
+     * @param stages     number of interceptors in the chain of the proxy class
+     * @return {@link MethodDecorator} instance of the specified index.
+     * @throws NoClassDefFoundError if the declaring class of the method can not be found
+     * @throws NoSuchMethodError   if the method can not be found in its declaring class
+     */
+    public static MethodDecorator resolve(MethodDecorator[] methods, Class<?> proxyClass, String table, int index, int stages) {
+        synchronized (methods) {
+            if (methods[index] != null) {
+                return methods[index];
+            }
+            String[] entries = table.split("\n", -1);
+            String className = getClassName(entries[index]);
+            Class<?> declaringClass;
+            try {
+                declaringClass = Class.forName(className, false, proxyClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new NoClassDefFoundError(e.getMessage());
+            }
+            ClassMetadata metadata = ClassMetadata.of(declaringClass);
+            for (int i = 0; i < entries.length; i++) {
+                if (methods[i] == null && !entries[i].isEmpty() && className.equals(getClassName(entries[i]))) {
+                    Method method = metadata.getDeclaredMethod(entries[i].substring(className.length() + 1));
+                    if (method == null) {
+                        throw new NoSuchMethodError(entries[i]);
+                    }
+                    methods[i] = new MethodDecorator(method, i, 0, stages);
+                }
+            }
+            return methods[index];
+        }
+    }
+
+    /**
+     * Gets the entry of the specified method in the table of methods of a proxy class.
+     *
+     * @param method {@link Method} instance
+     * @return the entry in format {@code "full-qualified-name-of-class.name(descriptor)"}
+     * @see #resolve(MethodDecorator[], Class, String, int, int)
+     */
+    static String getTableEntry(Method method) {
+        return method.getDeclaringClass().getName() + "." + method.getName() + getDescriptor(method);
+    }
+
+    /**
+     * Gets the full-qualified name of the declaring class in the specified entry of the table of methods.
+     *
+     * @param entry entry of the table of methods
+     * @return the full-qualified name of the declaring class
+     */
+    private static String getClassName(String entry) {
+        return entry.substring(0, entry.lastIndexOf('.', entry.indexOf('(')));
+    }
+
+    /**
+     * Gets the descriptor of the specified method, such as {@code "(Ljava/lang/String;I)V"}.
+     *
+     * @param method {@link Method} instance
+     * @return the descriptor of the method
+     */
+    static String getDescriptor(Method method) {
+        return ClassMetadata.of(method.getDeclaringClass()).getDescriptor(method);
+    }
+
+    /**
+     * Appends the descriptor of the specified type to the builder.
+     *
+     * @param builder {@link StringBuilder} instance
+     * @param type    the type to append
+     * @return the builder
+     */
+    static StringBuilder appendDescriptor(StringBuilder builder, Class<?> type) {
+        while (type.isArray()) {
+            builder.append('[');
+            type = type.getComponentType();
+        }
+        if (!type.isPrimitive()) {
+            return builder.append('L').append(type.getName().replace('.', '/')).append(';');
+        } else if (type == boolean.class) {
+            return builder.append('Z');
+        } else if (type == byte.class) {
+            return builder.append('B');
+        } else if (type == char.class) {
+            return builder.append('C');
+        } else if (type == short.class) {
+            return builder.append('S');
+        } else if (type == int.class) {
+            return builder.append('I');
+        } else if (type == long.class) {
+            return builder.append('J');
+        } else if (type == float.class) {
+            return builder.append('F');
+        } else if (type == double.class) {
+            return builder.append('D');
+        } else {
+            return builder.append('V');
+        }
     }
 
     /**
@@ -94,7 +250,12 @@ public final class MethodDecorator {
      * @return signature of the method
      */
     public String getMethodSignature() {
-        return methodSignature;
+        // racy single-check is fine since the signature is immutable and computed deterministically
+        String signature = methodSignature;
+        if (signature == null) {
+            methodSignature = signature = ProxyGenerator.getMethodSignature(this.method);
+        }
+        return signature;
     }
 
     /**
@@ -106,6 +267,37 @@ public final class MethodDecorator {
         return hashCode;
     }
 
+    /**
+     * Gets the index of the method in the proxy class, which is dense and starts from {@code 0}: {@code 0}, {@code 1}
+     * and {@code 2} represent {@code equals}, {@code hashCode} and {@code toString} respectively, and methods from
+     * interfaces and class follow them.
+     *
+     * @return index of the method, or {@code -1} if the method does not belong to any proxy class
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the position in the interceptor chain of the proxy class of the interceptor which this instance is passed
+     * to. Invocation via this instance proceeds to the next interceptor in the chain, or to the target object if the
+     * interceptor is the last one.
+     *
+     * @return position in the interceptor chain, which is {@code 0} for the proxy class without a chain
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /**
+     * Gets the {@link MethodDecorator} instance passed to the next interceptor in the chain.
+     *
+     * @return the instance for the next interceptor, or {@code null} if this instance is for the last one
+     */
+    public MethodDecorator getNext() {
+        return next;
+    }
+
     /**
      * Invokes the underlying method represented by this {@link MethodDecorator} object, on the specified object with
      * the specified parameters. Individual parameters are automatically unwrapped to match primitive formal parameters,
@@ -132,16 +324,984 @@ public final class MethodDecorator {
      *                   thrown by {@link InvocationDispatcher#dispatch(Object, MethodDecorator, Object...)}.
      * @see InvocationDispatcher#dispatch(Object, MethodDecorator, Object...)
      */
-    @CallerSensitive
     public Object invoke(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatch(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method taking no arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatch0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method taking one argument, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatch1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method taking two arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatch2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method taking three arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatch3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method taking four arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatch4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method taking five arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatch5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method taking six arguments, which are passed individually instead of in an array.
+     * Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     */
+    public Object invoke6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatch6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code int}, and returns the value without wrapping it in an
+     * instance of {@link Integer}. Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise,
+     * hence the underlying method must return {@code int}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchInt(Object, MethodDecorator, Object...)
+     */
+    public int invokeInt(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatchInt(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatchInt0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatchInt1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatchInt2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatchInt3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatchInt4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatchInt5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code int} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeInt(Object, Object, Object...) invokeInt} otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeInt(Object, Object, Object...)
+     */
+    public int invokeInt6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatchInt6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code long}, and returns the value without wrapping it in an
+     * instance of {@link Long}. Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise,
+     * hence the underlying method must return {@code long}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchLong(Object, MethodDecorator, Object...)
+     */
+    public long invokeLong(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatchLong(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatchLong0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatchLong1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatchLong2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatchLong3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatchLong4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatchLong5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code long} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeLong(Object, Object, Object...) invokeLong}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeLong(Object, Object, Object...)
+     */
+    public long invokeLong6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatchLong6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code float}, and returns the value without wrapping it in an
+     * instance of {@link Float}. Behaves as the same as {@link #invoke(Object, Object, Object...) invoke} otherwise,
+     * hence the underlying method must return {@code float}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchFloat(Object, MethodDecorator, Object...)
+     */
+    public float invokeFloat(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code float} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeFloat(Object, Object, Object...) invokeFloat}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeFloat(Object, Object, Object...)
+     */
+    public float invokeFloat6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatchFloat6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code double}, and returns the value without wrapping it in
+     * an instance of {@link Double}. Behaves as the same as {@link #invoke(Object, Object, Object...) invoke}
+     * otherwise, hence the underlying method must return {@code double}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchDouble(Object, MethodDecorator, Object...)
+     */
+    public double invokeDouble(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code double} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeDouble(Object, Object, Object...) invokeDouble}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeDouble(Object, Object, Object...)
+     */
+    public double invokeDouble6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatchDouble6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code boolean}, and returns the value without wrapping it in
+     * an instance of {@link Boolean}. Behaves as the same as {@link #invoke(Object, Object, Object...) invoke}
+     * otherwise, hence the underlying method must return {@code boolean}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchBoolean(Object, MethodDecorator, Object...)
+     */
+    public boolean invokeBoolean(Object proxy, Object object, Object... args) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean0(Object proxy, Object object) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean1(Object proxy, Object object, Object arg0) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code boolean} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeBoolean(Object, Object, Object...) invokeBoolean}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @return the result from which the method invocation returns.
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeBoolean(Object, Object, Object...)
+     */
+    public boolean invokeBoolean6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return toDispatcher(proxy).dispatchBoolean6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Invokes the underlying method whose return type is {@code void}, without any value returned. Behaves as the same
+     * as {@link #invoke(Object, Object, Object...) invoke} otherwise, hence the underlying method must return {@code
+     * void}.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param args   the arguments used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invoke(Object, Object, Object...)
+     * @see InvocationDispatcher#dispatchVoid(Object, MethodDecorator, Object...)
+     */
+    public void invokeVoid(Object proxy, Object object, Object... args) throws Throwable {
+        toDispatcher(proxy).dispatchVoid(this.declaringClass.isInterface() ? object : proxy, this, args);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking no arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid0(Object proxy, Object object) throws Throwable {
+        toDispatcher(proxy).dispatchVoid0(this.declaringClass.isInterface() ? object : proxy, this);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking one argument, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid1(Object proxy, Object object, Object arg0) throws Throwable {
+        toDispatcher(proxy).dispatchVoid1(this.declaringClass.isInterface() ? object : proxy, this, arg0);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking two arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid2(Object proxy, Object object, Object arg0, Object arg1) throws Throwable {
+        toDispatcher(proxy).dispatchVoid2(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking three arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid3(Object proxy, Object object, Object arg0, Object arg1, Object arg2) throws Throwable {
+        toDispatcher(proxy).dispatchVoid3(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking four arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid4(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        toDispatcher(proxy).dispatchVoid4(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking five arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid5(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        toDispatcher(proxy).dispatchVoid5(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Invokes the underlying method returning {@code void} and taking six arguments, which are passed individually
+     * instead of in an array. Behaves as the same as {@link #invokeVoid(Object, Object, Object...) invokeVoid}
+     * otherwise.
+     *
+     * @param proxy  the proxy instance from which the underlying method is invoked
+     * @param object actual object to be invoked. Required when the declaring class of the method is interface
+     * @param arg0   the first argument used for the method invocation
+     * @param arg1   the second argument used for the method invocation
+     * @param arg2   the third argument used for the method invocation
+     * @param arg3   the fourth argument used for the method invocation
+     * @param arg4   the fifth argument used for the method invocation
+     * @param arg5   the sixth argument used for the method invocation
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #invokeVoid(Object, Object, Object...)
+     */
+    public void invokeVoid6(Object proxy, Object object, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        toDispatcher(proxy).dispatchVoid6(this.declaringClass.isInterface() ? object : proxy, this, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    /**
+     * Casts the proxy instance to {@link InvocationDispatcher}.
+     *
+     * @param proxy the proxy instance
+     * @return the proxy instance as {@link InvocationDispatcher}
+     * @throws IllegalArgumentException if the proxy instance does not implement {@link InvocationDispatcher}
+     */
+    private static InvocationDispatcher toDispatcher(Object proxy) {
         if (!(proxy instanceof InvocationDispatcher)) {
             throw new IllegalArgumentException("proxy must implement interface InvocationDispatcher");
         }
-        InvocationDispatcher dispatcher = (InvocationDispatcher) proxy;
-        if (this.declaringClass.isInterface()) {
-            return dispatcher.dispatch(object, this, args);
-        }
-        return dispatcher.dispatch(proxy, this, args);
+        return (InvocationDispatcher) proxy;
     }
 
 }
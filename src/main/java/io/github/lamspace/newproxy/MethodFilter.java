@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link MethodFilter} selects methods of a proxy class to be intercepted by its invocation interceptor when the proxy
+ * class is generated. Methods rejected by the filter are not overridden by the proxy class at all, so that invocations
+ * of them run the implementation from the base class or the default method of the interface directly, bypassing the
+ * invocation interceptor and the {@link MethodDecorator} instance entirely.<br/>
+ * Abstract methods from interfaces are always intercepted, since there is no implementation for them. Methods
+ * {@code equals}, {@code hashCode} and {@code toString} from {@link Object} are passed to the filter as well.<br/>
+ * A filter is part of the specification of a proxy class. Filters of the same class without instance fields, such as
+ * non-capturing lambdas, share the proxy class, so decisions of a filter must depend on the method only. See
+ * {@link NewProxy#getProxyClass(ClassLoader, Class[], MethodFilter, Class[]) getProxyClass} for how other filters are
+ * compared.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy#newProxyInstance(ClassLoader, InvocationInterceptor, MethodFilter, Class[], Object[], Class[])
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface MethodFilter {
+
+    /**
+     * Tests whether the specified method should be intercepted by the invocation interceptor of proxy instances.
+     *
+     * @param method the method declared by the base class, an interface or {@link Object}
+     * @return {@code true} if the method should be intercepted, {@code false} otherwise.
+     */
+    boolean accept(Method method);
+
+}
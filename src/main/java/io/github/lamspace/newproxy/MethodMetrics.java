@@ -0,0 +1,286 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link MethodMetrics} records invocations of methods of a proxy class, which is enabled when system property
+ * {@value Constants#STRING_METRICS_FLAG} is {@code true} at the time the proxy class is generated.<br/>
+ * Each generated method records its call count, error count and latency into counters indexed by the index of the
+ * method, so that neither lookup nor lock is needed on the invocation path. Counters are striped via
+ * {@link LongAdder}, and latencies are recorded into a lock-free histogram with buckets of powers of two nanoseconds.
+ * Latency of a method covers the whole invocation on the proxy instance, including all interceptors, and methods
+ * which bypass interceptors are not recorded.<br/>
+ * Metrics of a proxy class are acquired via {@link #of(Class)}, and read via {@link #snapshot()}.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @since 1.0.0
+ */
+public final class MethodMetrics {
+
+    /**
+     * number of buckets of the latency histogram, where bucket {@code i} counts latencies in range
+     * {@code [2^(i-1), 2^i)} nanoseconds, and the last bucket counts all longer latencies
+     */
+    public static final int BUCKETS = 48;
+
+    /**
+     * metrics of proxy classes, whose keys are weak so that proxy classes can be unloaded
+     */
+    private static final Map<Class<?>, MethodMetrics> METRICS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * methods of the proxy class indexed by indexes of methods, in format
+     * {@code "full-qualified-name-of-class.name(descriptor)"}, or empty if the index is not used
+     */
+    private final String[] methods;
+
+    private final LongAdder[] calls;
+
+    private final LongAdder[] errors;
+
+    private final LongAdder[] nanos;
+
+    /**
+     * latency histograms of all methods, where the histogram of method {@code i} starts from {@code i * BUCKETS}
+     */
+    private final AtomicLongArray histograms;
+
+    private MethodMetrics(String[] methods) {
+        this.methods = methods;
+        this.calls = new LongAdder[methods.length];
+        this.errors = new LongAdder[methods.length];
+        this.nanos = new LongAdder[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            this.calls[i] = new LongAdder();
+            this.errors[i] = new LongAdder();
+            this.nanos[i] = new LongAdder();
+        }
+        this.histograms = new AtomicLongArray(methods.length * BUCKETS);
+    }
+
+    /**
+     * Checks whether proxy classes generated from now on record invocation metrics or not.
+     *
+     * @return true if system property {@value Constants#STRING_METRICS_FLAG} is {@code true}, otherwise false.
+     */
+    public static boolean isEnabled() {
+        return System.getProperty(STRING_METRICS_FLAG, "false").equalsIgnoreCase("true");
+    }
+
+    /**
+     * Returns invocation metrics of the specified proxy class.
+     *
+     * @param proxyClass the proxy class
+     * @return metrics of the proxy class, or {@code null} if the proxy class does not record invocation metrics.
+     */
+    public static MethodMetrics of(Class<?> proxyClass) {
+        return METRICS.get(Objects.requireNonNull(proxyClass));
+    }
+
+    /**
+     * Creates metrics of the specified proxy class, which is invoked by static initializer of proxy classes generated
+     * by {@link ProxyGenerator} and not intended to be invoked directly.
+     *
+     * @param proxyClass the proxy class
+     * @param table      the table of methods of the proxy class
+     * @return metrics of the proxy class.
+     * @see MethodDecorator#resolve(MethodDecorator[], Class, String, int, int)
+     */
+    public static MethodMetrics register(Class<?> proxyClass, String table) {
+        MethodMetrics metrics = new MethodMetrics(table.split("\n", -1));
+        METRICS.put(proxyClass, metrics);
+        return metrics;
+    }
+
+    /**
+     * Records an invocation of the method of the specified index which completes normally, which is invoked by
+     * proxy classes generated by {@link ProxyGenerator} and not intended to be invoked directly.
+     *
+     * @param index index of the method
+     * @param start start time of the invocation, acquired via {@link System#nanoTime()}
+     */
+    public void record(int index, long start) {
+        long latency = System.nanoTime() - start;
+        calls[index].increment();
+        nanos[index].add(latency);
+        histograms.incrementAndGet(index * BUCKETS + bucket(latency));
+    }
+
+    /**
+     * Records an invocation of the method of the specified index which completes abruptly, which is invoked by
+     * proxy classes generated by {@link ProxyGenerator} and not intended to be invoked directly.
+     *
+     * @param index index of the method
+     * @param start start time of the invocation, acquired via {@link System#nanoTime()}
+     */
+    public void recordError(int index, long start) {
+        errors[index].increment();
+        record(index, start);
+    }
+
+    /**
+     * Returns the bucket of the histogram for the specified latency.
+     *
+     * @param latency latency in nanoseconds
+     * @return the bucket of the latency.
+     */
+    private static int bucket(long latency) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(latency, 0)));
+    }
+
+    /**
+     * Takes a snapshot of metrics of all methods of the proxy class which have been invoked. Counters of a method are
+     * read one after another without lock, so a snapshot taken during invocations may be slightly inconsistent.
+     *
+     * @return snapshots of metrics of methods, ordered by indexes of methods.
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < methods.length; i++) {
+            long count = calls[i].sum();
+            if (count == 0) {
+                continue;
+            }
+            long[] histogram = new long[BUCKETS];
+            for (int j = 0; j < BUCKETS; j++) {
+                histogram[j] = histograms.get(i * BUCKETS + j);
+            }
+            snapshots.add(new Snapshot(methods[i], i, count, errors[i].sum(), nanos[i].sum(), histogram));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Snapshot of invocation metrics of a method of a proxy class.
+     */
+    public static final class Snapshot {
+
+        private final String method;
+
+        private final int index;
+
+        private final long calls;
+
+        private final long errors;
+
+        private final long totalNanos;
+
+        private final long[] histogram;
+
+        private Snapshot(String method, int index, long calls, long errors, long totalNanos, long[] histogram) {
+            this.method = method;
+            this.index = index;
+            this.calls = calls;
+            this.errors = errors;
+            this.totalNanos = totalNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Gets the method in format {@code "full-qualified-name-of-class.name(descriptor)"}.
+         *
+         * @return the method
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * Gets the index of the method in the proxy class.
+         *
+         * @return index of the method
+         * @see MethodDecorator#getIndex()
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the number of invocations, including those completing abruptly.
+         *
+         * @return number of invocations
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Gets the number of invocations completing abruptly by throwing an exception.
+         *
+         * @return number of failed invocations
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Gets the total latency of all invocations.
+         *
+         * @return total latency in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Gets the latency histogram, where bucket {@code i} counts latencies in range {@code [2^(i-1), 2^i)}
+         * nanoseconds.
+         *
+         * @return a copy of the latency histogram
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * Gets the estimated latency at the specified percentile, which is the upper bound of the bucket of the
+         * histogram containing that percentile.
+         *
+         * @param percentile percentile in range {@code (0, 100]}
+         * @return the estimated latency in nanoseconds, or {@code 0} if there is no invocation
+         * @throws IllegalArgumentException if the percentile is out of range
+         */
+        public long getPercentileNanos(double percentile) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile out of range (0, 100]: " + percentile);
+            }
+            long total = Arrays.stream(histogram).sum(), rank = (long) Math.ceil(total * percentile / 100), count = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                count += histogram[i];
+                if (count >= rank && count > 0) {
+                    return i == histogram.length - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return method + " calls=" + calls + " errors=" + errors + " totalNanos=" + totalNanos;
+        }
+
+    }
+
+}
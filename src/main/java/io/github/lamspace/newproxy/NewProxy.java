@@ -16,21 +16,17 @@
 
 package io.github.lamspace.newproxy;
 
-import sun.misc.VM;
-import sun.reflect.CallerSensitive;
-import sun.reflect.Reflection;
-import sun.reflect.misc.ReflectUtil;
-import sun.security.util.SecurityConstants;
-
 import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.Permission;
 import java.security.PrivilegedAction;
-import java.util.Arrays;
-import java.util.IdentityHashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
@@ -70,14 +66,23 @@ import java.util.function.BiFunction;
  *     <li>Proxy class are non-public, final and not abstract if any of the proxy interfaces is non-public.</li>
  *     <li>The unqualified name of a proxy class is unspecified. The space of class names that begins with the
  *     String {@code "$NewProxy"} should be, however, revered for proxy classes.</li>
- *     <li>A proxy class implements exactly the interfaces specified at its creation, in the same order.</li>
+ *     <li>A proxy class implements exactly the interfaces specified at its creation, in a canonical order: interfaces
+ *     are sorted by their names, so that the same proxy class is returned for the same interfaces in any order.</li>
  *     <li>If a proxy class implements a non-public interface, then it will be defined in the same package as
  *     that interface. Otherwise, the package of a proxy class is also unspecified. Note that package sealing will
  *     not prevent a proxy class from being successfully defined in a particular package at runtime, and neither
  *     will classes defined by the same class loader and the same package with particular signers.</li>
+ *     <li>If all proxy interfaces are public, a proxy class requested for the class loader of {@link NewProxy} is
+ *     defined in the package of {@link NewProxy}, and a proxy class requested for another class loader is defined
+ *     in the package of the foremost proxy interface or class, in canonical order, defined by that class loader.
+ *     On JDK 16 and later, where internals of JDK are strongly encapsulated, a proxy class can only be defined in
+ *     the class loader of {@link NewProxy} or in a class loader defining one of its proxy interfaces or class.
+ *     Requesting a proxy class for any other class loader, such as a child class loader of the one defining the
+ *     proxy interfaces, fails with {@link IllegalArgumentException} before the proxy class is generated, which
+ *     {@code getProxyClass} wraps in a {@link RuntimeException} as other failures of generation.</li>
  *     <li>Since a proxy class implements all the interfaces specified at its creation, invoking {@code getInterfaces}
- *     on its {@code Class} object will return an array containing the same list of interfaces (in the order at its
- *     creation), invoking {@code getMethods} on its {@code Class} object will return an array of {@code Method}
+ *     on its {@code Class} object will return an array containing the same list of interfaces (in the canonical
+ *     order), invoking {@code getMethods} on its {@code Class} object will return an array of {@code Method}
  *     objects that include all the methods in those interfaces, and invoking {@code getMethod} will find
  *     methods in the proxy interfaces as would be expected.</li>
  *     <li>The {@code isProxyClass} method will return true if it is passed a proxy class -- a class returned by
@@ -125,7 +130,7 @@ import java.util.function.BiFunction;
  * <h3>Methods Duplicated in Multiple Proxy Interfaces</h3>
  *
  * <p>When two or more interfaces of a proxy class contain a method with the same name and parameter signature,
- * the order of the proxy class's interfaces becomes significant. When such a <i>duplicate method</i>
+ * the canonical order of the proxy class's interfaces becomes significant. When such a <i>duplicate method</i>
  * is invoked on a proxy instance, the {@code Method} object passed to the invocation interceptor will not
  * necessarily be the one whose declaring class is assignable from the reference type of the interface
  * that the proxy's method was invoked through. This limitation exists because the corresponding method
@@ -166,8 +171,8 @@ import java.util.function.BiFunction;
  * At last, dynamic proxy class generated by {@link NewProxy} implements interface {@link InvocationDispatcher}, and
  * generated implementation of {@link InvocationDispatcher#dispatch(Object, MethodDecorator, Object...) dispatch} method, which
  * enables the proxy instance to dispatch method invocation to an appropriate execution. For example, method invocation
- * will be dispatched to {@code doInvokeXXX} method, which is also generated by {@link NewProxy} with
- * {@code Dynamic Support of Java} when that method inherits from an interface. If the method inherits from a class,
+ * will be dispatched to {@code doInvokeXXX} method, which is also generated by {@link NewProxy} when that method
+ * inherits from an interface. If the method inherits from a class,
  * then method invocation will be dispatched to {@code super.XXX} method of the superclass.<br/>
  * Here is an example. If interface {@code Foo} needs to be implemented using {@link Proxy}, generated class can be
  * list as below ({@code Foo} is a public interface):
@@ -235,22 +240,12 @@ import java.util.function.BiFunction;
  * While {@link NewProxy} will generate class as below:
  * <blockquote><pre>
  * public final class $NewProxy0 implements Foo, InvocationDispatcher {
- *     private static final MethodDecorator m0;
- *     private static final MethodDecorator m1;
- *     private static final MethodDecorator m2;
- *     private static final MethodDecorator m3;
+ *     private static final MethodDecorator[] methodDecorators;
  *     private final InvocationInterceptor interceptor;
- *     private volatile MethodHandle mhFoo;
  *
  *     static {
- *         try {
- *             m0 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("equals", Object.class));
- *             m1 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("hashCode"));
- *             m2 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("toString"));
- *             m3 = MethodDecorator.of(Class.forName("full-qualified-name-of-Foo").getMethod("foo"));
- *         } catch (Exception e) {
- *             // process exception here
- *         }
+ *         // MethodDecorator instances are resolved on first access via getMethodDecorator(int)
+ *         methodDecorators = new MethodDecorator[4];
  *     }
  *
  *     public $NewProxy0(InvocationInterceptor interceptor) {
@@ -259,7 +254,7 @@ import java.util.function.BiFunction;
  *
  *     public final boolean equals(Object o) {
  *         try {
- *             return (Boolean) this.interceptor.intercept(this, m0, new Object[]{o});
+ *             return (Boolean) this.interceptor.intercept1(this, getMethodDecorator(0), o);
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -267,7 +262,7 @@ import java.util.function.BiFunction;
  *
  *     public final int hashCode() {
  *         try {
- *             return (Integer) this.interceptor.intercept(this, m1, (Object[]) null);
+ *             return (Integer) this.interceptor.intercept0(this, getMethodDecorator(1));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -275,7 +270,7 @@ import java.util.function.BiFunction;
  *
  *     public final String toString() {
  *         try {
- *             return (String) this.interceptor.intercept(this, m2, (Object[]) null);
+ *             return (String) this.interceptor.intercept0(this, getMethodDecorator(2));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -283,36 +278,30 @@ import java.util.function.BiFunction;
  *
  *     public final void foo() {
  *         try {
- *             this.interceptor.intercept(this, m3, (Object[]) null);
+ *             this.interceptor.intercept0(this, getMethodDecorator(3));
  *         }  catch (Exception e) {
  *             // process exception here
  *         }
  *     }
  *
  *     public final Object dispatch(Object object, MethodDecorator method, Object[] args) throws Throwable {
- *         int var4 = method.getHashCode();
- *         if (-1918826964 == var4) {
- *             return super.equals(args[0]);
- *         } else if (933549448 == var4) {
- *             return super.hashCode();
- *         } else if (-1451283457 == var4) {
- *             return super.toString();
- *         } else if (-199555930 == var4) {
- *             this.doInvokeFoo(object);
- *             return null;
+ *         switch (method.getIndex()) {
+ *             case 0:
+ *                 return super.equals(args[0]);
+ *             case 1:
+ *                 return super.hashCode();
+ *             case 2:
+ *                 return super.toString();
+ *             case 3:
+ *                 this.doInvokeFoo3(object);
+ *                 return null;
+ *             default:
+ *                 return null;
  *         }
- *         return null;
  *     }
  *
- *     private void doInvokeFoo(Object object) {
- *         if (this.mhFoo == null) {
- *             synchronized(this) {
- *                 if (this.mhFoo == null) {
- *                     this.mhFoo = MethodHandles.lookup().findVirtual(FooService.class, "foo", MethodType.methodType(Void.TYPE)).bindTo(object);
- *                 }
- *             }
- *         }
- *         this.mhFoo.invokeExact();
+ *     private void doInvokeFoo3(Object object) throws Throwable {
+ *         ((Foo) object).foo();
  *     }
  *
  * }
@@ -328,21 +317,12 @@ import java.util.function.BiFunction;
  * </pre></blockquote>
  * <blockquote><pre>
  * public final class $NewProxy0 extends Bar implements InvocationDispatcher {
- *     private static final MethodDecorator m0;
- *     private static final MethodDecorator m1;
- *     private static final MethodDecorator m2;
- *     private static final MethodDecorator m3;
+ *     private static final MethodDecorator[] methodDecorators;
  *     private final InvocationInterceptor interceptor;
  *
  *     static {
- *         try {
- *             m0 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("equals", Object.class));
- *             m1 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("hashCode"));
- *             m2 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("toString"));
- *             m3 = MethodDecorator.of(Class.forName("full-qualified-name-of-Bar").getMethod("bar"));
- *         } catch (Exception e) {
- *             // process exception here
- *         }
+ *         // MethodDecorator instances are resolved on first access via getMethodDecorator(int)
+ *         methodDecorators = new MethodDecorator[4];
  *     }
  *
  *     public $NewProxy0(InvocationInterceptor interceptor) {
@@ -351,7 +331,7 @@ import java.util.function.BiFunction;
  *
  *     public final boolean equals(Object o) {
  *         try {
- *             return (Boolean) this.interceptor.intercept(this, m0, new Object[]{o});
+ *             return (Boolean) this.interceptor.intercept1(this, getMethodDecorator(0), o);
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -359,7 +339,7 @@ import java.util.function.BiFunction;
  *
  *     public final int hashCode() {
  *         try {
- *             return (Integer) this.interceptor.intercept(this, m1, (Object[]) null);
+ *             return (Integer) this.interceptor.intercept0(this, getMethodDecorator(1));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -367,7 +347,7 @@ import java.util.function.BiFunction;
  *
  *     public final String toString() {
  *         try {
- *             return (String) this.interceptor.intercept(this, m2, (Object[]) null);
+ *             return (String) this.interceptor.intercept0(this, getMethodDecorator(2));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -375,26 +355,26 @@ import java.util.function.BiFunction;
  *
  *     public final void bar() {
  *         try {
- *             this.interceptor.intercept(this, m3, (Object[]) null);
+ *             this.interceptor.intercept0(this, getMethodDecorator(3));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
  *     }
  *
  *     public final Object dispatch(Object object, MethodDecorator method, Object[] args) throws Throwable {
- *         int var4 = method.getHashCode();
- *         int var4 = method.getHashCode();
- *         if (-1918826964 == var4) {
- *             return super.equals(args[0]);
- *         } else if (933549448 == var4) {
- *             return super.hashCode();
- *         } else if (-1451283457 == var4) {
- *             return super.toString();
- *         } else if (199555933 == var4) {
- *             super.bar();
- *             return null;
+ *         switch (method.getIndex()) {
+ *             case 0:
+ *                 return super.equals(args[0]);
+ *             case 1:
+ *                 return super.hashCode();
+ *             case 2:
+ *                 return super.toString();
+ *             case 3:
+ *                 super.bar();
+ *                 return null;
+ *             default:
+ *                 return null;
  *         }
- *         return null;
  *     }
  *
  * }
@@ -414,21 +394,12 @@ import java.util.function.BiFunction;
  * </pre></blockquote>
  * <blockquote><pre>
  * public final class $NewProxy0 extends Bar implements InvocationDispatcher {
- *     private static final MethodDecorator m0;
- *     private static final MethodDecorator m1;
- *     private static final MethodDecorator m2;
- *     private static final MethodDecorator m3;
+ *     private static final MethodDecorator[] methodDecorators;
  *     private final InvocationInterceptor interceptor;
  *
  *     static {
- *         try {
- *             m0 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("equals", Object.class));
- *             m1 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("hashCode"));
- *             m2 = MethodDecorator.of(Class.forName("java.lang.Object").getMethod("toString"));
- *             m3 = MethodDecorator.of(Class.forName("full-qualified-name-of-Bar").getMethod("bar"));
- *         } catch (Exception e) {
- *             // process exception here
- *         }
+ *         // MethodDecorator instances are resolved on first access via getMethodDecorator(int)
+ *         methodDecorators = new MethodDecorator[4];
  *     }
  *
  *     public $NewProxy0(InvocationInterceptor interceptor, String arg0) {
@@ -438,7 +409,7 @@ import java.util.function.BiFunction;
  *
  *     public final boolean equals(Object o) {
  *         try {
- *             return (Boolean) this.interceptor.intercept(this, m0, new Object[]{o});
+ *             return (Boolean) this.interceptor.intercept1(this, getMethodDecorator(0), o);
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -446,7 +417,7 @@ import java.util.function.BiFunction;
  *
  *     public final int hashCode() {
  *         try {
- *             return (Integer) this.interceptor.intercept(this, m1, (Object[]) null);
+ *             return (Integer) this.interceptor.intercept0(this, getMethodDecorator(1));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -454,7 +425,7 @@ import java.util.function.BiFunction;
  *
  *     public final String toString() {
  *         try {
- *             return (String) this.interceptor.intercept(this, m2, (Object[]) null);
+ *             return (String) this.interceptor.intercept0(this, getMethodDecorator(2));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
@@ -462,25 +433,26 @@ import java.util.function.BiFunction;
  *
  *     public final void bar() {
  *         try {
- *             this.interceptor.intercept(this, m3, (Object[]) null);
+ *             this.interceptor.intercept0(this, getMethodDecorator(3));
  *         } catch (Exception e) {
  *             // process exception here
  *         }
  *     }
  *
  *     public final Object dispatch(Object object, MethodDecorator method, Object[] args) throws Throwable {
- *         int var4 = method.getHashCode();
- *         if (-1918826964 == var4) {
- *             return super.equals(args[0]);
- *         } else if (933549448 == var4) {
- *             return super.hashCode();
- *         } else if (-1451283457 == var4) {
- *             return super.toString();
- *         } else if (199555933 == var4) {
- *             super.bar();
- *             return null;
+ *         switch (method.getIndex()) {
+ *             case 0:
+ *                 return super.equals(args[0]);
+ *             case 1:
+ *                 return super.hashCode();
+ *             case 2:
+ *                 return super.toString();
+ *             case 3:
+ *                 super.bar();
+ *                 return null;
+ *             default:
+ *                 return null;
  *         }
- *         return null;
  *     }
  *
  * }
@@ -493,6 +465,10 @@ import java.util.function.BiFunction;
  *     <li>A proxy class can be acquired by invoking {@link #getProxyClass(ClassLoader, Class[], Class[])}.</li>
  *     <li>A proxy instance can be acquired by invoking
  *     {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[])}.</li>
+ *     <li>A factory to create proxy instances repeatedly can be acquired by invoking
+ *     {@link #factory(ClassLoader, Class[], Class[])}.</li>
+ *     <li>Proxy classes can be generated in background in advance by invoking
+ *     {@link #prewarm(ClassLoader, Collection, Executor)}.</li>
  *     <li>Checks if an object is a proxy instance or not by invoking {@link #isProxyInstance(Object)}.</li>
  *     <li>Checks if a {@code Class} object is a proxy class or not by invoking {@link #isProxyClass(Class)}</li>
  *     <li>Acquires the invocation handler instance from a proxy instance by invoking
@@ -500,12 +476,12 @@ import java.util.function.BiFunction;
  * </ul>
  * <br/>
  * <h3>Underlying Supports</h3>
- * {@link NewProxy} generates dynamic proxy class through {@link ProxyGenerator} which depends on {@code Byte Code
- * Engineering Library} (simply called <a href="https://commons.apache.org/proper/commons-bcel/">BCEL</a>). BCEL is
- * intended to give users a convenient way to analyze, create and manipulate (binary) Java Class files (those ending
- * with .class). Classes are represented by objects which contain all the symbolic information of the given class:
- * methods, fields and byte code instructions, in particular. {@code JDK} embeds core of {@code BCEL} in package
- * {@code com.sun.org.apache.bcel.internal}
+ * {@link NewProxy} generates dynamic proxy class through {@link ProxyGenerator}, which writes class files of proxy
+ * classes directly into reusable buffers by default, without any dependency at runtime. Alternatively, with system
+ * property {@value Constants#STRING_BACKEND} set to {@code bcel}, proxy classes are built via {@code Byte Code
+ * Engineering Library} (simply called <a href="https://commons.apache.org/proper/commons-bcel/">BCEL</a>), which must
+ * be on the classpath then. BCEL is intended to give users a convenient way to analyze, create and manipulate
+ * (binary) Java Class files (those ending with .class).
  * <a href="https://commons.apache.org/proper/commons-bcel/">More information here!</a>
  *
  * @author Lam Tong
@@ -520,48 +496,41 @@ public final class NewProxy {
     }
 
     /**
-     * holder of arguments' type for dynamic proxy class generation
+     * a cache of proxy classes, looked up by the specification of proxy classes
      */
-    static final ThreadLocal<Class<?>[]> ARG_TYPES = new ThreadLocal<>();
+    private static final WeakCache<ClassLoader, GenerationContext, Class<?>> proxyClassCache =
+            new WeakCache<>(new KeyFactory(), new ProxyClassFactory());
 
     /**
-     * a cache of proxy classes
+     * marker of proxy classes, which is unset for any class by default and set by {@link ProxyClassFactory} right
+     * after a proxy class is defined, before the proxy class is returned to anyone.
      */
-    private static final WeakCache<ClassLoader, Class<?>[], Class<?>> proxyClassCache =
-            new WeakCache<>(new KeyFactory(), new ProxyClassFactory());
+    private static final ClassValue<AtomicBoolean> proxyClassMarker = new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
 
     /**
-     * a method to define class via {@link Proxy#defineClass0(ClassLoader, String, byte[], int, int)}
+     * canonical order of classes for a proxy class, base class first, and then interfaces sorted by name
      */
-    private static Method defineClass;
-
-    static {
-        // static initializer to acquire a Method object in Proxy with the name "defineClass0"
-        // to define Class from generated bytes.
-        Class<Proxy> clazz = Proxy.class;
-        Method[] methods = clazz.getDeclaredMethods();
-        for (Method method : methods) {
-            int modifiers = method.getModifiers();
-            if ("defineClass0".equals(method.getName()) &&
-                    Modifier.isNative(modifiers) && Modifier.isPrivate(modifiers) && Modifier.isStatic(modifiers)) {
-                method.setAccessible(true);
-                defineClass = method;
-                break;
-            }
-        }
-        if (defineClass == null) {
-            throw new RuntimeException("can not define dynamic proxy class");
-        }
-    }
+    static final Comparator<Class<?>> CANONICAL_ORDER =
+            Comparator.<Class<?>, Boolean>comparing(Class::isInterface).thenComparing(Class::getName);
+
+    /**
+     * strategy to define generated proxy classes, which depends on the running JVM
+     */
+    private static final ClassDefiner classDefiner = ClassDefiner.getInstance();
 
     /**
      * Returns the {@link java.lang.Class} object for a proxy class given a class loader and an array of
      * interfaces, with one base class at most. The proxy class will be defined by the specified class loader
      * and will implement all the supplied interfaces, and will extend the supplied base class if it exists.
      * If any of the given interfaces or class is non-public, the proxy class will be non-public. If a proxy class
-     * for the same permutation has already been defined by the class loader, then the existing class
-     * will be returned; otherwise, a proxy class for those interfaces (and class if it exists) will be generated
-     * dynamically and defined by the class loader.<br/>
+     * for the same classes, in any order, and the same constructor argument types has already been defined by
+     * the class loader, then the existing class will be returned; otherwise, a proxy class for those interfaces
+     * (and class if it exists) will be generated dynamically and defined by the class loader.<br/>
      * If the generated proxy class extends a class, then constructor of the proxy class should invoke
      * constructor of the superclass first (not the constructor of class {@code Object}). Otherwise, the proxy class
      * only invokes the constructor of class {@code Object}. And if the superclass has a constructor with arguments,
@@ -637,34 +606,65 @@ public final class NewProxy {
      *                                  </ul>
      * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null}.
      */
-    @SuppressWarnings(value = {"DuplicatedCode"})
-    @CallerSensitive
     public static Class<?> getProxyClass(ClassLoader classLoader,
                                          Class<?>[] argTypes,
                                          Class<?>... classes) {
-        if (argTypes == null) {
-            argTypes = new Class[0];
-        }
-        Objects.requireNonNull(classes);
-        if (classes.length == 0) {
-            throw new IllegalArgumentException("classes.length == 0");
-        }
-        if (!checkClasses(classes)) {
-            throw new IllegalArgumentException("classes contains more than one class");
-        }
-        final Class<?>[] clonedClasses = new Class[classes.length];
-        System.arraycopy(classes, 0, clonedClasses, 0, classes.length);
         final SecurityManager sm = System.getSecurityManager();
-        if (sm != null) {
-            checkProxyAccess(Reflection.getCallerClass(), classLoader, classes);
-        }
-        ARG_TYPES.set(argTypes);
+        return getProxyClass(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, argTypes, null, classes);
+    }
+
+    /**
+     * Returns the {@link java.lang.Class} object for a proxy class given a class loader and an array of interfaces,
+     * with one base class at most, whose methods rejected by the specified {@link MethodFilter} are not intercepted.
+     * Behaves as the same as {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} otherwise.<br/>
+     * The filter is part of the specification of the proxy class. Filters of the same class without instance fields
+     * share the proxy class. <b>A filter with instance fields, such as a capturing lambda, is compared by identity,
+     * so a new instance per call generates and defines a new proxy class per call; reuse the same instance
+     * instead.</b>
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor when dynamic proxy class
+     *                    extends a class, and that class has a constructor with parameters
+     * @param filter      the filter to select methods to be intercepted, or {@code null} to intercept all methods
+     * @param classes     the list of classes for the proxy class to implement or extend
+     * @return a proxy class that is defined in the specified class loader and that implements the specified classes,
+     * and may extends class.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} are
+     *                                  violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} is met.
+     * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null}.
+     * @see MethodFilter
+     */
+    public static Class<?> getProxyClass(ClassLoader classLoader,
+                                         Class<?>[] argTypes,
+                                         MethodFilter filter,
+                                         Class<?>... classes) {
+        final SecurityManager sm = System.getSecurityManager();
+        return getProxyClass(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, argTypes, filter, classes);
+    }
+
+    /**
+     * Validates the specified classes and performs permission checks for the caller, and then returns the proxy class.
+     *
+     * @param caller      caller of public methods, which is required when a security manager is present
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor
+     * @param filter      the filter to select methods to be intercepted, may be {@code null}
+     * @param classes     the list of classes for the proxy class to implement or extend
+     * @return a proxy class.
+     */
+    private static Class<?> getProxyClass(Class<?> caller,
+                                          ClassLoader classLoader,
+                                          Class<?>[] argTypes,
+                                          MethodFilter filter,
+                                          Class<?>[] classes) {
+        Class<?>[] clonedClasses = checkProxyClasses(caller, classLoader, classes);
         try {
-            return getProxyClass0(classLoader, clonedClasses);
+            return getProxyClass0(classLoader, argTypes, filter, 1, false, clonedClasses);
         } catch (Exception e) {
             throw new RuntimeException(e);
-        } finally {
-            ARG_TYPES.remove();
         }
     }
 
@@ -712,45 +712,208 @@ public final class NewProxy {
      * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null},
      *                                  or the invocation interceptor, {@code interceptor}, is {@code null}.
      */
-    @SuppressWarnings(value = {"DuplicatedCode"})
-    @CallerSensitive
     public static Object newProxyInstance(ClassLoader classLoader,
                                           InvocationInterceptor interceptor,
                                           Class<?>[] argTypes,
                                           Object[] args,
                                           Class<?>... classes) {
-        if (argTypes == null) {
-            argTypes = new Class[0];
+        final SecurityManager sm = System.getSecurityManager();
+        Objects.requireNonNull(interceptor);
+        return newProxyInstance(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, new InvocationInterceptor[]{interceptor}, null, null, argTypes, args, classes);
+    }
+
+    /**
+     * Returns an instance of a dynamic proxy class for the specified interfaces and class, whose methods rejected by
+     * the specified {@link MethodFilter} are not intercepted. Behaves as the same as
+     * {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[]) newProxyInstance}
+     * otherwise.<br/>
+     * The filter selects the proxy class as described in
+     * {@link #getProxyClass(ClassLoader, Class[], MethodFilter, Class[]) getProxyClass}, including how filters with
+     * instance fields are compared.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param interceptor the invocation interceptor to dispatch method invocations to
+     * @param filter      the filter to select methods to be intercepted, or {@code null} to intercept all methods
+     * @param argTypes    the list of argument types for the proxy class's constructor when dynamic proxy class extends
+     *                    a class, and that class has a constructor with parameters
+     * @param args        the list of arguments for the proxy class's constructor when dynamic proxy class extends
+     *                    a class
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @return a proxy instance with the specified invocation interceptor of a proxy class that is defined by
+     * the specified class loader and that implements the specified interfaces, and may extend the specified class.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to this method
+     *                                  are violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[],
+     *                                  Class[]) newProxyInstance} is met.
+     * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null},
+     *                                  or the invocation interceptor, {@code interceptor}, is {@code null}.
+     * @see MethodFilter
+     */
+    public static Object newProxyInstance(ClassLoader classLoader,
+                                          InvocationInterceptor interceptor,
+                                          MethodFilter filter,
+                                          Class<?>[] argTypes,
+                                          Object[] args,
+                                          Class<?>... classes) {
+        final SecurityManager sm = System.getSecurityManager();
+        Objects.requireNonNull(interceptor);
+        return newProxyInstance(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, new InvocationInterceptor[]{interceptor}, filter, null, argTypes, args, classes);
+    }
+
+    /**
+     * Returns an instance of a dynamic proxy class for the specified interfaces and class, whose method invocations
+     * pass through the specified chain of invocation interceptors in order. Behaves as the same as
+     * {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[]) newProxyInstance}
+     * otherwise.<br/>
+     * Method invocation on the proxy instance is dispatched to the first interceptor in the chain. When an interceptor
+     * invokes the {@link MethodDecorator} instance it receives, such as via
+     * {@link MethodDecorator#invoke(Object, Object, Object...)}, the invocation proceeds to the next interceptor in the
+     * chain, and the last interceptor invokes the target object or the superclass as usual. The object passed by
+     * interceptors other than the last one is ignored.<br/>
+     * The chain is compiled into the proxy class, which holds each interceptor in its own field and invokes it from
+     * its own call site, instead of nesting interceptors one in another. The first interceptor is invoked from the
+     * method of the proxy class directly. The following ones are invoked from the {@link InvocationDispatcher}
+     * methods of the proxy class, which switch on {@link MethodDecorator#getStage()} before dispatching by the
+     * index of the method, so the call site of each of them is shared by all methods of the proxy class, and
+     * receives the arguments passed by the previous interceptor. Proxy classes are cached by the length of the chain,
+     * so chains of the same length share the same proxy class.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param chain       the chain of invocation interceptors to dispatch method invocations to, in order
+     * @param argTypes    the list of argument types for the proxy class's constructor when dynamic proxy class extends
+     *                    a class, and that class has a constructor with parameters
+     * @param args        the list of arguments for the proxy class's constructor when dynamic proxy class extends
+     *                    a class
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @return a proxy instance with the specified chain of invocation interceptors of a proxy class that is defined
+     * by the specified class loader and that implements the specified interfaces, and may extend the specified class.
+     * @throws IllegalArgumentException if the chain is empty, or any of the restrictions on the parameters that may be
+     *                                  passed to {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[],
+     *                                  Object[], Class[]) newProxyInstance} are violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[],
+     *                                  Class[]) newProxyInstance} is met.
+     * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null},
+     *                                  or the chain or any of its elements are {@code null}.
+     */
+    public static Object newProxyInstance(ClassLoader classLoader,
+                                          InvocationInterceptor[] chain,
+                                          Class<?>[] argTypes,
+                                          Object[] args,
+                                          Class<?>... classes) {
+        final SecurityManager sm = System.getSecurityManager();
+        InvocationInterceptor[] clonedChain = chain.clone();
+        if (clonedChain.length == 0) {
+            throw new IllegalArgumentException("chain.length == 0");
         }
-        if (args == null) {
-            args = new Object[0];
+        for (InvocationInterceptor interceptor : clonedChain) {
+            Objects.requireNonNull(interceptor);
         }
+        return newProxyInstance(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, clonedChain, null, null, argTypes, args, classes);
+    }
+
+    /**
+     * Returns an instance of a delegating proxy class for the specified interfaces, which holds the specified target
+     * and dispatches method invocations to the target directly via {@code invokeinterface}. Behaves as the same as
+     * {@link #newProxyInstance(ClassLoader, InvocationInterceptor, MethodFilter, Class[], Object[], Class[])
+     * newProxyInstance} otherwise.<br/>
+     * Methods rejected by the specified filter invoke the target directly without the interceptor, which costs about
+     * one virtual call. Methods accepted by the filter are intercepted as usual, and the interceptor proceeds to the
+     * target by passing either the target or {@code null} as the object to
+     * {@link MethodDecorator#invoke(Object, Object, Object...)}, which invokes the target via {@code invokeinterface}
+     * as well.<br/>
+     * Methods {@code equals}, {@code hashCode} and {@code toString} from {@link Object} are never delegated to the
+     * target. If they are rejected by the filter, the proxy instance inherits them from {@link Object}. If they are
+     * intercepted, {@link MethodDecorator#invoke(Object, Object, Object...)} invokes the implementations of
+     * {@link Object} on the proxy instance, whatever the object passed. Thus, a delegating proxy instance is only equal
+     * to itself, unless the interceptor invokes these methods on the target explicitly.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param interceptor the invocation interceptor to dispatch method invocations to
+     * @param filter      the filter to select methods to be intercepted, or {@code null} to intercept all methods
+     * @param target      the target to dispatch method invocations to, which implements all the specified interfaces
+     * @param interfaces  the list of interfaces for the proxy class to implement
+     * @return a proxy instance with the specified invocation interceptor and target of a proxy class that is defined
+     * by the specified class loader and that implements the specified interfaces.
+     * @throws IllegalArgumentException if any of the specified classes is not an interface, the target does not
+     *                                  implement all the specified interfaces, or any of the restrictions on the
+     *                                  parameters that may be passed to {@link #newProxyInstance(ClassLoader,
+     *                                  InvocationInterceptor, Class[], Object[], Class[]) newProxyInstance} are
+     *                                  violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[],
+     *                                  Class[]) newProxyInstance} is met.
+     * @throws NullPointerException     if the {@code interfaces} array argument or any of its elements are
+     *                                  {@code null}, or the invocation interceptor or the target is {@code null}.
+     * @see MethodFilter
+     */
+    public static Object newDelegatingProxyInstance(ClassLoader classLoader,
+                                                    InvocationInterceptor interceptor,
+                                                    MethodFilter filter,
+                                                    Object target,
+                                                    Class<?>... interfaces) {
+        final SecurityManager sm = System.getSecurityManager();
         Objects.requireNonNull(interceptor);
-        Objects.requireNonNull(classes);
-        if (classes.length == 0) {
-            throw new IllegalArgumentException("classes.length == 0");
+        Objects.requireNonNull(target);
+        for (Class<?> anInterface : interfaces) {
+            if (!anInterface.isInterface()) {
+                throw new IllegalArgumentException(anInterface.getName() + " is not an interface");
+            }
+            if (!anInterface.isInstance(target)) {
+                throw new IllegalArgumentException("target does not implement " + anInterface.getName());
+            }
         }
-        if (!checkClasses(classes)) {
-            throw new IllegalArgumentException("classes contains more than one class");
+        return newProxyInstance(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, new InvocationInterceptor[]{interceptor}, filter, target, null, null, interfaces);
+    }
+
+    /**
+     * Validates the specified classes and performs permission checks for the caller, and then returns a proxy
+     * instance.
+     *
+     * @param caller      caller of public methods, which is required when a security manager is present
+     * @param classLoader the class loader to define the proxy class
+     * @param chain       the non-empty chain of invocation interceptors to dispatch method invocations to
+     * @param filter      the filter to select methods to be intercepted, may be {@code null}
+     * @param target      the target of delegating proxy class, or {@code null} for other proxy classes
+     * @param argTypes    the list of argument types for the proxy class's constructor
+     * @param args        the list of arguments for the proxy class's constructor
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @return a proxy instance.
+     */
+    private static Object newProxyInstance(Class<?> caller,
+                                           ClassLoader classLoader,
+                                           InvocationInterceptor[] chain,
+                                           MethodFilter filter,
+                                           Object target,
+                                           Class<?>[] argTypes,
+                                           Object[] args,
+                                           Class<?>[] classes) {
+        if (argTypes == null) {
+            argTypes = new Class[0];
         }
-        final Class<?>[] clonedClasses = new Class[classes.length];
-        System.arraycopy(classes, 0, clonedClasses, 0, classes.length);
-        final SecurityManager sm = System.getSecurityManager();
-        if (sm != null) {
-            checkProxyAccess(Reflection.getCallerClass(), classLoader, classes);
+        if (args == null) {
+            args = new Object[0];
         }
-        ARG_TYPES.set(argTypes);
+        Class<?>[] clonedClasses = checkProxyClasses(caller, classLoader, classes);
         try {
-            Class<?> generatedProxyClass = getProxyClass0(classLoader, clonedClasses);
-            if (sm != null) {
-                checkNewProxyPermission(Reflection.getCallerClass(), generatedProxyClass);
+            Class<?> generatedProxyClass = getProxyClass0(classLoader, argTypes, filter, chain.length, target != null, clonedClasses);
+            if (caller != null) {
+                checkNewProxyPermission(caller, generatedProxyClass);
+            }
+            // constructor of the proxy class takes interceptors in the chain first, then the target of delegating
+            // proxy class, and then arguments of the constructor of the base class
+            int leading = target == null ? chain.length : chain.length + 1;
+            Class<?>[] clonedParameterTypes = new Class[argTypes.length + leading];
+            System.arraycopy(argTypes, 0, clonedParameterTypes, leading, argTypes.length);
+            Arrays.fill(clonedParameterTypes, 0, chain.length, InvocationInterceptor.class);
+            Object[] clonedParameters = new Object[args.length + leading];
+            System.arraycopy(args, 0, clonedParameters, leading, args.length);
+            System.arraycopy(chain, 0, clonedParameters, 0, chain.length);
+            if (target != null) {
+                clonedParameterTypes[chain.length] = Object.class;
+                clonedParameters[chain.length] = target;
             }
-            Class<?>[] clonedParameterTypes = new Class[argTypes.length + 1];
-            System.arraycopy(argTypes, 0, clonedParameterTypes, 1, argTypes.length);
-            clonedParameterTypes[0] = InvocationInterceptor.class;
-            Object[] clonedParameters = new Object[args.length + 1];
-            System.arraycopy(args, 0, clonedParameters, 1, args.length);
-            clonedParameters[0] = interceptor;
             Constructor<?> constructor = generatedProxyClass.getConstructor(clonedParameterTypes);
             // Access control is required whether the constructor is public or not.
             // Especially when specified classes contain non-public classes,
@@ -771,27 +934,236 @@ public final class NewProxy {
             } else {
                 throw new InternalError(t.toString(), t);
             }
-        } finally {
-            ARG_TYPES.remove();
         }
     }
 
+    /**
+     * Returns a {@link ProxyFactory} to create proxy instances of a dynamic proxy class for the specified interfaces
+     * and class repeatedly. The specified classes are validated, and the proxy class and its constructor are acquired
+     * only once when the factory is created, so that creating proxy instances via
+     * {@link ProxyFactory#newInstance(InvocationInterceptor, Object...)} involves no {@code Reflection} API.<br/>
+     * This method throws {@link IllegalArgumentException} for the same reasons that
+     * {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} does, and performs the same permission
+     * checks as {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[])
+     * newProxyInstance} does, but only once for the caller of this method.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor when dynamic proxy class extends
+     *                    a class, and that class has a constructor with parameters
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @param <T>         type of proxy instances
+     * @return a {@link ProxyFactory} to create proxy instances of a proxy class that is defined by the specified class
+     * loader and that implements the specified interfaces, and may extend the specified class.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to this method
+     *                                  are violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[],
+     *                                  Class[]) newProxyInstance} is met.
+     * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null}.
+     */
+    public static <T> ProxyFactory<T> factory(ClassLoader classLoader,
+                                              Class<?>[] argTypes,
+                                              Class<?>... classes) {
+        final SecurityManager sm = System.getSecurityManager();
+        return factory(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, argTypes, null, classes);
+    }
+
+    /**
+     * Returns a {@link ProxyFactory} to create proxy instances of a dynamic proxy class for the specified interfaces
+     * and class repeatedly, whose methods rejected by the specified {@link MethodFilter} are not intercepted. Behaves
+     * as the same as {@link #factory(ClassLoader, Class[], Class[]) factory} otherwise.<br/>
+     * The filter selects the proxy class as described in
+     * {@link #getProxyClass(ClassLoader, Class[], MethodFilter, Class[]) getProxyClass}, including how filters with
+     * instance fields are compared.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor when dynamic proxy class extends
+     *                    a class, and that class has a constructor with parameters
+     * @param filter      the filter to select methods to be intercepted, or {@code null} to intercept all methods
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @param <T>         type of proxy instances
+     * @return a {@link ProxyFactory} to create proxy instances of a proxy class that is defined by the specified class
+     * loader and that implements the specified interfaces, and may extend the specified class.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to this method
+     *                                  are violated.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[],
+     *                                  Class[]) newProxyInstance} is met.
+     * @throws NullPointerException     if the {@code classes} array argument or any of its elements are {@code null}.
+     * @see MethodFilter
+     */
+    public static <T> ProxyFactory<T> factory(ClassLoader classLoader,
+                                              Class<?>[] argTypes,
+                                              MethodFilter filter,
+                                              Class<?>... classes) {
+        final SecurityManager sm = System.getSecurityManager();
+        return factory(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, argTypes, filter, classes);
+    }
+
+    /**
+     * Validates the specified classes and performs permission checks for the caller, and then returns a
+     * {@link ProxyFactory}.
+     *
+     * @param caller      caller of public methods, which is required when a security manager is present
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor
+     * @param filter      the filter to select methods to be intercepted, may be {@code null}
+     * @param classes     the list of interfaces and class for the proxy class to implement
+     * @param <T>         type of proxy instances
+     * @return a {@link ProxyFactory} instance.
+     */
+    private static <T> ProxyFactory<T> factory(Class<?> caller,
+                                               ClassLoader classLoader,
+                                               Class<?>[] argTypes,
+                                               MethodFilter filter,
+                                               Class<?>[] classes) {
+        if (argTypes == null) {
+            argTypes = new Class[0];
+        }
+        Class<?>[] clonedClasses = checkProxyClasses(caller, classLoader, classes);
+        Class<?> generatedProxyClass = getProxyClass0(classLoader, argTypes, filter, 1, false, clonedClasses);
+        if (caller != null) {
+            checkNewProxyPermission(caller, generatedProxyClass);
+        }
+        return new ProxyFactory<>(generatedProxyClass, argTypes.clone());
+    }
+
+    /**
+     * Generates and defines proxy classes for the specified list of classes in background, via the common pool of
+     * {@link ForkJoinPool}. Behaves as the same as {@link #prewarm(ClassLoader, Collection, Executor)} otherwise.
+     *
+     * @param classLoader    the class loader to define the proxy classes
+     * @param specifications the list of interfaces and class for each proxy class to implement or extend
+     * @return a {@link CompletableFuture} which is completed when all proxy classes are defined.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} are
+     *                                  violated by any of the specifications.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} is met.
+     * @throws NullPointerException     if the {@code specifications} argument or any of its elements are {@code null}.
+     * @see #prewarm(ClassLoader, Collection, Executor)
+     */
+    public static CompletableFuture<Void> prewarm(ClassLoader classLoader,
+                                                  Collection<Class<?>[]> specifications) {
+        final SecurityManager sm = System.getSecurityManager();
+        return prewarm0(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, specifications, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates and defines proxy classes for the specified list of classes in background, so that later invocations
+     * on {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass},
+     * {@link #newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[]) newProxyInstance} or
+     * {@link #factory(ClassLoader, Class[], Class[]) factory} for the same classes only hit the cache of proxy classes.
+     * <br/>
+     * Each element of {@code specifications} is the list of interfaces and class for a proxy class, and the proxy
+     * class's constructor takes the invocation interceptor only besides arguments for the default constructor of
+     * the class, if it exists. All specifications are validated and permission checks are performed in the caller
+     * thread, while proxy classes are generated concurrently by the {@code executor}. If generation of any proxy
+     * class fails, the returned future will be completed exceptionally.
+     *
+     * @param classLoader    the class loader to define the proxy classes
+     * @param specifications the list of interfaces and class for each proxy class to implement or extend
+     * @param executor       the executor to generate proxy classes
+     * @return a {@link CompletableFuture} which is completed when all proxy classes are defined.
+     * @throws IllegalArgumentException if any of the restrictions on the parameters that may be passed to
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} are
+     *                                  violated by any of the specifications.
+     * @throws SecurityException        if a security manager is present, and any of the conditions described in
+     *                                  {@link #getProxyClass(ClassLoader, Class[], Class[]) getProxyClass} is met.
+     * @throws NullPointerException     if the {@code specifications} argument or any of its elements are {@code null},
+     *                                  or the {@code executor} is {@code null}.
+     */
+    public static CompletableFuture<Void> prewarm(ClassLoader classLoader,
+                                                  Collection<Class<?>[]> specifications,
+                                                  Executor executor) {
+        final SecurityManager sm = System.getSecurityManager();
+        return prewarm0(sm != null ? SecuritySupport.getCallerClass() : null, classLoader, specifications, executor);
+    }
+
+    /**
+     * Validates specifications and performs permission checks for the caller, and then generates proxy classes
+     * via the {@code executor}.
+     *
+     * @param caller         caller of prewarm methods, which is required when a security manager is present
+     * @param classLoader    the class loader to define the proxy classes
+     * @param specifications the list of interfaces and class for each proxy class to implement or extend
+     * @param executor       the executor to generate proxy classes
+     * @return a {@link CompletableFuture} which is completed when all proxy classes are defined.
+     */
+    private static CompletableFuture<Void> prewarm0(Class<?> caller,
+                                                    ClassLoader classLoader,
+                                                    Collection<Class<?>[]> specifications,
+                                                    Executor executor) {
+        Objects.requireNonNull(specifications);
+        Objects.requireNonNull(executor);
+        List<Class<?>[]> clonedSpecifications = new ArrayList<>(specifications.size());
+        for (Class<?>[] classes : specifications) {
+            clonedSpecifications.add(checkProxyClasses(caller, classLoader, classes));
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture[clonedSpecifications.size()];
+        for (int i = 0; i < futures.length; i++) {
+            final Class<?>[] classes = clonedSpecifications.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> getProxyClass0(classLoader, null, null, 1, false, classes), executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Validates the specified classes, and performs permission checks for the caller if a security manager is present.
+     *
+     * @param caller      caller of public methods, or {@code null} if no security manager is present
+     * @param classLoader the class loader to define the proxy class
+     * @param classes     classes to generate a proxy class
+     * @return a copy of the specified classes.
+     * @throws IllegalArgumentException if the specified classes are empty or contain more than one class
+     * @throws NullPointerException     if the specified classes are {@code null}
+     */
+    private static Class<?>[] checkProxyClasses(Class<?> caller,
+                                                ClassLoader classLoader,
+                                                Class<?>[] classes) {
+        Objects.requireNonNull(classes);
+        if (classes.length == 0) {
+            throw new IllegalArgumentException("classes.length == 0");
+        }
+        if (!checkClasses(classes)) {
+            throw new IllegalArgumentException("classes contains more than one class");
+        }
+        final Class<?>[] clonedClasses = new Class[classes.length];
+        System.arraycopy(classes, 0, clonedClasses, 0, classes.length);
+        if (caller != null) {
+            checkProxyAccess(caller, classLoader, classes);
+        }
+        return clonedClasses;
+    }
+
     /**
      * Generates a proxy class. Must call the {@link #checkProxyAccess(Class, ClassLoader, Class[]) checkProxyAccess}
      * to perform permission checks before calling this.
      *
      * @param classLoader the class loader to define the proxy class
+     * @param argTypes    the list of argument types for the proxy class's constructor, may be {@code null}
+     * @param filter      the filter to select methods to be intercepted, may be {@code null}
+     * @param chainLength number of interceptors in the chain of the proxy class
+     * @param delegating  whether the proxy class is a delegating proxy class holding a target
      * @param classes     classes to generate a proxy class
      * @return a proxy class defined by the given class loader and classes.
      */
     private static Class<?> getProxyClass0(ClassLoader classLoader,
+                                           Class<?>[] argTypes,
+                                           MethodFilter filter,
+                                           int chainLength,
+                                           boolean delegating,
                                            Class<?>... classes) {
         if (classes.length > 65535) {
             throw new IllegalArgumentException("classes limit exceeded");
         }
+        if (classes.length > 1) {
+            // base class first, and then interfaces sorted by name, so that permutations share one proxy class
+            Arrays.sort(classes, CANONICAL_ORDER);
+        }
         // If the proxy class defined by the given loader implementing the given classes exists, this will
         // simply return the cached copy; otherwise, it will create the proxy class via the ProxyClassFactory
-        return proxyClassCache.get(classLoader, classes);
+        return proxyClassCache.get(classLoader, new GenerationContext(classes, argTypes, filter, chainLength, delegating));
     }
 
     /**
@@ -819,6 +1191,8 @@ public final class NewProxy {
      *     <li>the generated class implements interface {@link InvocationDispatcher}, which dispatches method
      *     invocations.</li>
      * </ol>
+     * Besides, the class must be defined by {@link NewProxy}. Proxy classes are marked when they are defined, so that
+     * checks take constant time without allocation after the first one for each class.
      *
      * @param clazz the class to test
      * @return true if and only if the specified class was dynamically generated to be a dynamic proxy class;
@@ -827,11 +1201,7 @@ public final class NewProxy {
      */
     public static boolean isProxyClass(Class<?> clazz) {
         Objects.requireNonNull(clazz);
-        Proxied proxied = clazz.getAnnotation(Proxied.class);
-        if (proxied == null) {
-            return false;
-        }
-        return InvocationDispatcher.class.isAssignableFrom(clazz) && proxyClassCache.containsValue(clazz);
+        return proxyClassMarker.get(clazz).get();
     }
 
     /**
@@ -849,29 +1219,21 @@ public final class NewProxy {
     }
 
     /**
-     * Returns the invocation interceptor for the specified proxy instance.
+     * Returns the invocation interceptor for the specified proxy instance, which is the first one of the chain if the
+     * proxy class has an interceptor chain. The interceptor is returned by the proxy instance via
+     * {@link InterceptorAccessor} without reflection.
      *
      * @param o the proxy instance to return the invocation interceptor for
      * @return the invocation interceptor for the specified proxy instance
-     * @throws NoSuchFieldException   if specified {@code o} does not contain a field named {@code "interceptor"}.
-     * @throws IllegalAccessException if the invocation interceptor can't be accessed via {@code Reflection} API.
+     * @throws IllegalArgumentException if specified {@code o} is not a proxy instance.
+     * @throws NullPointerException     if specified {@code o} is {@code null}.
      */
-    @CallerSensitive
-    public static InvocationInterceptor getInvocationInterceptor(Object o)
-            throws NoSuchFieldException,
-            IllegalAccessException {
+    public static InvocationInterceptor getInvocationInterceptor(Object o) {
         Objects.requireNonNull(o);
-        Class<?> clazz = o.getClass();
-        if (!isProxyClass(clazz)) {
+        if (!(o instanceof InterceptorAccessor) || !isProxyClass(o.getClass())) {
             throw new IllegalArgumentException("not a proxy instance");
         }
-        Field field = clazz.getDeclaredField(Constants.FIELD_INTERCEPTOR);
-        field.setAccessible(true);
-        Object obj = field.get(o);
-        if (!(obj instanceof InvocationInterceptor)) {
-            throw new IllegalArgumentException("wrong type of field \"interceptor\"");
-        }
-        return (InvocationInterceptor) obj;
+        return ((InterceptorAccessor) o).getInvocationInterceptor();
     }
 
     /**
@@ -897,18 +1259,44 @@ public final class NewProxy {
         SecurityManager sm = System.getSecurityManager();
         if (sm != null) {
             ClassLoader ccl = caller.getClassLoader();
-            if (VM.isSystemDomainLoader(loader) && !VM.isSystemDomainLoader(ccl)) {
-                sm.checkPermission(SecurityConstants.GET_CLASSLOADER_PERMISSION);
+            if (SecuritySupport.isSystemDomainLoader(loader) && !SecuritySupport.isSystemDomainLoader(ccl)) {
+                sm.checkPermission(new RuntimePermission("getClassLoader"));
+            }
+            for (Class<?> aClass : classes) {
+                // as java.lang.reflect.Proxy, the package access check is skipped if the class is defined by the
+                // caller's class loader or one of its descendants
+                ClassLoader cl = aClass.getClassLoader();
+                int n = aClass.getName().lastIndexOf('.');
+                if (n != -1 && ccl != null && ccl != cl && (cl == null || !isAncestor(ccl, cl))) {
+                    sm.checkPackageAccess(aClass.getName().substring(0, n));
+                }
             }
-            ReflectUtil.checkProxyPackageAccess(ccl, classes);
         }
     }
 
+    /**
+     * Returns whether the first class loader is an ancestor of the second one or not.
+     *
+     * @param ancestor a class loader
+     * @param loader   another class loader
+     * @return {@code true} if the first class loader is an ancestor of the second one.
+     */
+    static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
+            for (ClassLoader parent = loader.getParent(); parent != null; parent = parent.getParent()) {
+                if (parent == ancestor) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
     private static void checkNewProxyPermission(Class<?> caller,
                                                 Class<?> proxyClass) {
         SecurityManager sm = System.getSecurityManager();
         if (sm != null) {
-            if (ReflectUtil.isNonPublicProxyClass(proxyClass)) {
+            if (!Modifier.isPublic(proxyClass.getModifiers())) {
                 ClassLoader ccl = caller.getClassLoader();
                 ClassLoader pcl = proxyClass.getClassLoader();
 
@@ -926,6 +1314,199 @@ public final class NewProxy {
         }
     }
 
+    /**
+     * Returns the cache of proxy classes, whose statistics are reported by {@link NewProxyStats}.
+     *
+     * @return the cache of proxy classes.
+     */
+    static WeakCache<ClassLoader, GenerationContext, Class<?>> getProxyClassCache() {
+        return proxyClassCache;
+    }
+
+    /**
+     * Returns the package of the proxy class for the specified classes, ending with {@code "."}. If any of the classes
+     * is non-public, the proxy class will be defined in the same package as that class, so that all non-public
+     * classes must be in the same package. Otherwise, the package of {@link NewProxy} is used.
+     *
+     * @param classes classes to generate a proxy class
+     * @return the package of the proxy class.
+     * @throws IllegalArgumentException if non-public classes are from different packages
+     */
+    static String getProxyPackage(Class<?>[] classes) {
+        String proxyPkg = null;
+        /*
+         * Record the package of a non-public proxy interface or class so that the
+         * proxy class will be defined in the same package. Verify that
+         * all non-public proxy classes are in the same package.
+         *
+         * Generally, all non-public proxy interfaces or class should be in the same package.
+         */
+        for (Class<?> aClass : classes) {
+            if (!Modifier.isPublic(aClass.getModifiers())) {
+                String name = aClass.getName();
+                int n = name.lastIndexOf(".");
+                String pkg = (n == -1) ? "" : name.substring(0, n + 1);
+                if (proxyPkg == null) {
+                    proxyPkg = pkg;
+                } else if (!pkg.equals(proxyPkg)) {
+                    throw new IllegalArgumentException("non-public classes from different packages");
+                }
+            }
+        }
+        if (proxyPkg == null) {
+            // if no non-public proxy classes, use default package name
+            proxyPkg = NewProxy.class.getPackage() + ".";
+        }
+        if (proxyPkg.startsWith("package ")) {
+            proxyPkg = proxyPkg.substring(8);
+        }
+        return proxyPkg;
+    }
+
+    /**
+     * Returns the package of the proxy class for the specified classes to define in the specified class loader,
+     * ending with {@code "."}. Proxy classes of non-public classes, and of public classes in the class loader of
+     * {@link NewProxy}, are defined in the package returned by {@link #getProxyPackage(Class[])}. Otherwise, the
+     * proxy class is defined in the package of the foremost class in canonical order which is defined by the class
+     * loader, so that the class can be the host of the proxy class when {@link LookupClassDefiner} defines it.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param classes     classes to generate a proxy class, in canonical order
+     * @return the package of the proxy class.
+     * @throws IllegalArgumentException if non-public classes are from different packages
+     */
+    static String getProxyPackage(ClassLoader classLoader, Class<?>[] classes) {
+        String proxyPkg = getProxyPackage(classes);
+        if (classLoader != NewProxy.class.getClassLoader() && (getAccessFlags(classes) & Modifier.PUBLIC) != 0) {
+            for (Class<?> aClass : classes) {
+                String pkg = ClassDefiner.getPackage(aClass.getName());
+                // classes can not be defined in packages of java.* by class loaders other than the bootstrap one
+                if (aClass.getClassLoader() == classLoader && !pkg.startsWith("java.")) {
+                    return pkg;
+                }
+            }
+        }
+        return proxyPkg;
+    }
+
+    /**
+     * Returns the access flags of the proxy class for the specified classes, which is {@code public final} if all
+     * classes are public, and {@code final} otherwise.
+     *
+     * @param classes classes to generate a proxy class
+     * @return the access flags of the proxy class.
+     */
+    static int getAccessFlags(Class<?>[] classes) {
+        for (Class<?> aClass : classes) {
+            if (!Modifier.isPublic(aClass.getModifiers())) {
+                return Modifier.FINAL;
+            }
+        }
+        return Modifier.PUBLIC | Modifier.FINAL;
+    }
+
+    /**
+     * A key used for proxy class whose constructor takes arguments besides the invocation interceptor, takes a chain
+     * of interceptors or takes a target, which wraps the key of classes and weakly references the argument types,
+     * since different argument types, lengths of the chain or targets lead to different constructors of the proxy
+     * class.
+     */
+    private static final class ConstructorKey {
+
+        private final int hash;
+
+        private final Object key;
+
+        private final WeakReference<Class<?>>[] argTypes;
+
+        private final int chainLength;
+
+        private final boolean delegating;
+
+        @SuppressWarnings(value = {"unchecked"})
+        ConstructorKey(Object key, Class<?>[] argTypes, int chainLength, boolean delegating) {
+            this.hash = 31 * (31 * (31 * key.hashCode() + Arrays.hashCode(argTypes)) + chainLength) + Boolean.hashCode(delegating);
+            this.key = key;
+            this.argTypes = (WeakReference<Class<?>>[]) new WeakReference[argTypes.length];
+            for (int i = 0; i < argTypes.length; i++) {
+                this.argTypes[i] = new WeakReference<>(argTypes[i]);
+            }
+            this.chainLength = chainLength;
+            this.delegating = delegating;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj ||
+                    obj != null && obj.getClass() == ConstructorKey.class &&
+                            this.chainLength == ((ConstructorKey) obj).chainLength &&
+                            this.delegating == ((ConstructorKey) obj).delegating &&
+                            this.key.equals(((ConstructorKey) obj).key) &&
+                            KeyX.equals(this.argTypes, ((ConstructorKey) obj).argTypes);
+        }
+
+    }
+
+    /**
+     * A key used for proxy class whose methods are selected by a {@link MethodFilter}, which wraps the key of classes.
+     * Filters of a class without instance fields, such as non-capturing lambdas, are compared by their class and the
+     * class is weakly referenced, since every instance of such class selects the same methods. Other filters are
+     * compared by identity and weakly referenced, since different filters lead to different methods to be overridden
+     * by the proxy class.
+     */
+    private static final class FilterKey extends WeakReference<Object> {
+
+        /**
+         * whether instances of a filter class are stateless, that is, the class and its superclasses declare no
+         * instance fields
+         */
+        private static final ClassValue<Boolean> STATELESS = new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Class<?> c = type; c != Object.class && c != null; c = c.getSuperclass()) {
+                    final Class<?> declaringClass = c;
+                    Field[] fields = AccessController.doPrivileged((PrivilegedAction<Field[]>) declaringClass::getDeclaredFields);
+                    for (Field field : fields) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        };
+
+        private final int hash;
+
+        private final Object key;
+
+        FilterKey(Object key, MethodFilter filter) {
+            super(STATELESS.get(filter.getClass()) ? filter.getClass() : filter);
+            this.hash = 31 * key.hashCode() + System.identityHashCode(get());
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Object filter;
+            return this == obj ||
+                    obj != null && obj.getClass() == FilterKey.class &&
+                            (filter = get()) != null && filter == ((FilterKey) obj).get() &&
+                            this.key.equals(((FilterKey) obj).key);
+        }
+
+    }
+
     /**
      * A key used for proxy class with one implemented interface.
      */
@@ -1033,30 +1614,42 @@ public final class NewProxy {
 
     /**
      * A function that maps an array of interfaces to an optimal key where Class objects representing
-     * interfaces are weakly references.
+     * interfaces are weakly references. Argument types of the proxy class's constructor, the filter, the length of the
+     * chain and the delegating flag of the {@link GenerationContext} are part of the key as well, and the classes are
+     * expected to be in canonical order already.
      */
-    private static final class KeyFactory implements BiFunction<ClassLoader, Class<?>[], Object> {
+    private static final class KeyFactory implements BiFunction<ClassLoader, GenerationContext, Object> {
 
         @Override
-        public Object apply(ClassLoader classLoader, Class<?>[] classes) {
+        public Object apply(ClassLoader classLoader, GenerationContext context) {
+            Class<?>[] classes = context.getClasses();
+            Object key;
             if (classes.length == 1) {
                 // the most frequent
-                return new Key1(classes[0]);
+                key = new Key1(classes[0]);
+            } else if (classes.length == 2) {
+                key = new Key2(classes[0], classes[1]);
+            } else {
+                key = new KeyX(classes);
             }
-            if (classes.length == 2) {
-                return new Key2(classes[0], classes[1]);
+            Class<?>[] argTypes = context.getArgTypes();
+            int chainLength = context.getChainLength();
+            boolean delegating = context.isDelegating();
+            if (argTypes.length != 0 || chainLength > 1 || delegating) {
+                key = new ConstructorKey(key, argTypes, chainLength, delegating);
             }
-            return new KeyX(classes);
+            MethodFilter filter = context.getFilter();
+            return filter == null ? key : new FilterKey(key, filter);
         }
 
     }
 
     /**
-     * A factory function that generates defines and returns the proxy class given the {@link ClassLoader} and array
-     * of interfaces.
+     * A factory function that generates defines and returns the proxy class given the {@link ClassLoader} and the
+     * {@link GenerationContext} specifying the proxy class.
      */
     private static final class ProxyClassFactory
-            implements BiFunction<ClassLoader, Class<?>[], Class<?>> {
+            implements BiFunction<ClassLoader, GenerationContext, Class<?>> {
 
         // prefix for all proxy class names
         private static final String proxyClassNamePrefix = "$NewProxy";
@@ -1065,7 +1658,8 @@ public final class NewProxy {
         private static final AtomicLong nextUniqueNumber = new AtomicLong();
 
         @Override
-        public Class<?> apply(ClassLoader classLoader, Class<?>[] classes) {
+        public Class<?> apply(ClassLoader classLoader, GenerationContext context) {
+            Class<?>[] classes = context.getClasses();
             Map<Class<?>, Boolean> classSet = new IdentityHashMap<>();
             for (Class<?> aClass : classes) {
                 /*
@@ -1091,52 +1685,56 @@ public final class NewProxy {
                 }
             }
 
-            String proxyPkg = null;
-            int accessFlags = Modifier.PUBLIC | Modifier.FINAL;
-
+            String proxyPkg = getProxyPackage(classLoader, classes);
+            int accessFlags = getAccessFlags(classes);
             /*
-             * Record the package of a non-public proxy interface or class so that the
-             * proxy class will be defined in the same package. Verify that
-             * all non-public proxy classes are in the same package.
-             *
-             * Generally, all non-public proxy interfaces or class should be in the same package.
+             * Fail before generation if the proxy class can not be defined in the class loader.
              */
-            for (Class<?> aClass : classes) {
-                int flags = aClass.getModifiers();
-                if (!Modifier.isPublic(flags)) {
-                    accessFlags = Modifier.FINAL;
-                    String name = aClass.getName();
-                    int n = name.lastIndexOf(".");
-                    String pkg = (n == -1) ? "" : name.substring(0, n + 1);
-                    if (proxyPkg == null) {
-                        proxyPkg = pkg;
-                    } else if (!pkg.equals(proxyPkg)) {
-                        throw new IllegalArgumentException("non-public classes from different packages");
-                    }
-                }
-            }
-            if (proxyPkg == null) {
-                // if no non-public proxy classes, use default package name
-                proxyPkg = NewProxy.class.getPackage() + ".";
-            }
-            if (proxyPkg.startsWith("package ")) {
-                proxyPkg = proxyPkg.substring(8);
-            }
+            classDefiner.checkDefinable(classLoader, proxyPkg, classes);
             /*
-             * Choose a name from the proxy class to generate.
+             * Define the proxy class pregenerated at build time if it exists. Neither pregenerated proxy classes nor
+             * the persistent cache are aware of filters, interceptor chains and targets, so such proxy classes are
+             * always generated.
              */
-            long number = nextUniqueNumber.getAndIncrement();
-            String proxyClassName = proxyPkg + proxyClassNamePrefix + number;
+            boolean customized = context.isCustomized();
+            // pregenerated proxy classes are skipped if their fingerprints differ from the classes and system
+            // properties of this JVM, such as a method added after build or invocation metrics enabled
+            String proxyClassName = customized ? null : ProxyPregenerator.getProxyClassName(classLoader, context.getArgTypes(), classes);
+            // proxy classes are pregenerated for the class loader of NewProxy, hence in another package if the class
+            // loader defines any of the classes
+            if (proxyClassName != null && !ClassDefiner.getPackage(proxyClassName).equals(proxyPkg)) {
+                proxyClassName = null;
+            }
+            byte[] proxyClassFile = proxyClassName == null ? null : ProxyPregenerator.getProxyClassFile(classLoader, proxyClassName);
             /*
-             * Generate the specified proxy class
+             * Define the proxy class cached in the directory of persistent cache if it is enabled.
              */
-            byte[] proxyClassFile = ProxyGenerator.generate(proxyClassName, accessFlags, classes);
+            Path cacheDir = PersistentProxyCache.getDirectory();
+            if (proxyClassFile == null && cacheDir != null && !customized) {
+                proxyClassName = PersistentProxyCache.getProxyClassName(proxyPkg, context.getArgTypes(), classes);
+                proxyClassFile = PersistentProxyCache.load(cacheDir, proxyClassName);
+                if (proxyClassFile == null) {
+                    proxyClassFile = ProxyGenerator.generate(proxyClassName, accessFlags, context);
+                    PersistentProxyCache.store(cacheDir, proxyClassName, proxyClassFile);
+                }
+            }
+            if (proxyClassFile == null) {
+                /*
+                 * Choose a name from the proxy class to generate.
+                 */
+                long number = nextUniqueNumber.getAndIncrement();
+                proxyClassName = proxyPkg + proxyClassNamePrefix + number;
+                /*
+                 * Generate the specified proxy class
+                 */
+                proxyClassFile = ProxyGenerator.generate(proxyClassName, accessFlags, context);
+            }
             try {
-                return (Class<?>) defineClass.invoke(Proxy.class, classLoader, proxyClassName, proxyClassFile, 0, proxyClassFile.length);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("defineClass0 in class Proxy can not be accessed");
-            } catch (InvocationTargetException e) {
-                throw new RuntimeException("invocation on defineClass0 in class Proxy fails");
+                long start = System.nanoTime();
+                Class<?> proxyClass = classDefiner.defineClass(classLoader, proxyClassName, proxyClassFile, classes);
+                proxyClassMarker.get(proxyClass).set(true);
+                NewProxyStats.getInstance().recordDefinition(classLoader, System.nanoTime() - start);
+                return proxyClass;
             } catch (ClassFormatError e) {
                 throw new IllegalArgumentException(e.toString());
             }
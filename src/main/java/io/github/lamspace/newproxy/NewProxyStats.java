@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link NewProxyStats} collects statistics of proxy class generation and caching of {@link NewProxy}, which tell
+ * whether proxy classes contribute to metaspace growth or warmup latency. Statistics are always collected and
+ * available via {@link #getInstance()}, and are exposed over JMX as MXBean with name
+ * {@value Constants#JMX_OBJECT_NAME} in the platform MBean server only on demand, either by {@link #register()} or
+ * by system property {@value Constants#STRING_JMX_FLAG} set to {@code true}, so that the platform MBean server is
+ * not started by {@link NewProxy} itself.<br/>
+ * Time of proxy class generation is split into three phases: building the proxy class with
+ * {@link ProxyBytecodeBackend}, serializing it into a class file and defining it in a class loader.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxyStatsMXBean
+ * @since 1.0.0
+ */
+public final class NewProxyStats implements NewProxyStatsMXBean {
+
+    /**
+     * the only instance
+     */
+    private static final NewProxyStats INSTANCE = new NewProxyStats();
+
+    /**
+     * whether {@link #INSTANCE} is registered in the platform MBean server or not
+     */
+    private static boolean registered;
+
+    static {
+        if (Boolean.getBoolean(STRING_JMX_FLAG)) {
+            register();
+        }
+    }
+
+    /**
+     * number of proxy classes defined for each class loader, whose keys are weak so that class loaders can be GC-ed
+     */
+    private final Map<ClassLoader, LongAdder> definedClasses = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final LongAdder generatedClasses = new LongAdder();
+
+    private final LongAdder generatedBytes = new LongAdder();
+
+    private final LongAdder buildTime = new LongAdder();
+
+    private final LongAdder serializeTime = new LongAdder();
+
+    private final LongAdder defineTime = new LongAdder();
+
+    private NewProxyStats() {
+    }
+
+    /**
+     * Returns statistics of proxy class generation and caching of {@link NewProxy}.
+     *
+     * @return the {@link NewProxyStats} instance.
+     */
+    public static NewProxyStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers statistics of {@link NewProxy} in the platform MBean server with name
+     * {@value Constants#JMX_OBJECT_NAME}, which starts the platform MBean server if it is not started yet. Invoking
+     * this method again after statistics are registered has no effect.
+     *
+     * @return {@code true} if statistics are registered by this or an earlier invocation, or {@code false} if they can
+     * not be registered, for example, when another copy of {@link NewProxy} in another class loader has registered its
+     * own, or module {@code java.management} is absent.
+     */
+    public static synchronized boolean register() {
+        if (!registered) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(JMX_OBJECT_NAME));
+                registered = true;
+            } catch (Exception | LinkageError e) {
+                // statistics are still available via getInstance()
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * Records a proxy class generated by {@link ProxyGenerator}.
+     *
+     * @param bytes          size of the proxy class file
+     * @param buildNanos     time spent on building the proxy class
+     * @param serializeNanos time spent on serializing the proxy class into class file
+     */
+    void recordGeneration(int bytes, long buildNanos, long serializeNanos) {
+        generatedClasses.increment();
+        generatedBytes.add(bytes);
+        buildTime.add(buildNanos);
+        serializeTime.add(serializeNanos);
+    }
+
+    /**
+     * Records a proxy class defined in the specified class loader.
+     *
+     * @param classLoader the class loader which the proxy class is defined in
+     * @param defineNanos time spent on defining the proxy class
+     */
+    void recordDefinition(ClassLoader classLoader, long defineNanos) {
+        definedClasses.computeIfAbsent(classLoader, loader -> new LongAdder()).increment();
+        defineTime.add(defineNanos);
+    }
+
+    @Override
+    public Map<String, Long> getDefinedClassesByClassLoader() {
+        Map<String, Long> result = new TreeMap<>();
+        synchronized (definedClasses) {
+            definedClasses.forEach((loader, count) -> result.merge(loader == null ? "bootstrap" : loader.toString(), count.sum(), Long::sum));
+        }
+        return result;
+    }
+
+    @Override
+    public long getGeneratedClassCount() {
+        return generatedClasses.sum();
+    }
+
+    @Override
+    public long getGeneratedBytes() {
+        return generatedBytes.sum();
+    }
+
+    @Override
+    public long getBuildTimeNanos() {
+        return buildTime.sum();
+    }
+
+    @Override
+    public long getSerializeTimeNanos() {
+        return serializeTime.sum();
+    }
+
+    @Override
+    public long getDefineTimeNanos() {
+        return defineTime.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return NewProxy.getProxyClassCache().hits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return NewProxy.getProxyClassCache().misses();
+    }
+
+    @Override
+    public long getCacheExpunged() {
+        return NewProxy.getProxyClassCache().expunged();
+    }
+
+    @Override
+    public int getLiveProxyClassCount() {
+        return NewProxy.getProxyClassCache().size();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link NewProxyStats}, which reports statistics of proxy class generation and caching of
+ * {@link NewProxy} over JMX. All times are in nanoseconds and accumulated since the statistics are created.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxyStats
+ * @since 1.0.0
+ */
+public interface NewProxyStatsMXBean {
+
+    /**
+     * Gets the number of proxy classes defined by {@link NewProxy} for each class loader which is still alive,
+     * keyed by the string representation of the class loader, or {@code "bootstrap"} for the bootstrap class loader.
+     *
+     * @return number of proxy classes defined for each class loader.
+     */
+    Map<String, Long> getDefinedClassesByClassLoader();
+
+    /**
+     * Gets the number of proxy classes generated by {@link ProxyGenerator}.
+     *
+     * @return number of generated proxy classes.
+     */
+    long getGeneratedClassCount();
+
+    /**
+     * Gets the total size of proxy class files generated by {@link ProxyGenerator}.
+     *
+     * @return number of bytes generated.
+     */
+    long getGeneratedBytes();
+
+    /**
+     * Gets the time spent on building proxy classes with {@link ProxyBytecodeBackend} in {@link ProxyGenerator}.
+     *
+     * @return time spent on building proxy classes.
+     */
+    long getBuildTimeNanos();
+
+    /**
+     * Gets the time spent on serializing built proxy classes into class files via
+     * {@link ProxyBytecodeBackend#toByteArray(Object)}.
+     *
+     * @return time spent on serializing proxy classes.
+     */
+    long getSerializeTimeNanos();
+
+    /**
+     * Gets the time spent on defining proxy classes in class loaders, including pregenerated and cached ones.
+     *
+     * @return time spent on defining proxy classes.
+     */
+    long getDefineTimeNanos();
+
+    /**
+     * Gets the number of look-ups of proxy classes which found the proxy class already defined in the cache.
+     *
+     * @return number of cache hits.
+     */
+    long getCacheHits();
+
+    /**
+     * Gets the number of look-ups of proxy classes which defined a new proxy class, or waited for another thread
+     * defining it.
+     *
+     * @return number of cache misses.
+     */
+    long getCacheMisses();
+
+    /**
+     * Gets the number of proxy classes expunged from the cache since their class loaders have been GC-ed.
+     *
+     * @return number of expunged entries.
+     */
+    long getCacheExpunged();
+
+    /**
+     * Gets the number of proxy classes in the cache which are still alive.
+     *
+     * @return number of live proxy classes.
+     */
+    int getLiveProxyClassCount();
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link PersistentProxyCache} stores generated proxy classes in a directory, so that they are reused across restarts
+ * of JVM instead of being generated again. It is disabled by default, and enabled when system property
+ * {@value Constants#STRING_CACHE_DIR} specifies the directory.<br/>
+ * A cached proxy class is named deterministically after the stable hash of its specification, which consists of
+ * names of classes in canonical order, argument types of its constructor, the version of {@link ProxyGenerator} and
+ * the fingerprint of the classes returned by {@link ProxyPregenerator#getFingerprint(Class[])}, which covers
+ * signatures of all public methods of the classes, whether {@code doInvoke} methods are generated or not and whether
+ * invocation metrics are recorded or not. Thus, a change to any of them leads to another proxy class, and stale proxy
+ * classes are never reused.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @see ProxyPregenerator
+ * @since 1.0.0
+ */
+final class PersistentProxyCache {
+
+    private PersistentProxyCache() {
+    }
+
+    /**
+     * Returns the directory of the cache, or {@code null} if the cache is disabled.
+     *
+     * @return the directory of the cache.
+     */
+    static Path getDirectory() {
+        String dir = System.getProperty(STRING_CACHE_DIR);
+        return dir == null || dir.isEmpty() ? null : Paths.get(dir);
+    }
+
+    /**
+     * Returns the deterministic name of the proxy class for the specified classes and argument types.
+     *
+     * @param proxyPkg package of the proxy class, ending with {@code "."}
+     * @param argTypes argument types of the proxy class's constructor
+     * @param classes  classes to implement or extend, in canonical order
+     * @return the name of the proxy class.
+     */
+    static String getProxyClassName(String proxyPkg, Class<?>[] argTypes, Class<?>[] classes) {
+        String specification = ProxyPregenerator.getSpecification(argTypes, classes);
+        return ProxyPregenerator.getProxyClassName(proxyPkg, specification + ';' + ProxyPregenerator.getFingerprint(classes));
+    }
+
+    /**
+     * Reads the cached proxy class file with the specified name.
+     *
+     * @param directory      directory of the cache
+     * @param proxyClassName name of the proxy class
+     * @return bytes of the proxy class file, or {@code null} if it is not cached or can not be read.
+     */
+    static byte[] load(Path directory, String proxyClassName) {
+        Path file = directory.resolve(proxyClassName + ".class");
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            // files which are not class files are ignored, and will be overwritten
+            return bytes.length > 4 && (bytes[0] & 0xFF) == 0xCA && (bytes[1] & 0xFF) == 0xFE &&
+                    (bytes[2] & 0xFF) == 0xBA && (bytes[3] & 0xFF) == 0xBE ? bytes : null;
+        } catch (IOException e) {
+            // not cached yet
+            return null;
+        }
+    }
+
+    /**
+     * Stores the proxy class file with the specified name. The file is written to a temporary file first and then
+     * moved atomically, so that concurrent JVMs sharing the directory never read a partial file. Failures are
+     * ignored since the cache is optional.
+     *
+     * @param directory      directory of the cache
+     * @param proxyClassName name of the proxy class
+     * @param proxyClassFile bytes of the proxy class file
+     */
+    static void store(Path directory, String proxyClassName, byte[] proxyClassFile) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, proxyClassName, ".tmp");
+            try {
+                Files.write(temp, proxyClassFile);
+                Files.move(temp, directory.resolve(proxyClassName + ".class"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            // the cache is optional, and the proxy class will be generated again next time
+        }
+    }
+
+}
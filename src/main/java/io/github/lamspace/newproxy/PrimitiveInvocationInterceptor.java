@@ -0,0 +1,890 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+/**
+ * {@link PrimitiveInvocationInterceptor} is an optional extension of {@link InvocationInterceptor}, which avoids
+ * wrapping the return value of primitive types on hot paths.<br/>
+ * If the invocation interceptor of a proxy instance implements {@link PrimitiveInvocationInterceptor}, a method
+ * invoked on the proxy instance whose return type is {@code int}, {@code long}, {@code float}, {@code double},
+ * {@code boolean} or {@code void} is dispatched to the matching specialized method, such as
+ * {@link #interceptLong(Object, MethodDecorator, Object[]) interceptLong}, and the value it returns is returned to the
+ * caller directly without allocation of the wrapper instance. Methods with other return types are still dispatched
+ * to {@link #intercept(Object, MethodDecorator, Object[]) intercept}.<br/>
+ * All specialized methods fall back to {@link #intercept(Object, MethodDecorator, Object[]) intercept} by default, so
+ * that an implementation only needs to override specialized methods for the return types it cares about.<br/>
+ * Methods taking no more than six arguments are dispatched to the arity-specialized variants of specialized methods,
+ * such as {@link #interceptLong2(Object, MethodDecorator, Object, Object) interceptLong2}, which receive arguments
+ * individually and delegate to the specialized method taking an array by default. Along with
+ * {@link MethodDecorator#invokeLong2(Object, Object, Object, Object) invokeLong2} and so on, which return the value
+ * of the target without wrapping it either, an implementation overriding them allocates neither an array nor a
+ * wrapper instance on the way to the target and back. Each interceptor of an interceptor chain which implements
+ * {@link PrimitiveInvocationInterceptor} is dispatched to the same way.<br/>
+ * The default specialized methods unbox the value returned by
+ * {@link #intercept(Object, MethodDecorator, Object[]) intercept} exactly as proxy instances do for interceptors which
+ * do not implement {@link PrimitiveInvocationInterceptor}: the value must be an instance of the wrapper class of the
+ * return type, such as {@link Integer} for {@code int}, otherwise a {@link ClassCastException} is thrown. No widening
+ * or narrowing conversion is applied, hence returning a {@link Short} from a method returning {@code int} fails either
+ * way.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see InvocationInterceptor
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface PrimitiveInvocationInterceptor extends InvocationInterceptor {
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (Integer) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (Long) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (Float) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (Double) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return (Boolean) intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param args   an array of objects containing the values of the arguments passed in the method invocation
+     *               on the proxy instance, or {@code null} if this method takes no arguments
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see InvocationInterceptor#intercept(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        intercept(proxy, method, args);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptInt(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes three
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes four
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes five
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code int} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptInt(Object, MethodDecorator, Object[]) interceptInt}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptInt(Object, MethodDecorator, Object[])
+     */
+    default int interceptInt6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptInt(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptLong(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes three
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes four
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes five
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code long} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptLong(Object, MethodDecorator, Object[]) interceptLong}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptLong(Object, MethodDecorator, Object[])
+     */
+    default long interceptLong6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptLong(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptFloat(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes three
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes four
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes five
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code float} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptFloat(Object, MethodDecorator, Object[]) interceptFloat}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptFloat(Object, MethodDecorator, Object[])
+     */
+    default float interceptFloat6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptFloat(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptDouble(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes
+     * three arguments, which are passed individually instead of in an array. By default, this method delegates to
+     * {@link #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes four
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes five
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code double} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptDouble(Object, MethodDecorator, Object[]) interceptDouble}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptDouble(Object, MethodDecorator, Object[])
+     */
+    default double interceptDouble6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptDouble(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean0(Object proxy, MethodDecorator method) throws Throwable {
+        return interceptBoolean(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes
+     * three arguments, which are passed individually instead of in an array. By default, this method delegates to
+     * {@link #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes
+     * four arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes
+     * five arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code boolean} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptBoolean(Object, MethodDecorator, Object[]) interceptBoolean}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @return the value to return from the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptBoolean(Object, MethodDecorator, Object[])
+     */
+    default boolean interceptBoolean6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return interceptBoolean(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes no
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid0(Object proxy, MethodDecorator method) throws Throwable {
+        interceptVoid(proxy, method, (Object[]) null);
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes one
+     * argument, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes two
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0, arg1});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes three
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0, arg1, arg2});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes four
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes five
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Processes a method invocation on a proxy instance whose return type is {@code void} and whose method takes six
+     * arguments, which are passed individually instead of in an array. By default, this method delegates to {@link
+     * #interceptVoid(Object, MethodDecorator, Object[]) interceptVoid}.
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the {@link MethodDecorator} instance corresponding to the method invoked on the proxy instance
+     * @param arg0   the first argument passed in the method invocation on the proxy instance
+     * @param arg1   the second argument passed in the method invocation on the proxy instance
+     * @param arg2   the third argument passed in the method invocation on the proxy instance
+     * @param arg3   the fourth argument passed in the method invocation on the proxy instance
+     * @param arg4   the fifth argument passed in the method invocation on the proxy instance
+     * @param arg5   the sixth argument passed in the method invocation on the proxy instance
+     * @throws Throwable the exception to throw from the method invocation on the proxy instance
+     * @see #interceptVoid(Object, MethodDecorator, Object[])
+     */
+    default void interceptVoid6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        interceptVoid(proxy, method, new Object[]{arg0, arg1, arg2, arg3, arg4, arg5});
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+/**
+ * {@link ProxyBytecodeBackend} emits the class file of a proxy class for {@link ProxyGenerator}, which decides the
+ * methods of the proxy class and how they are intercepted before a backend is invoked. {@link #getInstance()} chooses
+ * the backend specified by system property {@value Constants#STRING_BACKEND}:
+ * <ul>
+ *     <li>{@code streaming} (by default), {@link StreamingProxyBytecodeBackend} writes the class file directly into
+ *     a reusable buffer via {@link ClassFileWriter}, which needs no dependency at runtime.</li>
+ *     <li>{@code bcel}, {@link BcelProxyBytecodeBackend} builds the class file via
+ *     <a href="https://commons.apache.org/proper/commons-bcel/">BCEL</a>, which must be on the classpath.</li>
+ * </ul>
+ * Building and serializing a proxy class are separate steps, so that {@link NewProxyStats} measures them
+ * respectively.
+ *
+ * @param <T> type of the built proxy class before serialized into a class file
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ProxyGenerator
+ * @since 1.0.0
+ */
+interface ProxyBytecodeBackend<T> {
+
+    /**
+     * Builds a proxy class with methods registered in {@link ProxyGenerator} for the proxy class being generated.
+     *
+     * @param context     the context bound to the proxy class, holding its name and methods
+     * @param accessFlag  access flags of the proxy class
+     * @param parentClass the class extended by the proxy class, or {@code null} if it extends {@link Object}
+     * @param interfaces  interfaces implemented by the proxy class, excluding {@link InvocationDispatcher}
+     * @return the built proxy class.
+     */
+    T build(GenerationContext context, int accessFlag, Class<?> parentClass, Class<?>[] interfaces);
+
+    /**
+     * Serializes the built proxy class into a class file.
+     *
+     * @param proxyClass the built proxy class
+     * @return bytes of the class file.
+     */
+    byte[] toByteArray(T proxyClass);
+
+    /**
+     * Returns the backend specified by system property {@value Constants#STRING_BACKEND}.
+     *
+     * @return a {@link ProxyBytecodeBackend} instance.
+     */
+    static ProxyBytecodeBackend<?> getInstance() {
+        if (Constants.STRING_BACKEND_BCEL.equalsIgnoreCase(System.getProperty(Constants.STRING_BACKEND))) {
+            return BcelProxyBytecodeBackend.INSTANCE;
+        }
+        return StreamingProxyBytecodeBackend.INSTANCE;
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Objects;
+
+/**
+ * {@link ProxyFactory} creates proxy instances of a dynamic proxy class repeatedly, which is acquired by invoking
+ * {@link NewProxy#factory(ClassLoader, Class[], Class[])}.<br/>
+ * Different from {@link NewProxy#newProxyInstance(ClassLoader, InvocationInterceptor, Class[], Object[], Class[])
+ * newProxyInstance}, which validates the specified classes, looks up the proxy class in the cache and the constructor
+ * via {@code Reflection} API on every invocation, {@link ProxyFactory} performs all of them only once when it is
+ * created. Then each proxy instance is created via a {@link MethodHandle} of the constructor of the proxy class, as
+ * below:
+ * <blockquote><pre>
+ *     ProxyFactory&lt;Foo&gt; factory = NewProxy.factory(Foo.class.getClassLoader(), null, Foo.class);
+ *     Foo foo = factory.newInstance(interceptor);
+ * </pre></blockquote>
+ * {@link ProxyFactory} is thread-safe and can be shared across threads.
+ *
+ * @param <T> type of proxy instances, which is usually one of the interfaces or the class implemented or extended by
+ *            the proxy class
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy#factory(ClassLoader, Class[], Class[])
+ * @since 1.0.0
+ */
+public final class ProxyFactory<T> {
+
+    /**
+     * the dynamic proxy class
+     */
+    private final Class<?> proxyClass;
+
+    /**
+     * number of arguments passed to the constructor of superclass
+     */
+    private final int argCount;
+
+    /**
+     * {@link MethodHandle} of the constructor of the proxy class, whose type is
+     * {@code (Object, Object[])Object}, with the invocation interceptor as the first argument and arguments for the
+     * constructor of superclass in an array as the second argument
+     */
+    private final MethodHandle constructor;
+
+    ProxyFactory(Class<?> proxyClass, Class<?>[] argTypes) {
+        this.proxyClass = proxyClass;
+        this.argCount = argTypes.length;
+        Class<?>[] parameterTypes = new Class[argTypes.length + 1];
+        System.arraycopy(argTypes, 0, parameterTypes, 1, argTypes.length);
+        parameterTypes[0] = InvocationInterceptor.class;
+        try {
+            Constructor<?> c = proxyClass.getConstructor(parameterTypes);
+            // Access control is required whether the constructor is public or not, see in NewProxy#newProxyInstance.
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                c.setAccessible(true);
+                return null;
+            });
+            this.constructor = MethodHandles.lookup()
+                    .unreflectConstructor(c)
+                    .asType(MethodType.genericMethodType(parameterTypes.length))
+                    .asSpreader(Object[].class, argTypes.length);
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new InternalError(e.toString(), e);
+        }
+    }
+
+    /**
+     * Returns the dynamic proxy class of proxy instances created by this factory.
+     *
+     * @return the dynamic proxy class
+     */
+    public Class<?> getProxyClass() {
+        return proxyClass;
+    }
+
+    /**
+     * Returns a new proxy instance with the specified invocation interceptor.
+     *
+     * @param interceptor the invocation interceptor to dispatch method invocation to
+     * @param args        the list of arguments for the proxy class's constructor when dynamic proxy class extends
+     *                    a class, whose types are the same as {@code argTypes} passed to
+     *                    {@link NewProxy#factory(ClassLoader, Class[], Class[])}
+     * @return a new proxy instance
+     * @throws NullPointerException     if the invocation interceptor, {@code interceptor}, is {@code null}.
+     * @throws IllegalArgumentException if the number of arguments is different from that of {@code argTypes}.
+     * @throws ClassCastException       if any argument can not be converted to the corresponding type in
+     *                                  {@code argTypes}.
+     */
+    @SuppressWarnings(value = {"unchecked"})
+    public T newInstance(InvocationInterceptor interceptor, Object... args) {
+        Objects.requireNonNull(interceptor);
+        if (args == null) {
+            args = new Object[0];
+        }
+        if (args.length != argCount) {
+            throw new IllegalArgumentException("wrong number of arguments: " + args.length + ", expected: " + argCount);
+        }
+        try {
+            return (T) constructor.invokeExact((Object) interceptor, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InternalError(t.toString(), t);
+        }
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link ProxyPregenerator} generates proxy classes at build time, and finds proxy classes pregenerated at build time
+ * at runtime, so that {@link NewProxy} defines them directly instead of generating them via {@link ProxyGenerator}.
+ * <br/>
+ * A proxy class is specified by its classes to implement or extend, in canonical order, and the argument types of
+ * its constructor. Pregenerated proxy classes are stored as resources under {@value Constants#PREGENERATED_CLASSES}
+ * with a deterministic name derived from the specification, and are listed in index files
+ * {@value Constants#PREGENERATED_INDEX} which map specifications to index entries. An index entry holds the name of
+ * the proxy class and the fingerprint of the classes it was generated for, see {@link #getIndexEntry(String, Class[])}.
+ * An index file is ignored when it is generated by another version of {@link ProxyGenerator}, and an index entry is
+ * ignored when its fingerprint differs from the one computed at runtime, such as when a method is added to an
+ * interface after build, so that stale proxy classes are never defined.<br/>
+ * Pregenerated proxy classes are usually written by {@code newproxy-maven-plugin}, which invokes
+ * {@link #generate(Class[], Class[])} for each proxy class declared in build configuration.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @see ProxyGenerator
+ * @since 1.0.0
+ */
+public final class ProxyPregenerator {
+
+    private ProxyPregenerator() {
+    }
+
+    /**
+     * index of pregenerated proxy classes for each class loader, mapping specifications to names of proxy classes
+     */
+    private static final Map<ClassLoader, Map<String, String>> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns the specification of a proxy class, which consists of names of classes in canonical order and names
+     * of argument types of its constructor, in format {@code "Bar,Foo(java.lang.String,long)"}.
+     *
+     * @param argTypes argument types of the proxy class's constructor, may be {@code null}
+     * @param classes  classes to implement or extend
+     * @return the specification of a proxy class.
+     */
+    public static String getSpecification(Class<?>[] argTypes, Class<?>... classes) {
+        Class<?>[] sortedClasses = classes.clone();
+        Arrays.sort(sortedClasses, NewProxy.CANONICAL_ORDER);
+        StringJoiner joiner = new StringJoiner(",");
+        for (Class<?> aClass : sortedClasses) {
+            joiner.add(aClass.getName());
+        }
+        StringJoiner argJoiner = new StringJoiner(",", "(", ")");
+        if (argTypes != null) {
+            for (Class<?> argType : argTypes) {
+                argJoiner.add(argType.getName());
+            }
+        }
+        return joiner + argJoiner.toString();
+    }
+
+    /**
+     * Returns the fingerprint of the specified classes, which is the hexadecimal {@code SHA-256} digest of signatures
+     * of all public methods of the classes, whether {@code doInvoke} methods are generated or not and whether
+     * invocation metrics are recorded or not. Proxy classes generated for the same specification but different
+     * fingerprints are not interchangeable.
+     *
+     * @param classes classes to implement or extend
+     * @return the fingerprint of the classes.
+     */
+    static String getFingerprint(Class<?>... classes) {
+        Class<?>[] sortedClasses = classes.clone();
+        Arrays.sort(sortedClasses, NewProxy.CANONICAL_ORDER);
+        StringBuilder builder = new StringBuilder();
+        builder.append(System.getProperty(STRING_GENERATE_DO_INVOKE_METHOD, "true").equalsIgnoreCase("true"));
+        builder.append(';').append(MethodMetrics.isEnabled());
+        for (Class<?> aClass : sortedClasses) {
+            Method[] methods = aClass.getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::toString));
+            for (Method method : methods) {
+                builder.append(';').append(method);
+            }
+        }
+        return toHexString(digest(builder.toString()), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the index entry of a pregenerated proxy class, in format {@code "<name>;<fingerprint>"}, which is
+     * stored in index files {@value Constants#PREGENERATED_INDEX} with the specification of the proxy class as key.
+     * The fingerprint is computed from the specified classes in the current JVM, hence this method should be invoked
+     * with the same system properties that are used at runtime.
+     *
+     * @param proxyClassName name of the pregenerated proxy class
+     * @param classes        classes to implement or extend
+     * @return the index entry of the proxy class.
+     */
+    public static String getIndexEntry(String proxyClassName, Class<?>... classes) {
+        return proxyClassName + ';' + getFingerprint(classes);
+    }
+
+    /**
+     * Returns the deterministic name of a proxy class for the specified specification, which starts with
+     * {@value Constants#PREGENERATED_CLASS_NAME_PREFIX} followed by the leading hexadecimal digits of
+     * {@code SHA-256} digest of the specification and the version of {@link ProxyGenerator}.
+     *
+     * @param proxyPkg      package of the proxy class, ending with {@code "."}
+     * @param specification specification of the proxy class
+     * @return the name of the proxy class.
+     */
+    public static String getProxyClassName(String proxyPkg, String specification) {
+        byte[] bytes = digest(GENERATOR_VERSION + specification);
+        return proxyPkg + PREGENERATED_CLASS_NAME_PREFIX + toHexString(bytes, 8);
+    }
+
+    /**
+     * Generates a proxy class at build time for the specified classes and argument types of its constructor. The
+     * specified classes are sorted in canonical order, and the name of the proxy class is the one that
+     * {@link NewProxy} looks for at runtime.
+     *
+     * @param argTypes argument types of the proxy class's constructor, may be {@code null}
+     * @param classes  classes to implement or extend
+     * @return a map entry whose key is the name of the generated proxy class and value is the generated proxy class.
+     * The specification of the proxy class can be acquired via {@link #getSpecification(Class[], Class[])}.
+     * @throws IllegalArgumentException if the specified classes contain more than one class, are repeated, or
+     *                                  non-public classes are from different packages.
+     */
+    public static Map.Entry<String, byte[]> generate(Class<?>[] argTypes, Class<?>... classes) {
+        Objects.requireNonNull(classes);
+        if (classes.length == 0) {
+            throw new IllegalArgumentException("classes.length == 0");
+        }
+        Class<?>[] clonedClasses = classes.clone();
+        Arrays.sort(clonedClasses, NewProxy.CANONICAL_ORDER);
+        if (Arrays.stream(clonedClasses).filter(c -> !c.isInterface()).count() > 1) {
+            throw new IllegalArgumentException("classes contains more than one class");
+        }
+        if (new HashSet<>(Arrays.asList(clonedClasses)).size() != clonedClasses.length) {
+            throw new IllegalArgumentException("repeated interface or class");
+        }
+        Class<?>[] clonedArgTypes = argTypes == null ? new Class[0] : argTypes.clone();
+        String specification = getSpecification(clonedArgTypes, clonedClasses);
+        String proxyClassName = getProxyClassName(NewProxy.getProxyPackage(clonedClasses), specification);
+        GenerationContext context = new GenerationContext(clonedClasses, clonedArgTypes, null, 1, false);
+        byte[] proxyClassFile = ProxyGenerator.generate(proxyClassName, NewProxy.getAccessFlags(clonedClasses), context);
+        return new AbstractMap.SimpleImmutableEntry<>(proxyClassName, proxyClassFile);
+    }
+
+    /**
+     * Finds the name of the proxy class pregenerated for the specified classes and argument types.
+     *
+     * @param classLoader the class loader to define the proxy class
+     * @param argTypes    argument types of the proxy class's constructor
+     * @param classes     classes to implement or extend
+     * @return the name of the pregenerated proxy class, or {@code null} if it does not exist or its fingerprint
+     * differs from the one of the classes in the current JVM.
+     */
+    static String getProxyClassName(ClassLoader classLoader, Class<?>[] argTypes, Class<?>[] classes) {
+        if (classLoader == null) {
+            return null;
+        }
+        Map<String, String> index = INDEXES.computeIfAbsent(classLoader, ProxyPregenerator::loadIndex);
+        String entry = index.isEmpty() ? null : index.get(getSpecification(argTypes, classes));
+        int separator = entry == null ? -1 : entry.indexOf(';');
+        if (separator < 0 || !entry.substring(separator + 1).equals(getFingerprint(classes))) {
+            return null;
+        }
+        return entry.substring(0, separator);
+    }
+
+    /**
+     * Reads the pregenerated proxy class file with the specified name.
+     *
+     * @param classLoader    the class loader to define the proxy class
+     * @param proxyClassName name of the pregenerated proxy class
+     * @return bytes of the proxy class file, or {@code null} if it can not be read.
+     */
+    static byte[] getProxyClassFile(ClassLoader classLoader, String proxyClassName) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(PREGENERATED_CLASSES + proxyClassName.replace('.', '/') + ".class")) {
+            if (inputStream == null) {
+                return null;
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = inputStream.read(buffer)) != -1; ) {
+                outputStream.write(buffer, 0, n);
+            }
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads and merges all index files visible from the specified class loader, skipping those generated by
+     * another version of {@link ProxyGenerator}.
+     *
+     * @param classLoader the class loader to load index files
+     * @return merged index of pregenerated proxy classes.
+     */
+    private static Map<String, String> loadIndex(ClassLoader classLoader) {
+        Map<String, String> index = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(PREGENERATED_INDEX);
+            while (resources.hasMoreElements()) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = resources.nextElement().openStream()) {
+                    properties.load(inputStream);
+                }
+                if (GENERATOR_VERSION.equals(properties.remove(PREGENERATED_INDEX_VERSION))) {
+                    properties.stringPropertyNames().forEach(key -> index.put(key, properties.getProperty(key)));
+                }
+            }
+        } catch (IOException e) {
+            // pregenerated proxy classes are optional, and they will be generated at runtime instead
+        }
+        return index;
+    }
+
+    /**
+     * Returns the {@code SHA-256} digest of the specified string.
+     *
+     * @param s the string to digest
+     * @return bytes of the digest.
+     */
+    private static byte[] digest(String s) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalError(e.toString(), e);
+        }
+    }
+
+    /**
+     * Returns the hexadecimal digits of the leading bytes of the specified bytes.
+     *
+     * @param bytes  bytes to convert
+     * @param length maximum number of bytes to convert
+     * @return hexadecimal digits of the bytes.
+     */
+    private static String toHexString(byte[] bytes, int length) {
+        int n = Math.min(bytes.length, length);
+        StringBuilder builder = new StringBuilder(n * 2);
+        for (int i = 0; i < n; i++) {
+            builder.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16)).append(Character.forDigit(bytes[i] & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * {@link SecuritySupport} provides what permission checks of {@link NewProxy} need to know about callers and class
+ * loaders when a {@link SecurityManager} is present, which differs among versions of JDK.<br/>
+ * This implementation is for JDK 8 and relies on standard APIs only, so that no internal API of JDK is linked. It is
+ * replaced by the one under {@code META-INF/versions/9} on JDK 9 and later, which walks the stack via
+ * {@code StackWalker} instead.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @since 1.0.0
+ */
+final class SecuritySupport {
+
+    private SecuritySupport() {
+    }
+
+    /**
+     * Returns the class of the caller of the method which invokes this method, skipping frames of reflection.
+     * Resolving callers requires {@code RuntimePermission("createSecurityManager")} granted to {@link NewProxy}
+     * when a {@link SecurityManager} is present.
+     *
+     * @return the class of the caller.
+     */
+    static Class<?> getCallerClass() {
+        Class<?>[] context = CallerResolver.INSTANCE.getClassContext();
+        int i = 0;
+        while (context[i] != SecuritySupport.class) {
+            i++;
+        }
+        // skip this method and the method which invokes it
+        return context[i + 2];
+    }
+
+    /**
+     * Returns whether the specified class loader is the bootstrap class loader or not, whose classes have all
+     * permissions.
+     *
+     * @param loader a class loader
+     * @return {@code true} if the class loader is the bootstrap class loader.
+     */
+    static boolean isSystemDomainLoader(ClassLoader loader) {
+        return loader == null;
+    }
+
+    /**
+     * {@link SecurityManager} which is never installed, but exposes the execution stack as an array of classes.
+     */
+    private static final class CallerResolver extends SecurityManager {
+
+        private static final CallerResolver INSTANCE =
+                AccessController.doPrivileged((PrivilegedAction<CallerResolver>) CallerResolver::new);
+
+        @Override
+        protected Class<?>[] getClassContext() {
+            return super.getClassContext();
+        }
+
+    }
+
+}
@@ -0,0 +1,860 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static io.github.lamspace.newproxy.ClassFileWriter.*;
+import static io.github.lamspace.newproxy.Constants.*;
+
+/**
+ * {@link StreamingProxyBytecodeBackend} writes class files of proxy classes directly via {@link ClassFileWriter},
+ * without building an object model of the class file or any dependency at runtime. Each thread reuses its own
+ * {@link ClassFileWriter} instance, so that generating a proxy class allocates little more than the class file
+ * itself.<br/>
+ * This is the default backend of {@link ProxyGenerator}. Proxy classes it writes are equivalent to the ones built by
+ * {@link BcelProxyBytecodeBackend}, see {@link ProxyGenerator} for the format of proxy classes.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see ProxyGenerator
+ * @see ClassFileWriter
+ * @since 1.0.0
+ */
+final class StreamingProxyBytecodeBackend implements ProxyBytecodeBackend<ClassFileWriter> {
+
+    static final StreamingProxyBytecodeBackend INSTANCE = new StreamingProxyBytecodeBackend();
+
+    /**
+     * descriptor of {@link InvocationInterceptor#intercept(Object, MethodDecorator, Object...)} and
+     * {@link InvocationDispatcher#dispatch(Object, MethodDecorator, Object...)}
+     */
+    private static final String DESCRIPTOR_INTERCEPT = "(" + SIGNATURE_OBJECT + SIGNATURE_METHOD_DECORATOR + SIGNATURE_OBJECT_ARRAY + ")" + SIGNATURE_OBJECT;
+
+    /**
+     * writer of class files reused by each thread, which is absent while it is in use
+     */
+    private static final ThreadLocal<ClassFileWriter> WRITERS = ThreadLocal.withInitial(ClassFileWriter::new);
+
+    private StreamingProxyBytecodeBackend() {
+    }
+
+    @Override
+    public ClassFileWriter build(GenerationContext context, int accessFlag, Class<?> parentClass, Class<?>[] interfaces) {
+        String superClass = parentClass == null ? CLASS_OBJECT : parentClass.getName();
+        // the writer is taken from the thread until the class file is serialized, so that a proxy class generated
+        // meanwhile on the same thread uses another writer
+        ClassFileWriter writer = WRITERS.get();
+        WRITERS.remove();
+        writer.reset(accessFlag, context.getProxyClassName(), superClass, ProxyGenerator.extractNamesFromInterfaces(interfaces));
+        writer.addSourceFile("<generated>");
+
+        // Add @Proxied to proxy class
+        writer.addVisibleAnnotation(SIGNATURE_PROXIED);
+
+        // generates static variables for proxy class
+        generateStaticVariables(context, writer);
+
+        // initialize static variable for proxy class in static initializer
+        generateStaticVariableInitializer(context, writer);
+
+        // generate default constructor for proxy class
+        generateDefaultConstructor(context, writer, parentClass);
+
+        // generate implementation of interface InterceptorAccessor to return the interceptor
+        generateInterceptorAccessor(context, writer);
+
+        // generate methods to invoke
+        generateMethods(context, writer);
+
+        // generate methods delegated to the target of delegating proxy class
+        generateDelegatedMethods(context, writer);
+
+        // generate implementation of interface InvocationDispatcher to encode and dispatch method invocation
+        generateDispatchMethod(context, writer, Object.class, -1);
+        for (int arity = 0; arity <= MAX_ARITY; arity++) {
+            generateDispatchMethod(context, writer, Object.class, arity);
+        }
+        for (Class<?> valueType : ProxyGenerator.PRIMITIVE_DISPATCH_TYPES) {
+            generateDispatchMethod(context, writer, valueType, -1);
+            for (int arity = 0; arity <= MAX_ARITY; arity++) {
+                generateDispatchMethod(context, writer, valueType, arity);
+            }
+        }
+        return writer;
+    }
+
+    @Override
+    public byte[] toByteArray(ClassFileWriter proxyClass) {
+        byte[] bytes = proxyClass.toByteArray();
+        WRITERS.set(proxyClass);
+        return bytes;
+    }
+
+    /**
+     * Generates the static variable {@value Constants#FIELD_METHOD_DECORATORS} for proxy class, which is an array of
+     * {@link MethodDecorator} indexed by indexes of methods, and the static variable
+     * {@value Constants#FIELD_METHOD_METRICS} if invocation metrics are enabled.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     */
+    private static void generateStaticVariables(GenerationContext context, ClassFileWriter writer) {
+        if (!context.getMethods().isEmpty()) {
+            int modifiers = Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL;
+            writer.addField(modifiers, FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY);
+            if (context.isGenerateMetrics()) {
+                writer.addField(modifiers, FIELD_METHOD_METRICS, SIGNATURE_METHOD_METRICS);
+            }
+        }
+    }
+
+    /**
+     * Generates static variable initializer for proxy class, which only allocates the array held by
+     * {@value Constants#FIELD_METHOD_DECORATORS}, and registers {@link MethodMetrics} if invocation metrics are
+     * enabled, followed by the static method to resolve {@link MethodDecorator} instances on first access.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     */
+    private static void generateStaticVariableInitializer(GenerationContext context, ClassFileWriter writer) {
+        if (context.getMethods().isEmpty()) {
+            return;
+        }
+        String proxyClass = context.getProxyClassName();
+        String methodTable = context.getMethodTable();
+        writer.beginMethod(Modifier.STATIC, METHOD_CL_INIT, "()V");
+        writer.pushInt(Collections.max(context.getMethods().values()) + 1);
+        writer.typeInsn(ANEWARRAY, CLASS_METHOD_DECORATOR);
+        writer.fieldInsn(PUTSTATIC, proxyClass, FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY);
+        if (context.isGenerateMetrics()) {
+            // methodMetrics = MethodMetrics.register($NewProxy0.class, "...");
+            writer.pushClass(proxyClass);
+            pushString(writer, methodTable);
+            writer.invoke(INVOKESTATIC, CLASS_METHOD_METRICS, METHOD_REGISTER, "(" + SIGNATURE_CLASS + SIGNATURE_STRING + ")" + SIGNATURE_METHOD_METRICS);
+            writer.fieldInsn(PUTSTATIC, proxyClass, FIELD_METHOD_METRICS, SIGNATURE_METHOD_METRICS);
+        }
+        writer.insn(RETURN);
+        writer.endMethod();
+
+        generateMethodDecoratorAccessor(context, writer, methodTable);
+    }
+
+    /**
+     * Generates the static method which returns the {@link MethodDecorator} instance of the specified index, and
+     * resolves it on first access via {@link MethodDecorator#resolve(MethodDecorator[], Class, String, int, int)}.
+     *
+     * @param context     the context bound to the proxy class
+     * @param writer      {@link ClassFileWriter} instance
+     * @param methodTable the table of methods of the proxy class
+     */
+    private static void generateMethodDecoratorAccessor(GenerationContext context, ClassFileWriter writer, String methodTable) {
+        String proxyClass = context.getProxyClassName();
+        writer.beginMethod(Modifier.PRIVATE | Modifier.STATIC, METHOD_GET_METHOD_DECORATOR, "(I)" + SIGNATURE_METHOD_DECORATOR);
+        writer.fieldInsn(GETSTATIC, proxyClass, FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY);
+        writer.varInsn(ILOAD, 0);
+        writer.insn(AALOAD);
+        writer.insn(DUP);
+        Label slow = new Label();
+        writer.jump(IFNULL, slow);
+        writer.insn(ARETURN);
+        writer.mark(slow);
+        writer.addSameLocals1StackItemFrame(slow, CLASS_METHOD_DECORATOR);
+        writer.insn(POP);
+        writer.fieldInsn(GETSTATIC, proxyClass, FIELD_METHOD_DECORATORS, SIGNATURE_METHOD_DECORATOR_ARRAY);
+        writer.pushClass(proxyClass);
+        pushString(writer, methodTable);
+        writer.varInsn(ILOAD, 0);
+        writer.pushInt(context.getChainLength());
+        writer.invoke(INVOKESTATIC, CLASS_METHOD_DECORATOR, METHOD_RESOLVE, "(" + SIGNATURE_METHOD_DECORATOR_ARRAY + SIGNATURE_CLASS + SIGNATURE_STRING + "II)" + SIGNATURE_METHOD_DECORATOR);
+        writer.insn(ARETURN);
+        writer.endMethod();
+    }
+
+    /**
+     * Writes instructions to push the specified string onto the operand stack. A long string is split into chunks
+     * concatenated at runtime, since a string constant in the constant pool is limited to 65535 bytes.
+     *
+     * @param writer {@link ClassFileWriter} instance
+     * @param string the string to push
+     */
+    private static void pushString(ClassFileWriter writer, String string) {
+        // a character takes at most 3 bytes in modified UTF-8
+        int chunk = 65535 / 3;
+        writer.pushString(string.substring(0, Math.min(chunk, string.length())));
+        for (int start = chunk; start < string.length(); start += chunk) {
+            writer.pushString(string.substring(start, Math.min(start + chunk, string.length())));
+            writer.invoke(INVOKEVIRTUAL, String.class.getName(), METHOD_CONCAT, "(" + SIGNATURE_STRING + ")" + SIGNATURE_STRING);
+        }
+    }
+
+    /**
+     * Generates the default constructor for the proxy class, which takes interceptors of the chain, the target of
+     * delegating proxy class, and arguments passed to the constructor of the parent class, in order.
+     *
+     * @param context     the context bound to the proxy class
+     * @param writer      {@link ClassFileWriter} instance
+     * @param parentClass the parent class to extend for the proxy class
+     */
+    private static void generateDefaultConstructor(GenerationContext context, ClassFileWriter writer, Class<?> parentClass) {
+        String proxyClass = context.getProxyClassName();
+        // the first interceptor is held by field "interceptor", and the following ones in the chain are held by
+        // fields "interceptor1", "interceptor2" and so on
+        int stages = context.getChainLength();
+        StringBuilder descriptor = new StringBuilder("(");
+        for (int stage = 0; stage < stages; stage++) {
+            writer.addField(Modifier.PRIVATE | Modifier.FINAL, ProxyGenerator.getInterceptorFieldName(stage), SIGNATURE_INVOCATION_INTERCEPTOR);
+            descriptor.append(SIGNATURE_INVOCATION_INTERCEPTOR);
+        }
+
+        // delegating proxy class holds the target after interceptors, which is the last parameter since delegating
+        // proxy class extends no class
+        boolean delegating = context.isDelegating();
+        if (delegating) {
+            writer.addField(Modifier.PRIVATE | Modifier.FINAL, FIELD_TARGET, SIGNATURE_OBJECT);
+            descriptor.append(SIGNATURE_OBJECT);
+        }
+        int leading = delegating ? stages + 1 : stages;
+
+        // If the parent class has a constructor with parameters, then "super" should be called in constructor first.
+        Class<?>[] parameterTypes = context.getArgTypes();
+        for (Class<?> parameterType : parameterTypes) {
+            MethodDecorator.appendDescriptor(descriptor, parameterType);
+        }
+        writer.beginMethod(Modifier.PUBLIC, METHOD_INIT, descriptor.append(")V").toString());
+        writer.varInsn(ALOAD, 0);
+        if (parentClass != null) {
+            // long and double arguments take two slots
+            for (int i = 0, slot = leading + 1; i < parameterTypes.length; i++) {
+                writer.load(parameterTypes[i], slot);
+                slot += getSize(parameterTypes[i]);
+            }
+            writer.invoke(INVOKESPECIAL, parentClass.getName(), METHOD_INIT, getDescriptor(void.class, parameterTypes));
+        } else {
+            writer.invoke(INVOKESPECIAL, CLASS_OBJECT, METHOD_INIT, "()V");
+        }
+        for (int stage = 0; stage < stages; stage++) {
+            writer.varInsn(ALOAD, 0);
+            writer.varInsn(ALOAD, stage + 1);
+            writer.fieldInsn(PUTFIELD, proxyClass, ProxyGenerator.getInterceptorFieldName(stage), SIGNATURE_INVOCATION_INTERCEPTOR);
+        }
+        if (delegating) {
+            writer.varInsn(ALOAD, 0);
+            writer.varInsn(ALOAD, stages + 1);
+            writer.fieldInsn(PUTFIELD, proxyClass, FIELD_TARGET, SIGNATURE_OBJECT);
+        }
+        writer.insn(RETURN);
+        writer.endMethod();
+    }
+
+    /**
+     * Generates the enhanced methods for the proxy class.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     */
+    private static void generateMethods(GenerationContext context, ClassFileWriter writer) {
+        String proxyClass = context.getProxyClassName();
+        boolean metrics = context.isGenerateMetrics();
+        for (Map.Entry<Method, Integer> entry : context.getMethods().entrySet()) {
+            Method method = entry.getKey();
+            int index = entry.getValue();
+            Class<?> returnType = method.getReturnType();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            writer.beginMethod(Modifier.PUBLIC | Modifier.FINAL, method.getName(), MethodDecorator.getDescriptor(method));
+
+            // start time of invocation is held by the local variable following arguments if metrics are enabled
+            int startSlot = 1;
+            for (Class<?> parameterType : parameterTypes) {
+                startSlot += getSize(parameterType);
+            }
+            if (metrics) {
+                writer.invoke(INVOKESTATIC, CLASS_SYSTEM, METHOD_NANO_TIME, "()J");
+                writer.varInsn(LSTORE, startSlot);
+            }
+            int exceptionSlot = metrics ? startSlot + 2 : startSlot;
+            Label tryStart = new Label();
+            writer.mark(tryStart);
+            if (metrics) {
+                // the local variable holding start time is appended to the frame at the beginning of try block
+                writer.addAppendLongFrame(tryStart);
+            }
+            writer.varInsn(ALOAD, 0);
+            writer.fieldInsn(GETFIELD, proxyClass, FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR);
+
+            // If the interceptor implements PrimitiveInvocationInterceptor, the value of primitive type is returned by
+            // the specialized intercept method directly without wrapper allocation. Likewise, if the interceptor
+            // implements AsyncInvocationInterceptor, the stage returned by an asynchronous method is intercepted by
+            // interceptAsync.
+            String primitiveInterceptMethod = ProxyGenerator.getPrimitiveInterceptMethod(returnType);
+            boolean async = primitiveInterceptMethod == null && ProxyGenerator.isAsyncReturnType(returnType);
+            if (primitiveInterceptMethod != null || async) {
+                String specializedClass = async ? CLASS_ASYNC_INVOCATION_INTERCEPTOR : CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR;
+                writer.typeInsn(INSTANCEOF, specializedClass);
+                Label generic = new Label();
+                writer.jump(IFEQ, generic);
+                writer.varInsn(ALOAD, 0);
+                writer.fieldInsn(GETFIELD, proxyClass, FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR);
+                writer.typeInsn(CHECKCAST, specializedClass);
+                writer.varInsn(ALOAD, 0);
+                appendMethodDecorator(context, writer, index);
+                String interceptMethod = async ? METHOD_INTERCEPT_ASYNC : primitiveInterceptMethod;
+                Class<?> interceptReturnType = async ? CompletionStage.class : returnType;
+                if (parameterTypes.length <= MAX_ARITY) {
+                    // arguments are passed to arity-specialized variant of the specialized method without an array
+                    appendArguments(writer, parameterTypes, true);
+                    writer.invoke(INVOKEINTERFACE, specializedClass, interceptMethod + parameterTypes.length, getInterceptDescriptor(parameterTypes.length, interceptReturnType));
+                } else {
+                    appendArguments(writer, parameterTypes, false);
+                    writer.invoke(INVOKEINTERFACE, specializedClass, interceptMethod, getInterceptDescriptor(-1, interceptReturnType));
+                }
+                if (returnType == CompletableFuture.class) {
+                    // the stage may be of any implementation, hence it is adapted rather than cast
+                    writer.invoke(INVOKEINTERFACE, CLASS_COMPLETION_STAGE, METHOD_TO_COMPLETABLE_FUTURE, "()" + getDescriptor(CompletableFuture.class));
+                }
+                appendMetrics(context, writer, index, startSlot, METHOD_RECORD);
+                writer.returnValue(returnType);
+                writer.mark(generic);
+                writer.addSameFrame(generic);
+                writer.varInsn(ALOAD, 0);
+                writer.fieldInsn(GETFIELD, proxyClass, FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR);
+            }
+            writer.varInsn(ALOAD, 0);
+            appendMethodDecorator(context, writer, index);
+            if (parameterTypes.length <= MAX_ARITY) {
+                // arguments are passed to arity-specialized intercept method without an array
+                appendArguments(writer, parameterTypes, true);
+                writer.invoke(INVOKEINTERFACE, InvocationInterceptor.class.getName(), METHOD_INTERCEPT + parameterTypes.length, getInterceptDescriptor(parameterTypes.length, Object.class));
+            } else {
+                appendArguments(writer, parameterTypes, false);
+                writer.invoke(INVOKEINTERFACE, InvocationInterceptor.class.getName(), METHOD_INTERCEPT, DESCRIPTOR_INTERCEPT);
+            }
+            if (returnType == void.class) {
+                writer.insn(POP);
+            } else {
+                appendUnboxing(writer, returnType);
+            }
+            appendMetrics(context, writer, index, startSlot, METHOD_RECORD);
+            writer.returnValue(returnType);
+            Label tryEnd = new Label();
+            writer.mark(tryEnd);
+
+            //  catch (RuntimeException | Error e) {
+            //    throw e;
+            //  }
+            Label rethrow = new Label();
+            writer.addHandler(tryStart, tryEnd, rethrow, Error.class.getName());
+            writer.addHandler(tryStart, tryEnd, rethrow, RuntimeException.class.getName());
+            writer.mark(rethrow);
+            writer.addSameLocals1StackItemFrame(rethrow, CLASS_THROWABLE);
+            writer.varInsn(ASTORE, exceptionSlot);
+            appendMetrics(context, writer, index, startSlot, METHOD_RECORD_ERROR);
+            writer.varInsn(ALOAD, exceptionSlot);
+            writer.insn(ATHROW);
+
+            //  catch (Throwable e) {
+            //    throw new UndeclaredThrowableException(e);
+            //  }
+            Label wrap = new Label();
+            writer.addHandler(tryStart, tryEnd, wrap, CLASS_THROWABLE);
+            writer.mark(wrap);
+            writer.addSameLocals1StackItemFrame(wrap, CLASS_THROWABLE);
+            writer.varInsn(ASTORE, exceptionSlot);
+            appendMetrics(context, writer, index, startSlot, METHOD_RECORD_ERROR);
+            writer.typeInsn(NEW, CLASS_UNDECLARED_THROWABLE_EXCEPTION);
+            writer.insn(DUP);
+            writer.varInsn(ALOAD, exceptionSlot);
+            writer.invoke(INVOKESPECIAL, CLASS_UNDECLARED_THROWABLE_EXCEPTION, METHOD_INIT, "(" + SIGNATURE_THROWABLE + ")V");
+            writer.insn(ATHROW);
+            writer.endMethod();
+        }
+    }
+
+    /**
+     * Generates the implementation of {@link InterceptorAccessor#getInvocationInterceptor()}, which returns the field
+     * {@value Constants#FIELD_INTERCEPTOR}.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     */
+    private static void generateInterceptorAccessor(GenerationContext context, ClassFileWriter writer) {
+        writer.beginMethod(Modifier.PUBLIC | Modifier.FINAL, METHOD_GET_INVOCATION_INTERCEPTOR, "()" + SIGNATURE_INVOCATION_INTERCEPTOR);
+        writer.varInsn(ALOAD, 0);
+        writer.fieldInsn(GETFIELD, context.getProxyClassName(), FIELD_INTERCEPTOR, SIGNATURE_INVOCATION_INTERCEPTOR);
+        writer.insn(ARETURN);
+        writer.endMethod();
+    }
+
+    /**
+     * Generates methods of delegating proxy class which are delegated to the target directly, without the interceptor
+     * or any {@link MethodDecorator} instance.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     */
+    private static void generateDelegatedMethods(GenerationContext context, ClassFileWriter writer) {
+        String proxyClass = context.getProxyClassName();
+        for (Method method : context.getDelegatedMethods()) {
+            String descriptor = MethodDecorator.getDescriptor(method);
+            writer.beginMethod(Modifier.PUBLIC | Modifier.FINAL, method.getName(), descriptor);
+            writer.varInsn(ALOAD, 0);
+            writer.fieldInsn(GETFIELD, proxyClass, FIELD_TARGET, SIGNATURE_OBJECT);
+            writer.typeInsn(CHECKCAST, method.getDeclaringClass().getName());
+            int slot = 1;
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                writer.load(parameterType, slot);
+                slot += getSize(parameterType);
+            }
+            writer.invoke(INVOKEINTERFACE, method.getDeclaringClass().getName(), method.getName(), descriptor);
+            writer.returnValue(method.getReturnType());
+            writer.endMethod();
+        }
+    }
+
+    /**
+     * Generate the dispatch method inherited from interface {@link InvocationDispatcher}, which dispatches method
+     * invocation by a single {@code tableswitch} on {@link MethodDecorator#getIndex()}. If {@code arity} is not
+     * negative, the arity-specialized dispatch method is generated instead, which receives arguments individually and
+     * only dispatches methods taking exactly {@code arity} arguments. If {@code valueType} is primitive, the
+     * specialized dispatch method, such as {@code dispatchLong2}, is generated instead, which only dispatches methods
+     * returning {@code valueType} and returns their values without wrapping.
+     *
+     * @param context   the context bound to the proxy class
+     * @param writer    {@link ClassFileWriter} instance
+     * @param valueType {@code Object.class}, or one of {@link ProxyGenerator#PRIMITIVE_DISPATCH_TYPES} for the
+     *                  specialized dispatch method
+     * @param arity     number of arguments of the arity-specialized dispatch method, or {@code -1} for the dispatch
+     *                  method receiving arguments in an array
+     */
+    private static void generateDispatchMethod(GenerationContext context, ClassFileWriter writer, Class<?> valueType, int arity) {
+        boolean spread = arity >= 0;
+        boolean primitive = valueType.isPrimitive();
+        Map<Method, Integer> methods = new LinkedHashMap<>();
+        for (Map.Entry<Method, Integer> entry : context.getMethods().entrySet()) {
+            Method method = entry.getKey();
+            if ((!spread || method.getParameterCount() == arity) && (!primitive || method.getReturnType() == valueType)) {
+                methods.put(method, entry.getValue());
+            }
+        }
+        if (methods.isEmpty()) {
+            // the default implementation in InvocationDispatcher is enough
+            return;
+        }
+
+        String proxyClass = context.getProxyClassName();
+        writer.beginMethod(Modifier.PUBLIC | Modifier.FINAL, ProxyGenerator.getDispatchMethodName(valueType, arity),
+                getInterceptDescriptor(arity, valueType), CLASS_THROWABLE);
+
+        // all branches of tableswitch share the same frame with the beginning of this method
+        if (context.isDelegating()) {
+            // invocation with null object is dispatched to the target of delegating proxy class
+            writer.varInsn(ALOAD, 1);
+            Label target = new Label();
+            writer.jump(IFNONNULL, target);
+            writer.varInsn(ALOAD, 0);
+            writer.fieldInsn(GETFIELD, proxyClass, FIELD_TARGET, SIGNATURE_OBJECT);
+            writer.varInsn(ASTORE, 1);
+            writer.mark(target);
+            writer.addSameFrame(target);
+        }
+        // For proxy class with an interceptor chain, invocation from any interceptor but the last one proceeds to
+        // the next interceptor directly, with the arguments passed by that interceptor. Specialized dispatch methods
+        // proceed to the specialized intercept method if the next interceptor implements
+        // PrimitiveInvocationInterceptor, so that the value is not wrapped between interceptors either.
+        int stages = context.getChainLength();
+        if (stages > 1) {
+            writer.varInsn(ALOAD, 2);
+            writer.invoke(INVOKEVIRTUAL, CLASS_METHOD_DECORATOR, METHOD_GET_STAGE, "()I");
+            Label[] stageLabels = new Label[stages - 1];
+            for (int stage = 0; stage < stageLabels.length; stage++) {
+                stageLabels[stage] = new Label();
+            }
+            Label indexLabel = new Label();
+            writer.tableSwitch(0, indexLabel, stageLabels);
+            for (int stage = 0; stage < stageLabels.length; stage++) {
+                String field = ProxyGenerator.getInterceptorFieldName(stage + 1);
+                writer.mark(stageLabels[stage]);
+                writer.addSameFrame(stageLabels[stage]);
+                if (primitive) {
+                    writer.varInsn(ALOAD, 0);
+                    writer.fieldInsn(GETFIELD, proxyClass, field, SIGNATURE_INVOCATION_INTERCEPTOR);
+                    writer.typeInsn(INSTANCEOF, CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR);
+                    Label generic = new Label();
+                    writer.jump(IFEQ, generic);
+                    appendNextStage(writer, proxyClass, field, CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR, arity);
+                    String interceptMethod = ProxyGenerator.getPrimitiveInterceptMethod(valueType);
+                    writer.invoke(INVOKEINTERFACE, CLASS_PRIMITIVE_INVOCATION_INTERCEPTOR, spread ? interceptMethod + arity : interceptMethod, getInterceptDescriptor(arity, valueType));
+                    writer.returnValue(valueType);
+                    writer.mark(generic);
+                    writer.addSameFrame(generic);
+                }
+                appendNextStage(writer, proxyClass, field, null, arity);
+                writer.invoke(INVOKEINTERFACE, InvocationInterceptor.class.getName(), spread ? METHOD_INTERCEPT + arity : METHOD_INTERCEPT, getInterceptDescriptor(arity, Object.class));
+                appendUnboxing(writer, valueType);
+                writer.returnValue(valueType);
+            }
+            writer.mark(indexLabel);
+            writer.addSameFrame(indexLabel);
+        }
+
+        int low = Collections.min(methods.values()), high = Collections.max(methods.values());
+        Label[] labels = new Label[high - low + 1];
+        for (int index : methods.values()) {
+            labels[index - low] = new Label();
+        }
+        Label defaultLabel = new Label();
+        writer.varInsn(ALOAD, 2);
+        writer.invoke(INVOKEVIRTUAL, CLASS_METHOD_DECORATOR, METHOD_GET_INDEX, "()I");
+        writer.tableSwitch(low, defaultLabel, labels);
+
+        List<Map.Entry<Method, Integer>> doInvokeMethods = new ArrayList<>();
+        for (Map.Entry<Method, Integer> entry : methods.entrySet()) {
+            Method method = entry.getKey();
+            int index = entry.getValue();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            String descriptor = MethodDecorator.getDescriptor(method);
+            writer.mark(labels[index - low]);
+            writer.addSameFrame(labels[index - low]);
+            if (context.isDelegatedMethod(method)) {
+                // method from interface of delegating proxy class, which is invoked on the target directly
+                writer.varInsn(ALOAD, 1);
+                writer.typeInsn(CHECKCAST, method.getDeclaringClass().getName());
+                appendDispatchArguments(writer, parameterTypes, spread);
+                writer.invoke(INVOKEINTERFACE, method.getDeclaringClass().getName(), method.getName(), descriptor);
+            } else if (context.isDoInvokeMethod(method)) {
+                // method from interface, which should be invoked via another "doInvoke..." method
+                writer.varInsn(ALOAD, 0);
+                writer.varInsn(ALOAD, 1);
+                appendDispatchArguments(writer, parameterTypes, spread);
+                writer.invoke(INVOKEVIRTUAL, proxyClass, getDoInvokeMethodName(method, index), "(" + SIGNATURE_OBJECT + descriptor.substring(1));
+                if (!spread && !primitive) {
+                    doInvokeMethods.add(entry);
+                }
+            } else {
+                // method from class (including equals, hashCode and toString from Object), which should be invoked
+                // by "super" directly
+                writer.varInsn(ALOAD, 0);
+                appendDispatchArguments(writer, parameterTypes, spread);
+                writer.invoke(INVOKESPECIAL, method.getDeclaringClass().getName(), method.getName(), descriptor);
+            }
+            if (!primitive) {
+                appendBoxing(writer, method.getReturnType());
+            }
+            writer.returnValue(valueType);
+        }
+
+        writer.mark(defaultLabel);
+        writer.addSameFrame(defaultLabel);
+        if (primitive) {
+            // methods with other return types are dispatched by the dispatch method returning objects
+            writer.varInsn(ALOAD, 0);
+            writer.varInsn(ALOAD, 1);
+            writer.varInsn(ALOAD, 2);
+            if (spread) {
+                for (int i = 0; i < arity; i++) {
+                    writer.varInsn(ALOAD, 3 + i);
+                }
+            } else {
+                writer.varInsn(ALOAD, 3);
+            }
+            writer.invoke(INVOKEVIRTUAL, proxyClass, ProxyGenerator.getDispatchMethodName(Object.class, arity), getInterceptDescriptor(arity, Object.class));
+            appendUnboxing(writer, valueType);
+        } else if (spread) {
+            // methods with other arity are dispatched with arguments in an array
+            writer.varInsn(ALOAD, 0);
+            writer.varInsn(ALOAD, 1);
+            writer.varInsn(ALOAD, 2);
+            if (arity == 0) {
+                writer.insn(ACONST_NULL);
+            } else {
+                writer.pushInt(arity);
+                writer.typeInsn(ANEWARRAY, CLASS_OBJECT);
+                for (int i = 0; i < arity; i++) {
+                    writer.insn(DUP);
+                    writer.pushInt(i);
+                    writer.varInsn(ALOAD, 3 + i);
+                    writer.insn(AASTORE);
+                }
+            }
+            writer.invoke(INVOKEVIRTUAL, proxyClass, METHOD_DISPATCH, DESCRIPTOR_INTERCEPT);
+        } else {
+            writer.insn(ACONST_NULL);
+        }
+        writer.returnValue(valueType);
+        writer.endMethod();
+
+        // methods are written one after another, so doInvoke methods follow the dispatch method
+        for (Map.Entry<Method, Integer> entry : doInvokeMethods) {
+            generateDoInvokeMethod(writer, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes instructions to push the interceptor of the next stage, the proxy instance, the {@link MethodDecorator}
+     * instance of the next stage and the arguments of the dispatch method onto the operand stack, which are the
+     * receiver and arguments of the intercept method of the next stage.
+     *
+     * @param writer     {@link ClassFileWriter} instance
+     * @param proxyClass name of the proxy class
+     * @param field      name of the field holding the interceptor of the next stage
+     * @param castClass  class which the interceptor is cast to, or {@code null} if no cast is needed
+     * @param arity      number of arguments of the arity-specialized dispatch method, or {@code -1} for the dispatch
+     *                   method receiving arguments in an array
+     */
+    private static void appendNextStage(ClassFileWriter writer, String proxyClass, String field, String castClass, int arity) {
+        writer.varInsn(ALOAD, 0);
+        writer.fieldInsn(GETFIELD, proxyClass, field, SIGNATURE_INVOCATION_INTERCEPTOR);
+        if (castClass != null) {
+            writer.typeInsn(CHECKCAST, castClass);
+        }
+        writer.varInsn(ALOAD, 0);
+        writer.varInsn(ALOAD, 2);
+        writer.invoke(INVOKEVIRTUAL, CLASS_METHOD_DECORATOR, METHOD_GET_NEXT, "()" + SIGNATURE_METHOD_DECORATOR);
+        if (arity >= 0) {
+            for (int i = 0; i < arity; i++) {
+                writer.varInsn(ALOAD, 3 + i);
+            }
+        } else {
+            writer.varInsn(ALOAD, 3);
+        }
+    }
+
+    /**
+     * Generates doInvoke method for which inherit from interfaces, which invokes the interface method on the actual
+     * object to be invoked via {@code invokeinterface}.
+     *
+     * @param writer {@link ClassFileWriter} instance
+     * @param method {@link Method} instance, which inherit from interfaces
+     * @param index  index of the method in proxy class, which distinguishes overloaded methods
+     */
+    private static void generateDoInvokeMethod(ClassFileWriter writer, Method method, int index) {
+        String descriptor = MethodDecorator.getDescriptor(method);
+        writer.beginMethod(Modifier.PRIVATE, getDoInvokeMethodName(method, index), "(" + SIGNATURE_OBJECT + descriptor.substring(1), CLASS_THROWABLE);
+        writer.varInsn(ALOAD, 1);
+        writer.typeInsn(CHECKCAST, method.getDeclaringClass().getName());
+        int slot = 2;
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            writer.load(parameterType, slot);
+            slot += getSize(parameterType);
+        }
+        writer.invoke(INVOKEINTERFACE, method.getDeclaringClass().getName(), method.getName(), descriptor);
+        writer.returnValue(method.getReturnType());
+        writer.endMethod();
+    }
+
+    /**
+     * Gets the name of the doInvoke method for the specified method.
+     *
+     * @param method {@link Method} instance
+     * @param index  index of the method in proxy class
+     * @return name of the doInvoke method
+     */
+    private static String getDoInvokeMethodName(Method method, int index) {
+        return METHOD_DO_INVOKE + StringUtils.capitalize(method.getName()) + index;
+    }
+
+    /**
+     * Writes instructions to push the values of the arguments passed in the method invocation onto the operand
+     * stack. Arguments of primitive types are wrapped in instances of the appropriate primitive wrapper class. If
+     * {@code spread} is {@code false}, arguments are pushed in an array of objects, or {@code null} if the method takes
+     * no arguments; otherwise arguments are pushed one by one.
+     *
+     * @param writer         {@link ClassFileWriter} instance
+     * @param parameterTypes parameter types of the method
+     * @param spread         whether to push arguments one by one or in an array
+     */
+    private static void appendArguments(ClassFileWriter writer, Class<?>[] parameterTypes, boolean spread) {
+        if (!spread) {
+            if (parameterTypes.length == 0) {
+                writer.insn(ACONST_NULL);
+                writer.typeInsn(CHECKCAST, Object[].class.getName());
+                return;
+            }
+            writer.pushInt(parameterTypes.length);
+            writer.typeInsn(ANEWARRAY, CLASS_OBJECT);
+        }
+        for (int i = 0, slot = 1; i < parameterTypes.length; i++) {
+            if (!spread) {
+                writer.insn(DUP);
+                writer.pushInt(i);
+            }
+            writer.load(parameterTypes[i], slot);
+            // if parameter is primitive, then a conversion is needed
+            appendBoxing(writer, parameterTypes[i]);
+            slot += getSize(parameterTypes[i]);
+            if (!spread) {
+                writer.insn(AASTORE);
+            }
+        }
+    }
+
+    /**
+     * Writes instructions to push the arguments of the dispatch method onto the operand stack, converted into the
+     * specified types.
+     *
+     * @param writer         {@link ClassFileWriter} instance
+     * @param parameterTypes parameter types of the method to dispatch to
+     * @param spread         whether arguments are passed individually or in an array
+     */
+    private static void appendDispatchArguments(ClassFileWriter writer, Class<?>[] parameterTypes, boolean spread) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (spread) {
+                writer.varInsn(ALOAD, 3 + i);
+            } else {
+                writer.varInsn(ALOAD, 3);
+                writer.pushInt(i);
+                writer.insn(AALOAD);
+            }
+            appendUnboxing(writer, parameterTypes[i]);
+        }
+    }
+
+    /**
+     * Writes instructions to push the {@link MethodDecorator} instance of the specified index onto the operand stack,
+     * which is resolved on first access.
+     *
+     * @param context the context bound to the proxy class
+     * @param writer  {@link ClassFileWriter} instance
+     * @param index   index of the method in proxy class
+     */
+    private static void appendMethodDecorator(GenerationContext context, ClassFileWriter writer, int index) {
+        writer.pushInt(index);
+        writer.invoke(INVOKESTATIC, context.getProxyClassName(), METHOD_GET_METHOD_DECORATOR, "(I)" + SIGNATURE_METHOD_DECORATOR);
+    }
+
+    /**
+     * Writes instructions to record the invocation of the method of the specified index via {@link MethodMetrics},
+     * if invocation metrics are enabled. Nothing is written otherwise.
+     *
+     * @param context      the context bound to the proxy class
+     * @param writer       {@link ClassFileWriter} instance
+     * @param index        index of the method in proxy class
+     * @param startSlot    slot of the local variable holding start time of the invocation
+     * @param recordMethod {@value Constants#METHOD_RECORD} or {@value Constants#METHOD_RECORD_ERROR}
+     */
+    private static void appendMetrics(GenerationContext context, ClassFileWriter writer, int index, int startSlot, String recordMethod) {
+        if (context.isGenerateMetrics()) {
+            writer.fieldInsn(GETSTATIC, context.getProxyClassName(), FIELD_METHOD_METRICS, SIGNATURE_METHOD_METRICS);
+            writer.pushInt(index);
+            writer.varInsn(LLOAD, startSlot);
+            writer.invoke(INVOKEVIRTUAL, CLASS_METHOD_METRICS, recordMethod, "(IJ)V");
+        }
+    }
+
+    /**
+     * Writes instructions to convert the object on top of the operand stack into the specified type. Objects are
+     * unwrapped if the specified type is primitive, discarded if it is {@code void}, or cast to the specified type
+     * otherwise.
+     *
+     * @param writer {@link ClassFileWriter} instance
+     * @param type   type to convert into
+     */
+    private static void appendUnboxing(ClassFileWriter writer, Class<?> type) {
+        //noinspection StatementWithEmptyBody
+        if (type.equals(Object.class)) {
+            // type is Object.class, ignore
+        } else if (type.equals(void.class)) {
+            writer.insn(POP);
+        } else if (type.isPrimitive()) {
+            String wrapperClass = ProxyGenerator.transformPrimitiveTypesToWrapperTypes(type).getName();
+            writer.typeInsn(CHECKCAST, wrapperClass);
+            writer.invoke(INVOKEVIRTUAL, wrapperClass, type.getName() + "Value", "()" + getDescriptor(type));
+        } else {
+            writer.typeInsn(CHECKCAST, type.getName());
+        }
+    }
+
+    /**
+     * Writes instructions to convert the value of the specified type on top of the operand stack into an object.
+     * Values of primitive types are wrapped in instances of the appropriate primitive wrapper class, and {@code null}
+     * is pushed for {@code void}.
+     *
+     * @param writer {@link ClassFileWriter} instance
+     * @param type   type of the value on top of the operand stack
+     */
+    private static void appendBoxing(ClassFileWriter writer, Class<?> type) {
+        if (type.equals(void.class)) {
+            writer.insn(ACONST_NULL);
+        } else if (type.isPrimitive()) {
+            Class<?> wrapperClass = ProxyGenerator.transformPrimitiveTypesToWrapperTypes(type);
+            writer.invoke(INVOKESTATIC, wrapperClass.getName(), METHOD_VALUE_OF, getDescriptor(wrapperClass, type));
+        }
+    }
+
+    /**
+     * Gets the descriptor of an intercept or dispatch method with the specified arity and return type, such as
+     * {@code "(Ljava/lang/Object;Lio/github/lamspace/newproxy/MethodDecorator;Ljava/lang/Object;)Ljava/lang/Object;"}.
+     *
+     * @param arity      number of arguments, or {@code -1} for arguments in an array
+     * @param returnType the return type
+     * @return the descriptor
+     */
+    private static String getInterceptDescriptor(int arity, Class<?> returnType) {
+        StringBuilder builder = new StringBuilder("(").append(SIGNATURE_OBJECT).append(SIGNATURE_METHOD_DECORATOR);
+        if (arity < 0) {
+            builder.append(SIGNATURE_OBJECT_ARRAY);
+        }
+        for (int i = 0; i < arity; i++) {
+            builder.append(SIGNATURE_OBJECT);
+        }
+        return MethodDecorator.appendDescriptor(builder.append(')'), returnType).toString();
+    }
+
+    /**
+     * Gets the descriptor of a method with the specified return type and parameter types.
+     *
+     * @param returnType     the return type
+     * @param parameterTypes the parameter types
+     * @return the descriptor
+     */
+    private static String getDescriptor(Class<?> returnType, Class<?>... parameterTypes) {
+        StringBuilder builder = new StringBuilder("(");
+        for (Class<?> parameterType : parameterTypes) {
+            MethodDecorator.appendDescriptor(builder, parameterType);
+        }
+        return MethodDecorator.appendDescriptor(builder.append(')'), returnType).toString();
+    }
+
+    /**
+     * Gets the descriptor of the specified type.
+     *
+     * @param type the type
+     * @return the descriptor
+     */
+    private static String getDescriptor(Class<?> type) {
+        return MethodDecorator.appendDescriptor(new StringBuilder(), type).toString();
+    }
+
+    /**
+     * Gets the number of slots taken by a local variable of the specified type.
+     *
+     * @param type the type
+     * @return {@code 2} for {@code long} and {@code double}, otherwise {@code 1}
+     */
+    private static int getSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+}
@@ -0,0 +1,693 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lamspace.newproxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link SwappableInvocationInterceptor} is an invocation interceptor whose behavior can be replaced at runtime,
+ * without recreating proxy instances that were created with it.<br/>
+ * An instance of {@link SwappableInvocationInterceptor} forwards all method invocations to its current interceptor,
+ * which is replaced via {@link #setInterceptor(InvocationInterceptor)} and published through a volatile field. Sharing
+ * one instance among all proxy instances of a proxy class replaces the interception behavior of the proxy class,
+ * while creating one instance per proxy instance replaces the behavior of a single proxy instance.<br/>
+ * Besides, {@link #setEnabled(boolean)} is a global switch for all instances of {@link SwappableInvocationInterceptor}.
+ * Once disabled, method invocations are forwarded to the fallback interceptor of each instance instead, such as an
+ * interceptor that invokes the target directly. The switch is held by a {@link MutableCallSite} reachable from a
+ * constant, so the JIT compiler folds the check into a constant and only deoptimizes dependent code when the switch
+ * is flipped.<br/>
+ * If the current interceptor implements {@link PrimitiveInvocationInterceptor} or {@link AsyncInvocationInterceptor},
+ * specialized methods are forwarded to it as well, so that no wrapper instance is allocated for primitive return
+ * values and asynchronous methods are still intercepted by composing on the returned stages. Arity-specialized
+ * methods, such as {@link #intercept2(Object, MethodDecorator, Object, Object) intercept2} or
+ * {@link #interceptInt2(Object, MethodDecorator, Object, Object) interceptInt2}, are forwarded to the
+ * arity-specialized methods of the current interceptor, falling back to the generic ones of the same arity, so that
+ * no array is allocated for arguments either.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see InvocationInterceptor
+ * @see PrimitiveInvocationInterceptor
+ * @see AsyncInvocationInterceptor
+ * @since 1.0.0
+ */
+public final class SwappableInvocationInterceptor implements PrimitiveInvocationInterceptor, AsyncInvocationInterceptor {
+
+    private static final MutableCallSite ENABLED_SITE = new MutableCallSite(MethodHandles.constant(boolean.class, true));
+
+    private static final MethodHandle ENABLED = ENABLED_SITE.dynamicInvoker();
+
+    private final InvocationInterceptor fallback;
+
+    private volatile InvocationInterceptor interceptor;
+
+    /**
+     * Creates an instance of {@link SwappableInvocationInterceptor}.
+     *
+     * @param interceptor the initial interceptor to forward method invocations to
+     * @param fallback    the interceptor to forward method invocations to while all swappable interceptors are
+     *                    disabled
+     * @throws NullPointerException if {@code interceptor} or {@code fallback} is {@code null}
+     */
+    public SwappableInvocationInterceptor(InvocationInterceptor interceptor, InvocationInterceptor fallback) {
+        this.interceptor = Objects.requireNonNull(interceptor, "interceptor is null");
+        this.fallback = Objects.requireNonNull(fallback, "fallback is null");
+    }
+
+    /**
+     * Returns the interceptor which method invocations are currently forwarded to while enabled.
+     *
+     * @return the current interceptor.
+     */
+    public InvocationInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * Replaces the interceptor which method invocations are forwarded to. The replacement takes effect on all proxy
+     * instances holding this instance, for method invocations started after this method returns.
+     *
+     * @param interceptor the new interceptor
+     * @return the interceptor replaced.
+     * @throws NullPointerException if {@code interceptor} is {@code null}
+     */
+    public InvocationInterceptor setInterceptor(InvocationInterceptor interceptor) {
+        Objects.requireNonNull(interceptor, "interceptor is null");
+        InvocationInterceptor previous = this.interceptor;
+        this.interceptor = interceptor;
+        return previous;
+    }
+
+    /**
+     * Returns the fallback interceptor which method invocations are forwarded to while disabled.
+     *
+     * @return the fallback interceptor.
+     */
+    public InvocationInterceptor getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Checks whether all instances of {@link SwappableInvocationInterceptor} forward method invocations to their
+     * current interceptors, rather than their fallback interceptors.
+     *
+     * @return true if enabled; otherwise, false.
+     */
+    public static boolean isEnabled() {
+        try {
+            return (boolean) ENABLED.invokeExact();
+        } catch (Throwable e) {
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Enables or disables all instances of {@link SwappableInvocationInterceptor}. While disabled, method invocations
+     * are forwarded to fallback interceptors. Flipping the switch invalidates compiled code depending on it, hence it
+     * is meant to be rarely invoked, such as turning off expensive interceptors during an incident.
+     *
+     * @param enabled true to forward method invocations to current interceptors; false to fallback interceptors
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        if (isEnabled() != enabled) {
+            ENABLED_SITE.setTarget(MethodHandles.constant(boolean.class, enabled));
+            MutableCallSite.syncAll(new MutableCallSite[]{ENABLED_SITE});
+        }
+    }
+
+    private InvocationInterceptor current() {
+        return isEnabled() ? interceptor : fallback;
+    }
+
+    @Override
+    public Object intercept(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        return current().intercept(proxy, method, args);
+    }
+
+    @Override
+    public Object intercept0(Object proxy, MethodDecorator method) throws Throwable {
+        return current().intercept0(proxy, method);
+    }
+
+    @Override
+    public Object intercept1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        return current().intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public Object intercept2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        return current().intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public Object intercept3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return current().intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public Object intercept4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return current().intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public Object intercept5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return current().intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public Object intercept6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        return current().intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public int interceptInt(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt(proxy, method, args);
+        }
+        return (Integer) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public int interceptInt0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt0(proxy, method);
+        }
+        return (Integer) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public int interceptInt1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt1(proxy, method, arg0);
+        }
+        return (Integer) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public int interceptInt2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt2(proxy, method, arg0, arg1);
+        }
+        return (Integer) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public int interceptInt3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt3(proxy, method, arg0, arg1, arg2);
+        }
+        return (Integer) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public int interceptInt4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (Integer) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int interceptInt5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (Integer) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public int interceptInt6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptInt6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (Integer) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public long interceptLong(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong(proxy, method, args);
+        }
+        return (Long) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public long interceptLong0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong0(proxy, method);
+        }
+        return (Long) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public long interceptLong1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong1(proxy, method, arg0);
+        }
+        return (Long) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public long interceptLong2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong2(proxy, method, arg0, arg1);
+        }
+        return (Long) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public long interceptLong3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong3(proxy, method, arg0, arg1, arg2);
+        }
+        return (Long) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public long interceptLong4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (Long) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public long interceptLong5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (Long) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public long interceptLong6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptLong6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (Long) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public float interceptFloat(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat(proxy, method, args);
+        }
+        return (Float) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public float interceptFloat0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat0(proxy, method);
+        }
+        return (Float) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public float interceptFloat1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat1(proxy, method, arg0);
+        }
+        return (Float) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public float interceptFloat2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat2(proxy, method, arg0, arg1);
+        }
+        return (Float) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public float interceptFloat3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat3(proxy, method, arg0, arg1, arg2);
+        }
+        return (Float) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public float interceptFloat4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (Float) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public float interceptFloat5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (Float) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public float interceptFloat6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptFloat6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (Float) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public double interceptDouble(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble(proxy, method, args);
+        }
+        return (Double) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public double interceptDouble0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble0(proxy, method);
+        }
+        return (Double) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public double interceptDouble1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble1(proxy, method, arg0);
+        }
+        return (Double) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public double interceptDouble2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble2(proxy, method, arg0, arg1);
+        }
+        return (Double) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public double interceptDouble3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble3(proxy, method, arg0, arg1, arg2);
+        }
+        return (Double) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public double interceptDouble4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (Double) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public double interceptDouble5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (Double) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public double interceptDouble6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptDouble6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (Double) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public boolean interceptBoolean(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean(proxy, method, args);
+        }
+        return (Boolean) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public boolean interceptBoolean0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean0(proxy, method);
+        }
+        return (Boolean) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public boolean interceptBoolean1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean1(proxy, method, arg0);
+        }
+        return (Boolean) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public boolean interceptBoolean2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean2(proxy, method, arg0, arg1);
+        }
+        return (Boolean) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public boolean interceptBoolean3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean3(proxy, method, arg0, arg1, arg2);
+        }
+        return (Boolean) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public boolean interceptBoolean4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (Boolean) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public boolean interceptBoolean5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (Boolean) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public boolean interceptBoolean6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            return ((PrimitiveInvocationInterceptor) current).interceptBoolean6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (Boolean) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void interceptVoid(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid(proxy, method, args);
+        } else {
+            current.intercept(proxy, method, args);
+        }
+    }
+
+    @Override
+    public void interceptVoid0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid0(proxy, method);
+        } else {
+            current.intercept0(proxy, method);
+        }
+    }
+
+    @Override
+    public void interceptVoid1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid1(proxy, method, arg0);
+        } else {
+            current.intercept1(proxy, method, arg0);
+        }
+    }
+
+    @Override
+    public void interceptVoid2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid2(proxy, method, arg0, arg1);
+        } else {
+            current.intercept2(proxy, method, arg0, arg1);
+        }
+    }
+
+    @Override
+    public void interceptVoid3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid3(proxy, method, arg0, arg1, arg2);
+        } else {
+            current.intercept3(proxy, method, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void interceptVoid4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid4(proxy, method, arg0, arg1, arg2, arg3);
+        } else {
+            current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void interceptVoid5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        } else {
+            current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void interceptVoid6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof PrimitiveInvocationInterceptor) {
+            ((PrimitiveInvocationInterceptor) current).interceptVoid6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        } else {
+            current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync(proxy, method, args);
+        }
+        return (CompletionStage<?>) current.intercept(proxy, method, args);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync0(Object proxy, MethodDecorator method) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync0(proxy, method);
+        }
+        return (CompletionStage<?>) current.intercept0(proxy, method);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync1(proxy, method, arg0);
+        }
+        return (CompletionStage<?>) current.intercept1(proxy, method, arg0);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync2(proxy, method, arg0, arg1);
+        }
+        return (CompletionStage<?>) current.intercept2(proxy, method, arg0, arg1);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync3(proxy, method, arg0, arg1, arg2);
+        }
+        return (CompletionStage<?>) current.intercept3(proxy, method, arg0, arg1, arg2);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync4(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync4(proxy, method, arg0, arg1, arg2, arg3);
+        }
+        return (CompletionStage<?>) current.intercept4(proxy, method, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync5(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+        }
+        return (CompletionStage<?>) current.intercept5(proxy, method, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public CompletionStage<?> interceptAsync6(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable {
+        InvocationInterceptor current = current();
+        if (current instanceof AsyncInvocationInterceptor) {
+            return ((AsyncInvocationInterceptor) current).interceptAsync6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+        }
+        return (CompletionStage<?>) current.intercept6(proxy, method, arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+}
@@ -21,6 +21,7 @@ import java.lang.ref.WeakReference;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -57,6 +58,13 @@ final class WeakCache<K, P, V> {
 
     private final BiFunction<K, P, V> valueFactory;
 
+    // statistics of look-ups and expunged entries, which are only read for monitoring
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder expunged = new LongAdder();
+
     /**
      * Construct an instance of {@code WeakCache}.
      *
@@ -97,12 +105,17 @@ final class WeakCache<K, P, V> {
         Object subKey = Objects.requireNonNull(subKeyFactory.apply(key, parameter));
         Supplier<V> supplier = valuesMap.get(subKey);
         Factory factory = null;
+        // whether a Factory has been consulted, including one of another thread that has been waited on
+        boolean calculated = false;
 
         while (true) {
             if (supplier != null) {
                 // supplier might be a Factory or a CacheValue(V) instance
+                calculated |= supplier instanceof WeakCache.Factory;
                 V value = supplier.get();
                 if (value != null) {
+                    // only a value resolved before the look-up is a hit
+                    (calculated ? misses : hits).increment();
                     return value;
                 }
             }
@@ -161,11 +174,39 @@ final class WeakCache<K, P, V> {
         return reverseMap.size();
     }
 
+    /**
+     * Returns the number of look-ups which found the value already calculated in the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of look-ups which evaluated {@code valueFactory} function to calculate the value, or waited
+     * for another thread evaluating it.
+     *
+     * @return number of cache misses.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries expunged from the cache since their keys have been GC-ed.
+     *
+     * @return number of expunged entries.
+     */
+    public long expunged() {
+        return expunged.sum();
+    }
+
     @SuppressWarnings(value = {"unchecked"})
     private void expungeStaleEntries() {
         WeakCache.CacheKey<K> cacheKey;
         while ((cacheKey = (WeakCache.CacheKey<K>) refQueue.poll()) != null) {
-            cacheKey.expungeFrom(map, reverseMap);
+            expunged.add(cacheKey.expungeFrom(map, reverseMap));
         }
     }
 
@@ -275,14 +316,18 @@ final class WeakCache<K, P, V> {
                     obj != null && obj.getClass() == this.getClass() && (key = this.get()) != null && key == ((CacheKey<?>) obj).get();
         }
 
-        void expungeFrom(ConcurrentMap<?, ? extends ConcurrentMap<?, ?>> map,
-                         ConcurrentMap<?, Boolean> reverseMap) {
+        int expungeFrom(ConcurrentMap<?, ? extends ConcurrentMap<?, ?>> map,
+                        ConcurrentMap<?, Boolean> reverseMap) {
+            int count = 0;
             ConcurrentMap<?, ?> valueMap = map.remove(this);
             if (valueMap != null) {
                 for (Object cacheObject : valueMap.values()) {
-                    reverseMap.remove(cacheObject);
+                    if (reverseMap.remove(cacheObject) != null) {
+                        count++;
+                    }
                 }
             }
+            return count;
         }
 
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author, Lam Tong
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lamspace.newproxy;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * {@link SecuritySupport} provides what permission checks of {@link NewProxy} need to know about callers and class
+ * loaders when a {@link SecurityManager} is present, which differs among versions of JDK.<br/>
+ * This implementation is for JDK 9 and later, and is packaged under {@code META-INF/versions/9} of the multi-release
+ * jar, where it replaces the one for JDK 8.
+ *
+ * @author Lam Tong
+ * @version 1.0.0
+ * @see NewProxy
+ * @since 1.0.0
+ */
+final class SecuritySupport {
+
+    /**
+     * Stack walker retaining classes of frames, whose creation requires
+     * {@code RuntimePermission("getStackWalkerWithClassReference")} granted to {@link NewProxy} when a
+     * {@link SecurityManager} is present.
+     */
+    private static final StackWalker WALKER = AccessController.doPrivileged((PrivilegedAction<StackWalker>) () ->
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE));
+
+    private SecuritySupport() {
+    }
+
+    /**
+     * Returns the class of the caller of the method which invokes this method, skipping frames of reflection.
+     *
+     * @return the class of the caller.
+     */
+    static Class<?> getCallerClass() {
+        // skip this method and the method which invokes it
+        return WALKER.walk(frames -> frames.map(StackWalker.StackFrame::getDeclaringClass)
+                .dropWhile(aClass -> aClass == SecuritySupport.class)
+                .skip(1)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new));
+    }
+
+    /**
+     * Returns whether the specified class loader is the bootstrap or the platform class loader or not, whose classes
+     * have all permissions.
+     *
+     * @param loader a class loader
+     * @return {@code true} if the class loader is the bootstrap or the platform class loader.
+     */
+    static boolean isSystemDomainLoader(ClassLoader loader) {
+        return loader == null || loader == ClassLoader.getPlatformClassLoader();
+    }
+
+}
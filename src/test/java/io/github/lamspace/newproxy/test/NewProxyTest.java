@@ -16,22 +16,68 @@
 
 package io.github.lamspace.newproxy.test;
 
+import io.github.lamspace.newproxy.AsyncInvocationInterceptor;
+import io.github.lamspace.newproxy.Constants;
+import io.github.lamspace.newproxy.InterceptorAccessor;
+import io.github.lamspace.newproxy.InvocationDispatcher;
 import io.github.lamspace.newproxy.InvocationInterceptor;
+import io.github.lamspace.newproxy.MethodDecorator;
+import io.github.lamspace.newproxy.MethodFilter;
+import io.github.lamspace.newproxy.MethodMetrics;
 import io.github.lamspace.newproxy.NewProxy;
+import io.github.lamspace.newproxy.NewProxyStats;
+import io.github.lamspace.newproxy.PrimitiveInvocationInterceptor;
+import io.github.lamspace.newproxy.Proxied;
+import io.github.lamspace.newproxy.ProxyFactory;
+import io.github.lamspace.newproxy.ProxyGenerator;
+import io.github.lamspace.newproxy.ProxyPregenerator;
+import io.github.lamspace.newproxy.SwappableInvocationInterceptor;
 import io.github.lamspace.newproxy.interfaces.BarService;
 import io.github.lamspace.newproxy.interfaces.FooService;
+import io.github.lamspace.newproxy.interfaces.OverloadService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -253,6 +299,19 @@ public class NewProxyTest {
         FooService service = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), (proxy, method, args) -> null, null, null, FooService.class);
         Assertions.assertTrue(NewProxy.isProxyClass(service.getClass()));
         Assertions.assertFalse(NewProxy.isProxyClass(Object.class));
+        // a class which looks like a proxy class is not one unless it is defined by NewProxy
+        Assertions.assertFalse(NewProxy.isProxyClass(ForgedProxy.class));
+        Assertions.assertFalse(NewProxy.isProxyInstance(new ForgedProxy()));
+    }
+
+    @Proxied
+    private static final class ForgedProxy implements InvocationDispatcher {
+
+        @Override
+        public Object dispatch(Object object, MethodDecorator method, Object... args) {
+            return null;
+        }
+
     }
 
     /**
@@ -300,14 +359,11 @@ public class NewProxyTest {
             return method.invoke(proxy, fooService, args);
         };
         FooService fooService = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), interceptor, null, null, FooService.class);
-        InvocationInterceptor invocationInterceptor;
-        try {
-            invocationInterceptor = NewProxy.getInvocationInterceptor(fooService);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        InvocationInterceptor invocationInterceptor = NewProxy.getInvocationInterceptor(fooService);
         Assertions.assertNotNull(invocationInterceptor);
         Assertions.assertEquals(invocationInterceptor, interceptor);
+        Assertions.assertSame(interceptor, ((InterceptorAccessor) fooService).getInvocationInterceptor());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NewProxy.getInvocationInterceptor(new Object()));
     }
 
     /**
@@ -395,6 +451,52 @@ public class NewProxyTest {
         }, "No exception when creating proxy for two classes.");
     }
 
+    /**
+     * Case: methods taking more than five parameters, and reference parameters following {@code long} or
+     * {@code double} ones which take two slots, are passed correctly by proxy classes of interfaces and classes.
+     */
+    @Test
+    public void testForWideParameterList() {
+        ClassLoader classLoader = WideService.class.getClassLoader();
+        WideService target = new WideSample();
+        WideService service = (WideService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, target, args), null, null, WideService.class);
+        WideSample sample = (WideSample) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, null, args), null, null, WideSample.class);
+        for (WideService wide : new WideService[]{service, sample}) {
+            Assertions.assertEquals("1|2|a|3.5|b|true", wide.six(1, 2L, "a", 3.5, "b", true));
+            Assertions.assertEquals("1|a|2.5|b|3|c|4", wide.seven(1L, "a", 2.5, "b", 3, "c", 4L));
+            Assertions.assertEquals(Long.MAX_VALUE - 3, wide.sum(Long.MAX_VALUE - 10, "-", 1.0, "xy", 3L));
+        }
+    }
+
+    public interface WideService {
+
+        String six(int a, long b, String c, double d, String e, boolean f);
+
+        String seven(long a, String b, double c, String d, int e, Object f, long g);
+
+        long sum(long a, String sign, double b, String name, long c);
+
+    }
+
+    public static class WideSample implements WideService {
+
+        @Override
+        public String six(int a, long b, String c, double d, String e, boolean f) {
+            return a + "|" + b + "|" + c + "|" + d + "|" + e + "|" + f;
+        }
+
+        @Override
+        public String seven(long a, String b, double c, String d, int e, Object f, long g) {
+            return a + "|" + b + "|" + c + "|" + d + "|" + e + "|" + f + "|" + g;
+        }
+
+        @Override
+        public long sum(long a, String sign, double b, String name, long c) {
+            return a + c + (long) b + sign.length() + name.length();
+        }
+
+    }
+
     /**
      * Case: try to generate a proxy class for a single class and a single interface.
      */
@@ -416,4 +518,1286 @@ public class NewProxyTest {
         Assertions.assertEquals("6.0", proxySample.add(1, 2.0, 3L));
     }
 
+    /**
+     * Case: method invocation for overloaded methods should be dispatched to the right method.
+     */
+    @Test
+    public void testForOverloadedMethods() {
+        OverloadService overloadService = new OverloadService() {
+
+            @Override
+            public String echo() {
+                return "echo";
+            }
+
+            @Override
+            public String echo(String message) {
+                return message;
+            }
+
+            @Override
+            public String echo(String message, int count) {
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < count; i++) {
+                    builder.append(message);
+                }
+                return builder.toString();
+            }
+
+            @Override
+            public long echo(long value) {
+                return value;
+            }
+
+        };
+        InvocationInterceptor interceptor = (proxy, method, args) -> method.invoke(proxy, overloadService, args);
+        OverloadService proxy = (OverloadService) NewProxy.newProxyInstance(OverloadService.class.getClassLoader(), interceptor, null, null, OverloadService.class);
+        Assertions.assertEquals("echo", proxy.echo());
+        Assertions.assertEquals("Hello", proxy.echo("Hello"));
+        Assertions.assertEquals("HelloHello", proxy.echo("Hello", 2));
+        Assertions.assertEquals(Long.MAX_VALUE, proxy.echo(Long.MAX_VALUE));
+    }
+
+    /**
+     * Case: the value returned for a method of primitive return type must be an instance of the matching wrapper
+     * class, whether the interceptor implements {@link PrimitiveInvocationInterceptor} or not.
+     */
+    @Test
+    public void testForPrimitiveReturnValueContract() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        InvocationInterceptor plain = (proxy, method, args) -> (short) 3;
+        PrimitiveInvocationInterceptor primitive = (proxy, method, args) -> (short) 3;
+        for (InvocationInterceptor interceptor : new InvocationInterceptor[]{plain, primitive}) {
+            FooService service = (FooService) NewProxy.newProxyInstance(classLoader, interceptor, null, null, FooService.class);
+            Assertions.assertThrows(ClassCastException.class, () -> service.add(1, 2.0));
+        }
+        PrimitiveInvocationInterceptor exact = (proxy, method, args) -> 3;
+        Assertions.assertEquals(3, ((FooService) NewProxy.newProxyInstance(classLoader, exact, null, null, FooService.class)).add(1, 2.0));
+    }
+
+    /**
+     * Case: method invocation whose return type is primitive should be dispatched to the specialized intercept method
+     * of {@link PrimitiveInvocationInterceptor}, while others should be dispatched to the generic one.
+     */
+    @Test
+    public void testForPrimitiveInvocationInterceptor() {
+        PrimitiveInvocationInterceptor interceptor = new PrimitiveInvocationInterceptor() {
+
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+                return method.invoke(proxy, fooService, args);
+            }
+
+            @Override
+            public int interceptInt(Object proxy, MethodDecorator method, Object[] args) {
+                if (method.getMethod().getName().equals("add")) {
+                    return (Integer) args[0] - 1;
+                }
+                return 0;
+            }
+
+        };
+        FooService proxy = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), interceptor, null, null, FooService.class);
+        Assertions.assertEquals(0, proxy.add(1, 2.0));
+        Assertions.assertEquals(0, proxy.hashCode());
+        Assertions.assertEquals("HelloWorld", proxy.concat("Hello", "World"));
+        proxy.foo();
+    }
+
+    /**
+     * Case: method invocation should be dispatched via arity-specialized intercept methods and dispatch methods
+     * without arguments in an array, for both interface and class.
+     */
+    @Test
+    public void testForArityInvocationInterceptor() {
+        InvocationInterceptor interceptor = new InvocationInterceptor() {
+
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                throw new IllegalStateException("arguments should not be passed in an array");
+            }
+
+            @Override
+            public Object intercept0(Object proxy, MethodDecorator method) throws Throwable {
+                return method.invoke0(proxy, fooService);
+            }
+
+            @Override
+            public Object intercept1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+                return method.invoke1(proxy, barService, arg0);
+            }
+
+            @Override
+            public Object intercept2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+                return method.invoke2(proxy, fooService, arg0, arg1);
+            }
+
+            @Override
+            public Object intercept3(Object proxy, MethodDecorator method, Object arg0, Object arg1, Object arg2) throws Throwable {
+                return method.invoke3(proxy, fooService, arg0, arg1, arg2);
+            }
+
+        };
+        FooService fooProxy = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), interceptor, null, null, FooService.class);
+        fooProxy.foo();
+        Assertions.assertEquals(3, fooProxy.add(1, 2.0));
+        Assertions.assertEquals("HelloWorld", fooProxy.concat("Hello", "World"));
+        Assertions.assertEquals("xxxx", fooProxy.repeat("x", 2, "repeat"));
+        ProxySample sample = (ProxySample) NewProxy.newProxyInstance(ProxySample.class.getClassLoader(), interceptor, new Class[]{String.class}, new Object[]{"Hello, World"}, ProxySample.class);
+        Assertions.assertEquals("Hello, Lam Tong", sample.hello("Lam Tong"));
+        Assertions.assertEquals("6.0", sample.add(1, 2.0, 3L));
+        Assertions.assertNotNull(sample.toString());
+    }
+
+    /**
+     * Case: method invocation whose return type is primitive should be dispatched to the arity-specialized variants of
+     * the specialized intercept methods, and return from the target to each interceptor of the chain without
+     * wrapping, via the specialized dispatch methods of the proxy class.
+     */
+    @Test
+    public void testForPrimitiveInvocationWithoutWrapping() throws Exception {
+        List<String> trace = new ArrayList<>();
+        Function<String, PrimitiveInvocationInterceptor> factory = name -> new PrimitiveInvocationInterceptor() {
+
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                throw new IllegalStateException("arguments and return values should not be wrapped");
+            }
+
+            @Override
+            public int interceptInt0(Object proxy, MethodDecorator method) throws Throwable {
+                trace.add(name + method.getStage());
+                return method.invokeInt0(proxy, fooService);
+            }
+
+            @Override
+            public int interceptInt2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+                trace.add(name + method.getStage());
+                return method.invokeInt2(proxy, fooService, arg0, arg1) + 1;
+            }
+
+            @Override
+            public void interceptVoid0(Object proxy, MethodDecorator method) throws Throwable {
+                trace.add(name + method.getStage());
+                method.invokeVoid0(proxy, fooService);
+            }
+
+        };
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        FooService service = (FooService) NewProxy.newProxyInstance(classLoader, factory.apply("first"), null, null, FooService.class);
+        Assertions.assertEquals(4, service.add(1, 2.0));
+        service.foo();
+        Assertions.assertEquals(Arrays.asList("first0", "first0"), trace);
+        Assertions.assertNotNull(service.getClass().getDeclaredMethod("dispatchInt2", Object.class, MethodDecorator.class, Object.class, Object.class));
+
+        trace.clear();
+        FooService chained = (FooService) NewProxy.newProxyInstance(classLoader, new InvocationInterceptor[]{factory.apply("first"), factory.apply("second")},
+                null, null, FooService.class);
+        Assertions.assertEquals(5, chained.add(1, 2.0));
+        chained.foo();
+        Assertions.assertEquals(System.identityHashCode(chained), chained.hashCode());
+        Assertions.assertEquals(Arrays.asList("first0", "second1", "first0", "second1", "first0", "second1"), trace);
+    }
+
+    /**
+     * Case: method invocation for interfaces should be dispatched to the object passed in each invocation, rather
+     * than the object passed in the first invocation.
+     */
+    @Test
+    public void testForDifferentObjectsOfInterface() {
+        InnerService first = () -> "first", second = () -> "second";
+        AtomicInteger count = new AtomicInteger();
+        InvocationInterceptor interceptor = (proxy, method, args) -> method.invoke(proxy, count.getAndIncrement() == 0 ? first : second, args);
+        InnerService proxy = (InnerService) NewProxy.newProxyInstance(InnerService.class.getClassLoader(), interceptor, null, null, InnerService.class);
+        Assertions.assertEquals("first", proxy.inner());
+        Assertions.assertEquals("second", proxy.inner());
+    }
+
+    /**
+     * Case: create proxy instances repeatedly via {@link ProxyFactory}, for both interface and class with
+     * parameterized constructor.
+     */
+    @Test
+    public void testForProxyFactory() {
+        InvocationInterceptor interceptor = (proxy, method, args) -> method.invoke(proxy, fooService, args);
+        ProxyFactory<FooService> fooFactory = NewProxy.factory(FooService.class.getClassLoader(), null, FooService.class);
+        FooService first = fooFactory.newInstance(interceptor), second = fooFactory.newInstance(interceptor);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.getClass(), fooFactory.getProxyClass());
+        Assertions.assertEquals("HelloWorld", second.concat("Hello", "World"));
+
+        ProxyFactory<ProxySample> sampleFactory = NewProxy.factory(ProxySample.class.getClassLoader(), new Class[]{String.class}, ProxySample.class);
+        ProxySample sample = sampleFactory.newInstance((proxy, method, args) -> method.invoke(proxy, null, args), "Hello, World");
+        Assertions.assertEquals("Hello, Lam Tong", sample.hello("Lam Tong"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampleFactory.newInstance(interceptor));
+        Assertions.assertThrows(NullPointerException.class, () -> fooFactory.newInstance(null));
+    }
+
+    /**
+     * Case: proxy classes are cached by constructor argument types as well, and the order of interfaces does not
+     * lead to different proxy classes.
+     */
+    @Test
+    public void testForProxyClassCacheKey() {
+        ClassLoader classLoader = ProxySample.class.getClassLoader();
+        Class<?> first = NewProxy.getProxyClass(classLoader, new Class[]{String.class}, ProxySample.class),
+                second = NewProxy.getProxyClass(classLoader, new Class[]{String.class, long.class}, ProxySample.class);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first, NewProxy.getProxyClass(classLoader, new Class[]{String.class}, ProxySample.class));
+        ProxySample sample = (ProxySample) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, null, args),
+                new Class[]{String.class, long.class}, new Object[]{"Hello, World", 1L}, ProxySample.class);
+        Assertions.assertSame(second, sample.getClass());
+        Assertions.assertEquals("Hello, Lam Tong", sample.hello("Lam Tong"));
+
+        Class<?> fooBar = NewProxy.getProxyClass(classLoader, null, FooService.class, BarService.class);
+        Assertions.assertSame(fooBar, NewProxy.getProxyClass(classLoader, null, BarService.class, FooService.class));
+        Assertions.assertSame(NewProxy.getProxyClass(classLoader, new Class[]{String.class}, ProxySample.class, BarService.class),
+                NewProxy.getProxyClass(classLoader, new Class[]{String.class}, BarService.class, ProxySample.class));
+    }
+
+    /**
+     * Case: generate proxy classes in background in advance, and failures of generation complete the future
+     * exceptionally.
+     */
+    @Test
+    public void testForPrewarm() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            NewProxy.prewarm(classLoader, Arrays.asList(new Class<?>[]{OverloadService.class},
+                    new Class<?>[]{SimpleSample.class, BarService.class}), executorService).join();
+            Assertions.assertTrue(NewProxy.isProxyClass(NewProxy.getProxyClass(classLoader, null, OverloadService.class)));
+            Assertions.assertTrue(NewProxy.isProxyClass(NewProxy.getProxyClass(classLoader, null, BarService.class, SimpleSample.class)));
+            CompletableFuture<Void> future = NewProxy.prewarm(classLoader, Collections.singletonList(new Class<?>[]{FooService.class, FooService.class}));
+            Assertions.assertThrows(CompletionException.class, future::join);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> NewProxy.prewarm(classLoader, Collections.singletonList(new Class<?>[0])));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Case: proxy classes pregenerated at build time are defined directly instead of being generated at runtime,
+     * unless the fingerprint of their index entries differs from the classes at runtime. Pregenerated proxy classes
+     * are looked up in the class loader of {@link NewProxy}, which is isolated with its own index here.
+     */
+    @Test
+    public void testForPregeneratedProxyClass() throws Exception {
+        Map.Entry<String, byte[]> entry = ProxyPregenerator.generate(null, BarService.class);
+        String proxyClassName = entry.getKey();
+        Path dir = Files.createTempDirectory("newproxy");
+        Path classFile = dir.resolve(Constants.PREGENERATED_CLASSES + proxyClassName.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, entry.getValue());
+        Properties properties = new Properties();
+        properties.setProperty(Constants.PREGENERATED_INDEX_VERSION, Constants.GENERATOR_VERSION);
+        properties.setProperty(ProxyPregenerator.getSpecification(null, BarService.class), ProxyPregenerator.getIndexEntry(proxyClassName, BarService.class));
+        // the entry of FooService was generated for methods that no longer match the interface
+        properties.setProperty(ProxyPregenerator.getSpecification(null, FooService.class), proxyClassName + ";0123456789abcdef");
+        try (OutputStream outputStream = Files.newOutputStream(dir.resolve(Constants.PREGENERATED_INDEX))) {
+            properties.store(outputStream, null);
+        }
+        try (URLClassLoader classLoader = newIsolatedClassLoader(dir.toUri().toURL())) {
+            Object[] result = runIsolated(classLoader, PregeneratedScenario.class);
+            Assertions.assertEquals(proxyClassName, result[0]);
+            Assertions.assertEquals(Boolean.TRUE, result[1]);
+            Assertions.assertEquals(1, result[2]);
+            Assertions.assertNotEquals(proxyClassName, result[3]);
+            Assertions.assertEquals("HelloWorld", result[4]);
+        }
+        // the fingerprint covers system properties which change generated proxy classes
+        String indexEntry = ProxyPregenerator.getIndexEntry(proxyClassName, BarService.class);
+        System.setProperty(Constants.STRING_GENERATE_DO_INVOKE_METHOD, "false");
+        try {
+            Assertions.assertNotEquals(indexEntry, ProxyPregenerator.getIndexEntry(proxyClassName, BarService.class));
+        } finally {
+            System.clearProperty(Constants.STRING_GENERATE_DO_INVOKE_METHOD);
+        }
+    }
+
+    public static class PregeneratedScenario implements Callable<Object[]> {
+
+        @Override
+        public Object[] call() {
+            ClassLoader classLoader = getClass().getClassLoader();
+            AtomicInteger counter = new AtomicInteger();
+            BarService service = (BarService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> counter.incrementAndGet(), null, null, BarService.class);
+            service.bar();
+            FooService foo = (FooService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> args[0] + "" + args[1], null, null, FooService.class);
+            return new Object[]{getBinaryName(service.getClass()), service.getClass().getClassLoader() == classLoader && NewProxy.isProxyInstance(service),
+                    counter.get(), getBinaryName(foo.getClass()), foo.concat("Hello", "World")};
+        }
+
+    }
+
+    /**
+     * Case: proxy classes are stored in the directory of persistent cache, and reused by another class loader with
+     * the same deterministic name, as a restarted JVM would do.
+     */
+    @Test
+    public void testForPersistentProxyClassCache() throws Exception {
+        Path dir = Files.createTempDirectory("newproxy-cache");
+        System.setProperty(Constants.STRING_CACHE_DIR, dir.toString());
+        try (URLClassLoader first = newIsolatedClassLoader();
+             URLClassLoader second = newIsolatedClassLoader()) {
+            Object[] firstResult = runIsolated(first, PersistentCacheScenario.class);
+            Path classFile = dir.resolve(firstResult[0] + ".class");
+            Assertions.assertTrue(Files.exists(classFile));
+            long lastModified = Files.getLastModifiedTime(classFile).toMillis();
+            Object[] secondResult = runIsolated(second, PersistentCacheScenario.class);
+            Assertions.assertEquals(firstResult[0], secondResult[0]);
+            Assertions.assertEquals(lastModified, Files.getLastModifiedTime(classFile).toMillis());
+            Assertions.assertEquals("HelloWorld", secondResult[1]);
+        } finally {
+            System.clearProperty(Constants.STRING_CACHE_DIR);
+        }
+    }
+
+    public static class PersistentCacheScenario implements Callable<Object[]> {
+
+        @Override
+        public Object[] call() {
+            ClassLoader classLoader = getClass().getClassLoader();
+            Class<?> proxyClass = NewProxy.getProxyClass(classLoader, null, BarService.class, FooService.class);
+            FooService service = (FooService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> args[0] + "" + args[1],
+                    null, null, FooService.class, BarService.class);
+            Assertions.assertSame(proxyClass, service.getClass());
+            Assertions.assertTrue(NewProxy.isProxyClass(proxyClass));
+            return new Object[]{getBinaryName(proxyClass), service.concat("Hello", "World")};
+        }
+
+    }
+
+    /**
+     * Case: permission checks of {@link NewProxy} resolve the caller of its public methods via standard APIs only,
+     * skipping frames of reflection.
+     */
+    @Test
+    public void testForCallerClass() throws Exception {
+        Method getCallerClass = Class.forName(NewProxy.class.getPackage().getName() + ".SecuritySupport").getDeclaredMethod("getCallerClass");
+        getCallerClass.setAccessible(true);
+        Assertions.assertSame(CallerSample.class, CallerSample.call(getCallerClass));
+    }
+
+    static class CallerSample {
+
+        static Class<?> call(Method getCallerClass) throws Exception {
+            return resolveCaller(getCallerClass);
+        }
+
+    }
+
+    /**
+     * Invokes {@code SecuritySupport#getCallerClass()} reflectively, which returns the caller of this method.
+     *
+     * @param getCallerClass {@code SecuritySupport#getCallerClass()}
+     * @return the caller of this method.
+     */
+    static Class<?> resolveCaller(Method getCallerClass) throws Exception {
+        return (Class<?>) getCallerClass.invoke(null);
+    }
+
+    /**
+     * Case: a proxy class of public interfaces requested for a class loader other than the one of {@link NewProxy} is
+     * defined in the package of an interface defined by that class loader. If the class loader defines none of them,
+     * the request fails before generation on JDK 16 and later, where the proxy class can not be defined there.
+     */
+    @Test
+    public void testForProxyClassInAnotherClassLoader() throws Exception {
+        URL testClasses = NewProxyTest.class.getProtectionDomain().getCodeSource().getLocation();
+        String interfacesPackage = BarService.class.getPackage().getName();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{testClasses}, NewProxyTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!name.startsWith(interfacesPackage + ".")) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> loaded = findLoadedClass(name);
+                    return loaded != null ? loaded : findClass(name);
+                }
+            }
+        }) {
+            Class<?> barService = classLoader.loadClass(BarService.class.getName());
+            Assertions.assertNotSame(BarService.class, barService);
+            Class<?> proxyClass = NewProxy.getProxyClass(classLoader, null, barService);
+            Assertions.assertSame(classLoader, proxyClass.getClassLoader());
+            Assertions.assertEquals(interfacesPackage, proxyClass.getPackage().getName());
+            Assertions.assertTrue(NewProxy.isProxyClass(proxyClass));
+            Object proxy = NewProxy.newProxyInstance(classLoader, (p, method, args) -> null, null, null, barService);
+            barService.getMethod("bar").invoke(proxy);
+        }
+        // the class loader defines neither NewProxy nor FooService
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], NewProxyTest.class.getClassLoader())) {
+            if (javaFeatureVersion() >= 16) {
+                // getProxyClass wraps failures of proxy class generation in RuntimeException
+                RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                        () -> NewProxy.getProxyClass(classLoader, null, FooService.class));
+                Throwable cause = e instanceof IllegalArgumentException ? e : e.getCause();
+                Assertions.assertTrue(cause instanceof IllegalArgumentException, String.valueOf(cause));
+                Assertions.assertTrue(cause.getMessage().contains("can not be defined in class loader"), cause.getMessage());
+            } else if (javaFeatureVersion() == 8) {
+                Assertions.assertSame(classLoader, NewProxy.getProxyClass(classLoader, null, FooService.class).getClassLoader());
+            }
+        }
+    }
+
+    /**
+     * Case: proxy classes are defined as hidden classes on JDK 15 and later if system property
+     * {@value Constants#STRING_HIDDEN_CLASS_FLAG} is {@code true}, and the flag is ignored on earlier JDKs.
+     */
+    @Test
+    public void testForHiddenProxyClass() throws Exception {
+        System.setProperty(Constants.STRING_HIDDEN_CLASS_FLAG, "true");
+        try (URLClassLoader classLoader = newIsolatedClassLoader()) {
+            Object[] result = runIsolated(classLoader, HiddenClassScenario.class);
+            Assertions.assertEquals("HelloWorld", result[0]);
+            Assertions.assertEquals(Boolean.TRUE, result[1]);
+            Assertions.assertEquals(javaFeatureVersion() >= 15, result[2]);
+        } finally {
+            System.clearProperty(Constants.STRING_HIDDEN_CLASS_FLAG);
+        }
+    }
+
+    public static class HiddenClassScenario implements Callable<Object[]> {
+
+        @Override
+        public Object[] call() throws Exception {
+            FooService service = (FooService) NewProxy.newProxyInstance(getClass().getClassLoader(), (proxy, method, args) -> args[0] + "" + args[1],
+                    null, null, FooService.class);
+            Class<?> proxyClass = service.getClass();
+            boolean hidden;
+            try {
+                hidden = (Boolean) Class.class.getMethod("isHidden").invoke(proxyClass);
+            } catch (NoSuchMethodException e) {
+                hidden = false;
+            }
+            return new Object[]{service.concat("Hello", "World"), NewProxy.isProxyClass(proxyClass), hidden};
+        }
+
+    }
+
+    /**
+     * Creates a class loader which loads classes of NewProxy and this test by itself rather than its parent, so that
+     * NewProxy is initialized again, with its own caches and system properties, as a new JVM would do.
+     *
+     * @param urls additional URLs to load classes and resources from
+     * @return an isolated class loader.
+     */
+    private static URLClassLoader newIsolatedClassLoader(URL... urls) {
+        List<URL> classpath = new ArrayList<>(Arrays.asList(NewProxy.class.getProtectionDomain().getCodeSource().getLocation(),
+                NewProxyTest.class.getProtectionDomain().getCodeSource().getLocation()));
+        classpath.addAll(Arrays.asList(urls));
+        String prefix = NewProxy.class.getPackage().getName() + ".";
+        return new URLClassLoader(classpath.toArray(new URL[0]), NewProxyTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!name.startsWith(prefix)) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> loaded = findLoadedClass(name);
+                    return loaded != null ? loaded : findClass(name);
+                }
+            }
+
+            @Override
+            public URL getResource(String name) {
+                // resources such as index files of pregenerated proxy classes are not inherited from the parent
+                return findResource(name);
+            }
+
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                return findResources(name);
+            }
+        };
+    }
+
+    /**
+     * Runs the scenario loaded by the specified isolated class loader.
+     *
+     * @param classLoader an isolated class loader
+     * @param scenario    class of the scenario, which is loaded again by the class loader
+     * @return the result of the scenario.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object[] runIsolated(ClassLoader classLoader, Class<?> scenario) throws Exception {
+        Class<?> isolated = classLoader.loadClass(scenario.getName());
+        Assertions.assertNotSame(scenario, isolated);
+        return ((Callable<Object[]>) isolated.getConstructor().newInstance()).call();
+    }
+
+    /**
+     * Returns the name of the specified class without the suffix of hidden classes, which is the name of the class in
+     * its class file.
+     *
+     * @param aClass a class
+     * @return the name of the class in its class file.
+     */
+    private static String getBinaryName(Class<?> aClass) {
+        String name = aClass.getName();
+        int index = name.indexOf('/');
+        return index < 0 ? name : name.substring(0, index);
+    }
+
+    /**
+     * Returns the feature version of the running JVM, such as 8 or 17.
+     *
+     * @return the feature version of the running JVM.
+     */
+    private static int javaFeatureVersion() {
+        String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    /**
+     * Case: methods rejected by {@link MethodFilter} are not overridden by the proxy class and bypass the interceptor,
+     * while abstract methods from interfaces are always intercepted.
+     */
+    @Test
+    public void testForMethodFilter() throws Exception {
+        ClassLoader classLoader = ProxySample.class.getClassLoader();
+        MethodFilter filter = method -> "hello".equals(method.getName());
+        AtomicInteger counter = new AtomicInteger();
+        ProxySample sample = (ProxySample) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> {
+            counter.incrementAndGet();
+            return method.invoke(proxy, null, args);
+        }, filter, new Class[]{String.class}, new Object[]{"Hello, World"}, ProxySample.class);
+        Assertions.assertEquals("Hello, Lam Tong", sample.hello("Lam Tong"));
+        Assertions.assertEquals(1, counter.get());
+        Assertions.assertEquals("6.0", sample.add(1, 2.0, 3L));
+        Assertions.assertEquals(sample, sample);
+        Assertions.assertNotNull(sample.toString());
+        Assertions.assertEquals(1, counter.get());
+        Class<?> proxyClass = sample.getClass();
+        Assertions.assertEquals(proxyClass, proxyClass.getDeclaredMethod("hello", String.class).getDeclaringClass());
+        Assertions.assertThrows(NoSuchMethodException.class, () -> proxyClass.getDeclaredMethod("add", int.class, double.class, long.class));
+        Assertions.assertThrows(NoSuchMethodException.class, () -> proxyClass.getDeclaredMethod("toString"));
+        Assertions.assertSame(proxyClass, NewProxy.getProxyClass(classLoader, new Class[]{String.class}, filter, ProxySample.class));
+        Assertions.assertNotSame(proxyClass, NewProxy.getProxyClass(classLoader, new Class[]{String.class}, ProxySample.class));
+
+        FooService service = (FooService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> {
+            counter.incrementAndGet();
+            return method.invoke(proxy, fooService, args);
+        }, method -> false, null, null, FooService.class);
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(2, counter.get());
+    }
+
+    /**
+     * Case: filters of the same class without instance fields share the proxy class, while filters with instance
+     * fields share the proxy class only when the same instance is reused.
+     */
+    @Test
+    public void testForMethodFilterKey() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        Class<?> proxyClass = NewProxy.getProxyClass(classLoader, null, new ConcatFilter(), FooService.class);
+        Assertions.assertSame(proxyClass, NewProxy.getProxyClass(classLoader, null, new ConcatFilter(), FooService.class));
+
+        MethodFilter filter = nameFilter("concat");
+        MethodFilter another = nameFilter("concat");
+        Class<?> capturingProxyClass = NewProxy.getProxyClass(classLoader, null, filter, FooService.class);
+        Assertions.assertSame(capturingProxyClass, NewProxy.getProxyClass(classLoader, null, filter, FooService.class));
+        Assertions.assertNotSame(capturingProxyClass, NewProxy.getProxyClass(classLoader, null, another, FooService.class));
+        Assertions.assertNotSame(proxyClass, capturingProxyClass);
+    }
+
+    /**
+     * Returns a new filter accepting methods with the specified name, which captures the name.
+     *
+     * @param name name of methods to accept
+     * @return a new filter.
+     */
+    private static MethodFilter nameFilter(String name) {
+        return method -> name.equals(method.getName());
+    }
+
+    /**
+     * A filter without instance fields accepting method {@code concat}.
+     */
+    private static final class ConcatFilter implements MethodFilter {
+
+        @Override
+        public boolean accept(Method method) {
+            return "concat".equals(method.getName());
+        }
+
+    }
+
+    /**
+     * Case: an interceptor in the middle of the chain passes changed arguments on, which the following interceptors
+     * and the target object receive.
+     */
+    @Test
+    public void testForInterceptorChainChangingArguments() throws Exception {
+        List<String> trace = new ArrayList<>();
+        InvocationInterceptor[] chain = {
+                (proxy, method, args) -> method.invoke(proxy, null, args),
+                (proxy, method, args) -> method.invoke(proxy, null, args[0].toString().toUpperCase(), args[1]),
+                (proxy, method, args) -> {
+                    trace.add(method.getStage() + ":" + args[0] + "," + args[1]);
+                    return method.invoke(proxy, fooService, args);
+                }};
+        FooService service = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), chain, null, null, FooService.class);
+        Assertions.assertEquals("HELLOWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals("HELLOWorld", service.concat("hello", "World"));
+        Assertions.assertEquals(Arrays.asList("2:HELLO,World", "2:HELLO,World"), trace);
+    }
+
+    /**
+     * Case: method invocation passes through the interceptor chain compiled into the proxy class in order, and the
+     * last interceptor invokes the target object or the superclass.
+     */
+    @Test
+    public void testForInterceptorChain() throws Exception {
+        List<String> trace = new ArrayList<>();
+        Function<String, InvocationInterceptor> factory = name -> (proxy, method, args) -> {
+            trace.add(name + method.getStage());
+            return method.invoke(proxy, fooService, args);
+        };
+        InvocationInterceptor[] chain = {factory.apply("metrics"), factory.apply("auth"), factory.apply("tracing")};
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        FooService service = (FooService) NewProxy.newProxyInstance(classLoader, chain, null, null, FooService.class);
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(Arrays.asList("metrics0", "auth1", "tracing2"), trace);
+        Assertions.assertSame(chain[0], NewProxy.getInvocationInterceptor(service));
+        FooService another = (FooService) NewProxy.newProxyInstance(classLoader, new InvocationInterceptor[]{chain[2], chain[1], chain[0]},
+                null, null, FooService.class);
+        Assertions.assertSame(service.getClass(), another.getClass());
+        Assertions.assertNotSame(service.getClass(), NewProxy.getProxyClass(classLoader, null, FooService.class));
+
+        trace.clear();
+        ProxySample sample = (ProxySample) NewProxy.newProxyInstance(ProxySample.class.getClassLoader(), new InvocationInterceptor[]{
+                chain[0], (proxy, method, args) -> {
+                    trace.add("last" + method.getStage());
+                    return method.invoke(proxy, null, args);
+                }}, new Class[]{String.class, long.class}, new Object[]{"Hello, World", 1L}, ProxySample.class);
+        Assertions.assertEquals("Hello, Lam Tong", sample.hello("Lam Tong"));
+        Assertions.assertEquals(Arrays.asList("metrics0", "last1"), trace);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NewProxy.newProxyInstance(classLoader, new InvocationInterceptor[0], null, null, FooService.class));
+        Assertions.assertThrows(NullPointerException.class, () -> NewProxy.newProxyInstance(classLoader, new InvocationInterceptor[]{null}, null, null, FooService.class));
+    }
+
+    /**
+     * Case: methods {@code equals}, {@code hashCode} and {@code toString} of delegating proxy instances are not
+     * delegated to the target, whether they are intercepted or not, unless the interceptor invokes the target itself.
+     */
+    @Test
+    public void testForDelegatingProxyObjectMethods() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        FooService bypassed = (FooService) NewProxy.newDelegatingProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, null, args),
+                method -> false, fooService, FooService.class);
+        FooService intercepted = (FooService) NewProxy.newDelegatingProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, fooService, args),
+                null, fooService, FooService.class);
+        for (FooService service : Arrays.asList(bypassed, intercepted)) {
+            Assertions.assertEquals(service, service);
+            Assertions.assertNotEquals(service, fooService);
+            Assertions.assertEquals(System.identityHashCode(service), service.hashCode());
+            Assertions.assertNotEquals(fooService.toString(), service.toString());
+        }
+
+        FooService forwarding = (FooService) NewProxy.newDelegatingProxyInstance(classLoader, (proxy, method, args) ->
+                method.getDeclaringClass() == Object.class ? method.getMethod().invoke(fooService, args) : method.invoke(proxy, null, args),
+                null, fooService, FooService.class);
+        Assertions.assertEquals(fooService.hashCode(), forwarding.hashCode());
+        Assertions.assertEquals(fooService.toString(), forwarding.toString());
+        Assertions.assertEquals("HelloWorld", forwarding.concat("Hello", "World"));
+    }
+
+    /**
+     * Case: delegating proxy class invokes the bound target directly for methods rejected by the filter, and the
+     * interceptor proceeds to the target with {@code null} object for the others.
+     */
+    @Test
+    public void testForDelegatingProxy() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        AtomicInteger counter = new AtomicInteger();
+        MethodFilter filter = method -> method.getName().equals("concat") || method.getName().equals("repeat");
+        FooService service = (FooService) NewProxy.newDelegatingProxyInstance(classLoader, (proxy, method, args) -> {
+            counter.incrementAndGet();
+            return method.invoke(proxy, null, args);
+        }, filter, fooService, FooService.class);
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(fooService.repeat("Hello", 2, "World"), service.repeat("Hello", 2, "World"));
+        Assertions.assertEquals(2, counter.get());
+        Assertions.assertEquals(3, service.add(1, 2.0));
+        service.foo();
+        Assertions.assertEquals(2, counter.get());
+        Assertions.assertTrue(NewProxy.isProxyInstance(service));
+
+        FooService intercepted = (FooService) NewProxy.newDelegatingProxyInstance(classLoader, (proxy, method, args) -> {
+            counter.incrementAndGet();
+            return method.invoke(proxy, fooService, args);
+        }, null, fooService, FooService.class);
+        Assertions.assertEquals(3, intercepted.add(1, 2.0));
+        Assertions.assertEquals(3, counter.get());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NewProxy.newDelegatingProxyInstance(classLoader,
+                (proxy, method, args) -> null, null, new Object(), FooService.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NewProxy.newDelegatingProxyInstance(classLoader,
+                (proxy, method, args) -> null, null, new ProxySample("Hello"), ProxySample.class));
+    }
+
+    /**
+     * Case: {@link MethodDecorator} instances are resolved together with the others declared by the same class on
+     * first invocation, and the same instance is passed to the interceptor afterwards.
+     */
+    @Test
+    public void testForLazyMethodDecorator() throws Exception {
+        List<MethodDecorator> decorators = new ArrayList<>();
+        FooService service = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), (proxy, method, args) -> {
+            decorators.add(method);
+            return method.invoke(proxy, fooService, args);
+        }, method -> true, null, null, FooService.class);
+        Field field = service.getClass().getDeclaredField(Constants.FIELD_METHOD_DECORATORS);
+        field.setAccessible(true);
+        MethodDecorator[] methods = (MethodDecorator[]) field.get(null);
+        Assertions.assertTrue(Arrays.stream(methods).allMatch(Objects::isNull));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(2, decorators.size());
+        Assertions.assertSame(decorators.get(0), decorators.get(1));
+        Assertions.assertEquals("concat", decorators.get(0).getMethod().getName());
+        Assertions.assertSame(decorators.get(0), methods[decorators.get(0).getIndex()]);
+        Assertions.assertTrue(Arrays.stream(methods, 0, 3).allMatch(Objects::isNull));
+        Assertions.assertEquals(FooService.class.getMethods().length, Arrays.stream(methods).filter(Objects::nonNull)
+                .filter(m -> m.getDeclaringClass() == FooService.class).count());
+        for (int i = 3; i < methods.length; i++) {
+            Assertions.assertEquals(i, methods[i].getIndex());
+        }
+    }
+
+    /**
+     * Case: statistics of proxy class generation and caching are collected without JMX, and exposed over JMX only
+     * after registered on request.
+     */
+    @Test
+    public void testForNewProxyStats() throws Exception {
+        NewProxyStats stats = NewProxyStats.getInstance();
+        long generated = stats.getGeneratedClassCount(), bytes = stats.getGeneratedBytes();
+        long hits = stats.getCacheHits(), misses = stats.getCacheMisses();
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        MethodFilter filter = method -> true;
+        Class<?> proxyClass = NewProxy.getProxyClass(classLoader, null, filter, FooService.class);
+        Assertions.assertSame(proxyClass, NewProxy.getProxyClass(classLoader, null, filter, FooService.class));
+        Assertions.assertEquals(generated + 1, stats.getGeneratedClassCount());
+        Assertions.assertTrue(stats.getGeneratedBytes() > bytes);
+        Assertions.assertEquals(misses + 1, stats.getCacheMisses());
+        Assertions.assertEquals(hits + 1, stats.getCacheHits());
+        Assertions.assertTrue(stats.getBuildTimeNanos() > 0);
+        Assertions.assertTrue(stats.getSerializeTimeNanos() > 0);
+        Assertions.assertTrue(stats.getDefineTimeNanos() > 0);
+        Assertions.assertTrue(stats.getDefinedClassesByClassLoader().get(classLoader.toString()) > 0);
+        Assertions.assertTrue(stats.getLiveProxyClassCount() > 0);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(Constants.JMX_OBJECT_NAME);
+        Assertions.assertFalse(server.isRegistered(name));
+        Assertions.assertTrue(NewProxyStats.register());
+        Assertions.assertTrue(NewProxyStats.register());
+        Assertions.assertTrue(server.isRegistered(name));
+        Assertions.assertEquals(stats.getGeneratedClassCount(), server.getAttribute(name, "GeneratedClassCount"));
+    }
+
+    /**
+     * Case: a look-up waiting for another thread defining the same proxy class is counted as a cache miss instead of
+     * a cache hit.
+     */
+    @Test
+    public void testForNewProxyStatsOfConcurrentLookup() throws Exception {
+        NewProxyStats stats = NewProxyStats.getInstance();
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MethodFilter filter = method -> {
+            generating.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        long hits = stats.getCacheHits(), misses = stats.getCacheMisses();
+        FutureTask<Class<?>> first = new FutureTask<>(() -> NewProxy.getProxyClass(classLoader, null, filter, FooService.class));
+        FutureTask<Class<?>> second = new FutureTask<>(() -> NewProxy.getProxyClass(classLoader, null, filter, FooService.class));
+        new Thread(first).start();
+        Assertions.assertTrue(generating.await(10, TimeUnit.SECONDS));
+        Thread waiter = new Thread(second);
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (waiter.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        Assertions.assertEquals(Thread.State.BLOCKED, waiter.getState());
+        release.countDown();
+        Assertions.assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(misses + 2, stats.getCacheMisses());
+        Assertions.assertEquals(hits, stats.getCacheHits());
+    }
+
+    /**
+     * Case: proxy classes generated with invocation metrics enabled record call count, error count and latency of
+     * each method.
+     */
+    @Test
+    public void testForMethodMetrics() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        MethodFilter filter = method -> true;
+        InvocationInterceptor interceptor = (proxy, method, args) -> {
+            if (args != null && args.length == 2 && args[0] == null) {
+                throw new IllegalStateException("null");
+            }
+            return method.invoke(proxy, fooService, args);
+        };
+        System.setProperty(Constants.STRING_METRICS_FLAG, "true");
+        FooService service;
+        try {
+            service = (FooService) NewProxy.newProxyInstance(classLoader, interceptor, filter, null, null, FooService.class);
+        } finally {
+            System.clearProperty(Constants.STRING_METRICS_FLAG);
+        }
+        Assertions.assertEquals(3, service.add(1, 2.0));
+        Assertions.assertEquals(4, service.add(2, 2.0));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertThrows(IllegalStateException.class, () -> service.concat(null, "World"));
+        MethodMetrics metrics = MethodMetrics.of(service.getClass());
+        Assertions.assertNotNull(metrics);
+        Map<String, MethodMetrics.Snapshot> snapshots = new HashMap<>();
+        metrics.snapshot().forEach(snapshot -> snapshots.put(snapshot.getMethod(), snapshot));
+        Assertions.assertEquals(2, snapshots.size());
+        MethodMetrics.Snapshot add = snapshots.get(FooService.class.getName() + ".add(ID)I");
+        Assertions.assertEquals(2, add.getCalls());
+        Assertions.assertEquals(0, add.getErrors());
+        Assertions.assertEquals(2, Arrays.stream(add.getHistogram()).sum());
+        Assertions.assertTrue(add.getPercentileNanos(100) >= add.getTotalNanos() / 2);
+        MethodMetrics.Snapshot concat = snapshots.get(FooService.class.getName() + ".concat(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
+        Assertions.assertEquals(2, concat.getCalls());
+        Assertions.assertEquals(1, concat.getErrors());
+
+        Assertions.assertNull(MethodMetrics.of(NewProxy.getProxyClass(classLoader, null, FooService.class)));
+    }
+
+    /**
+     * Case: a proxy class generated while another proxy class is being generated on the same thread, such as from a
+     * {@link MethodFilter}, does not interfere with the outer generation.
+     */
+    @Test
+    public void testForReentrantGeneration() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        AtomicReference<BarService> inner = new AtomicReference<>();
+        MethodFilter filter = method -> {
+            if (inner.get() == null) {
+                inner.set((BarService) NewProxy.newProxyInstance(classLoader, (proxy, m, args) -> null,
+                        new Class[]{String.class, long.class}, new Object[]{"Hello", 1L}, ProxySample.class, BarService.class));
+            }
+            return !"hashCode".equals(method.getName());
+        };
+        FooService service = (FooService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, fooService, args),
+                filter, null, null, FooService.class);
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(3, service.add(1, 2.0));
+        Assertions.assertEquals(System.identityHashCode(service), service.hashCode());
+        Assertions.assertTrue(inner.get() instanceof ProxySample);
+        inner.get().bar();
+    }
+
+    /**
+     * Case: reflection metadata of a type defined by an ancestor of the class loader of {@link NewProxy} does not
+     * prevent the class loader of {@link NewProxy} from being unloaded.
+     */
+    @Test
+    public void testForReflectionMetadataOfAncestorType() throws Exception {
+        WeakReference<ClassLoader> reference = runIsolatedAndRelease(AncestorTypeScenario.class);
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertNull(reference.get());
+    }
+
+    public static class AncestorTypeScenario implements Callable<Object[]> {
+
+        @Override
+        public Object[] call() {
+            AtomicInteger counter = new AtomicInteger();
+            Runnable runnable = (Runnable) NewProxy.newProxyInstance(getClass().getClassLoader(), (proxy, method, args) -> {
+                counter.incrementAndGet();
+                return null;
+            }, null, null, Runnable.class);
+            runnable.run();
+            return new Object[]{counter.get()};
+        }
+
+    }
+
+    /**
+     * Runs the scenario in an isolated class loader in a new thread, so that nothing but caches of the scenario refers
+     * to the class loader once it returns.
+     *
+     * @param scenario class of the scenario
+     * @return a weak reference to the isolated class loader.
+     */
+    private static WeakReference<ClassLoader> runIsolatedAndRelease(Class<?> scenario) throws Exception {
+        AtomicReference<Object> result = new AtomicReference<>();
+        try (URLClassLoader classLoader = newIsolatedClassLoader()) {
+            Thread thread = new Thread(() -> {
+                try {
+                    result.set(runIsolated(classLoader, scenario)[0]);
+                } catch (Exception e) {
+                    result.set(e);
+                }
+            });
+            thread.start();
+            thread.join();
+            Assertions.assertEquals(1, result.get());
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    /**
+     * Case: reflection metadata of an interface is computed once and shared by all proxy classes implementing it.
+     */
+    @Test
+    public void testForSharedReflectionMetadata() throws Exception {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        Method concat = FooService.class.getMethod("concat", String.class, String.class);
+        String signature = ProxyGenerator.getMethodSignature(concat);
+        Assertions.assertEquals("concat;class java.lang.String;" + Arrays.toString(concat.getParameters()), signature);
+        Assertions.assertSame(signature, ProxyGenerator.getMethodSignature(FooService.class.getMethod("concat", String.class, String.class)));
+
+        List<String> signatures = new ArrayList<>();
+        InvocationInterceptor interceptor = (proxy, method, args) -> {
+            signatures.add(method.getMethodSignature());
+            return method.invoke(proxy, fooService, args);
+        };
+        FooService foo = (FooService) NewProxy.newProxyInstance(classLoader, interceptor, null, null, FooService.class);
+        FooService fooBar = (FooService) NewProxy.newProxyInstance(classLoader, interceptor, null, null, FooService.class, BarService.class);
+        Assertions.assertNotSame(foo.getClass(), fooBar.getClass());
+        Assertions.assertEquals("HelloWorld", foo.concat("Hello", "World"));
+        Assertions.assertEquals("HelloWorld", fooBar.concat("Hello", "World"));
+        Assertions.assertEquals(2, signatures.size());
+        Assertions.assertSame(signature, signatures.get(0));
+        Assertions.assertSame(signature, signatures.get(1));
+    }
+
+    /**
+     * Case: replacing or disabling a {@link SwappableInvocationInterceptor} changes the behavior of existing proxy
+     * instances created with it.
+     */
+    @Test
+    public void testForSwappableInvocationInterceptor() {
+        ClassLoader classLoader = FooService.class.getClassLoader();
+        InvocationInterceptor direct = (proxy, method, args) -> method.invoke(proxy, fooService, args);
+        SwappableInvocationInterceptor swappable = new SwappableInvocationInterceptor(direct, direct);
+        FooService service = (FooService) NewProxy.newProxyInstance(classLoader, swappable, null, null, FooService.class);
+        Assertions.assertSame(swappable, NewProxy.getInvocationInterceptor(service));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(3, service.add(1, 2.0));
+
+        InvocationInterceptor reversed = (proxy, method, args) -> {
+            Object result = method.invoke(proxy, fooService, args);
+            return result instanceof String ? new StringBuilder((String) result).reverse().toString() : result;
+        };
+        Assertions.assertSame(direct, swappable.setInterceptor(reversed));
+        Assertions.assertEquals("dlroWolleH", service.concat("Hello", "World"));
+        Assertions.assertEquals(3, service.add(1, 2.0));
+
+        SwappableInvocationInterceptor.setEnabled(false);
+        try {
+            Assertions.assertFalse(SwappableInvocationInterceptor.isEnabled());
+            Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        } finally {
+            SwappableInvocationInterceptor.setEnabled(true);
+        }
+        Assertions.assertEquals("dlroWolleH", service.concat("Hello", "World"));
+        Assertions.assertThrows(NullPointerException.class, () -> swappable.setInterceptor(null));
+    }
+
+    /**
+     * Case: {@link SwappableInvocationInterceptor} forwards arity-specialized methods to the arity-specialized methods
+     * of its current interceptor, whether the current interceptor implements {@link PrimitiveInvocationInterceptor}
+     * or not, without arguments in an array.
+     */
+    @Test
+    public void testForAritySwappableInvocationInterceptor() {
+        List<String> trace = new ArrayList<>();
+        InvocationInterceptor plain = new InvocationInterceptor() {
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                throw new IllegalStateException("arguments should not be passed in an array");
+            }
+
+            @Override
+            public Object intercept0(Object proxy, MethodDecorator method) throws Throwable {
+                trace.add("intercept0");
+                return method.invoke0(proxy, fooService);
+            }
+
+            @Override
+            public Object intercept2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+                trace.add("intercept2");
+                return method.invoke2(proxy, fooService, arg0, arg1);
+            }
+        };
+        PrimitiveInvocationInterceptor primitive = new PrimitiveInvocationInterceptor() {
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                throw new IllegalStateException("arguments should not be passed in an array");
+            }
+
+            @Override
+            public Object intercept2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+                trace.add("intercept2");
+                return method.invoke2(proxy, fooService, arg0, arg1);
+            }
+
+            @Override
+            public int interceptInt2(Object proxy, MethodDecorator method, Object arg0, Object arg1) throws Throwable {
+                trace.add("interceptInt2");
+                return method.invokeInt2(proxy, fooService, arg0, arg1);
+            }
+
+            @Override
+            public void interceptVoid0(Object proxy, MethodDecorator method) throws Throwable {
+                trace.add("interceptVoid0");
+                method.invokeVoid0(proxy, fooService);
+            }
+        };
+        SwappableInvocationInterceptor swappable = new SwappableInvocationInterceptor(plain, plain);
+        FooService service = (FooService) NewProxy.newProxyInstance(FooService.class.getClassLoader(), swappable, null, null, FooService.class);
+        service.foo();
+        Assertions.assertEquals(3, service.add(1, 2.0));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(Arrays.asList("intercept0", "intercept2", "intercept2"), trace);
+
+        trace.clear();
+        swappable.setInterceptor(primitive);
+        service.foo();
+        Assertions.assertEquals(3, service.add(1, 2.0));
+        Assertions.assertEquals("HelloWorld", service.concat("Hello", "World"));
+        Assertions.assertEquals(Arrays.asList("interceptVoid0", "interceptInt2", "intercept2"), trace);
+    }
+
+    /**
+     * Case: proxy classes written by either bytecode backend behave the same, including methods taking or returning
+     * arrays, {@code long} and {@code double} values.
+     */
+    @Test
+    public void testForProxyBytecodeBackend() {
+        ClassLoader classLoader = ArrayService.class.getClassLoader();
+        ArrayService target = new ArrayService() {
+            @Override
+            public int[] reverse(int[] values) {
+                int[] reversed = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    reversed[i] = values[values.length - 1 - i];
+                }
+                return reversed;
+            }
+
+            @Override
+            public long sum(long base, long[] values) {
+                return base + Arrays.stream(values).sum();
+            }
+
+            @Override
+            public double scale(double value, String[] names, double factor) {
+                return value * factor * names.length;
+            }
+        };
+        // proxy classes are cached by interfaces, hence a different set of interfaces for each backend
+        String[] backends = {"bcel", "streaming"};
+        Class<?>[][] interfaces = {{ArrayService.class}, {ArrayService.class, RandomAccess.class}};
+        for (int i = 0; i < backends.length; i++) {
+            System.setProperty(Constants.STRING_BACKEND, backends[i]);
+            ArrayService service;
+            try {
+                service = (ArrayService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, target, args), null, null, interfaces[i]);
+            } finally {
+                System.clearProperty(Constants.STRING_BACKEND);
+            }
+            Assertions.assertArrayEquals(new int[]{3, 2, 1}, service.reverse(new int[]{1, 2, 3}));
+            Assertions.assertEquals(Long.MAX_VALUE, service.sum(Long.MAX_VALUE - 3, new long[]{1L, 2L}));
+            Assertions.assertEquals(3.0, service.scale(0.5, new String[]{"a", "b"}, 3.0));
+            Assertions.assertTrue(NewProxy.isProxyClass(service.getClass()));
+        }
+    }
+
+    public interface ArrayService {
+
+        int[] reverse(int[] values);
+
+        long sum(long base, long[] values);
+
+        double scale(double value, String[] names, double factor);
+
+    }
+
+    /**
+     * Case: methods returning {@link CompletionStage} or {@link CompletableFuture} with no more than six arguments
+     * are dispatched to the arity-specialized variants of
+     * {@link AsyncInvocationInterceptor#interceptAsync(Object, MethodDecorator, Object[])}, without arguments in an
+     * array.
+     */
+    @Test
+    public void testForArityAsyncInvocationInterceptor() {
+        AsyncService target = new AsyncService() {
+            @Override
+            public CompletableFuture<String> upper(String value) {
+                return CompletableFuture.completedFuture(value.toUpperCase());
+            }
+
+            @Override
+            public CompletionStage<Integer> length(String value) {
+                return CompletableFuture.completedFuture(value.length());
+            }
+
+            @Override
+            public String echo(String value) {
+                return value;
+            }
+        };
+        AtomicInteger intercepted = new AtomicInteger();
+        AsyncInvocationInterceptor interceptor = new AsyncInvocationInterceptor() {
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                throw new IllegalStateException("arguments should not be passed in an array");
+            }
+
+            @Override
+            public Object intercept1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+                return method.invoke1(proxy, target, arg0);
+            }
+
+            @Override
+            public CompletionStage<?> interceptAsync1(Object proxy, MethodDecorator method, Object arg0) throws Throwable {
+                intercepted.incrementAndGet();
+                return (CompletionStage<?>) method.invoke1(proxy, target, arg0);
+            }
+        };
+        AsyncService service = (AsyncService) NewProxy.newProxyInstance(AsyncService.class.getClassLoader(), interceptor, null, null, AsyncService.class);
+        Assertions.assertEquals("HELLO", service.upper("hello").join());
+        Assertions.assertEquals(5, service.length("hello").toCompletableFuture().join());
+        Assertions.assertEquals("hello", service.echo("hello"));
+        Assertions.assertEquals(2, intercepted.get());
+    }
+
+    /**
+     * Case: the stage returned by {@link AsyncInvocationInterceptor#interceptAsync(Object, MethodDecorator, Object[])}
+     * is adapted via {@link CompletionStage#toCompletableFuture()} for methods returning {@link CompletableFuture}, so
+     * that it need not be a {@link CompletableFuture}, while methods returning other subtypes of
+     * {@link CompletionStage} are intercepted via {@code intercept}.
+     */
+    @Test
+    public void testForAsyncInvocationInterceptorAdaptingStage() {
+        ClassLoader classLoader = StageService.class.getClassLoader();
+        List<String> intercepted = new ArrayList<>();
+        AsyncInvocationInterceptor interceptor = new AsyncInvocationInterceptor() {
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) {
+                intercepted.add("intercept:" + method.getMethod().getName());
+                TrackedFuture<String> future = new TrackedFuture<>();
+                future.complete("tracked");
+                return future;
+            }
+
+            @Override
+            public CompletionStage<?> interceptAsync(Object proxy, MethodDecorator method, Object[] args) {
+                intercepted.add("interceptAsync:" + method.getMethod().getName());
+                return minimalStage(CompletableFuture.completedFuture(args[0] + "!"));
+            }
+        };
+        StageService service = (StageService) NewProxy.newProxyInstance(classLoader, interceptor, null, null, StageService.class);
+        CompletableFuture<String> future = service.future("hello");
+        Assertions.assertEquals("hello!", future.join());
+        Assertions.assertEquals("hello!", service.stage("hello").toCompletableFuture().join());
+        Assertions.assertFalse(service.stage("hello") instanceof CompletableFuture);
+        Assertions.assertEquals("tracked", service.tracked().join());
+        Assertions.assertEquals(Arrays.asList("interceptAsync:future", "interceptAsync:stage", "interceptAsync:stage", "intercept:tracked"), intercepted);
+    }
+
+    public interface StageService {
+
+        CompletableFuture<String> future(String value);
+
+        CompletionStage<String> stage(String value);
+
+        TrackedFuture<String> tracked();
+
+    }
+
+    public static class TrackedFuture<T> extends CompletableFuture<T> {
+    }
+
+    /**
+     * Wraps the future in a {@link CompletionStage} which is not a {@link CompletableFuture}, as a stage of a library
+     * other than JDK would be.
+     *
+     * @param future the future to wrap
+     * @return a {@link CompletionStage} delegating to the future.
+     */
+    private static CompletionStage<?> minimalStage(CompletableFuture<?> future) {
+        return (CompletionStage<?>) java.lang.reflect.Proxy.newProxyInstance(CompletionStage.class.getClassLoader(), new Class<?>[]{CompletionStage.class},
+                (proxy, method, args) -> method.invoke(future, args));
+    }
+
+    /**
+     * Case: methods returning {@link CompletionStage} or {@link CompletableFuture} are dispatched to
+     * {@link AsyncInvocationInterceptor#interceptAsync(Object, MethodDecorator, Object[])}, which composes on the
+     * returned stage, while other interceptors keep intercepting them via {@code intercept}.
+     */
+    @Test
+    public void testForAsyncInvocationInterceptor() {
+        ClassLoader classLoader = AsyncService.class.getClassLoader();
+        AsyncService target = new AsyncService() {
+            @Override
+            public CompletableFuture<String> upper(String value) {
+                return CompletableFuture.supplyAsync(value::toUpperCase);
+            }
+
+            @Override
+            public CompletionStage<Integer> length(String value) {
+                return CompletableFuture.completedFuture(value.length());
+            }
+
+            @Override
+            public String echo(String value) {
+                return value;
+            }
+        };
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        AsyncInvocationInterceptor interceptor = new AsyncInvocationInterceptor() {
+            @Override
+            public Object intercept(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+                return method.invoke(proxy, target, args);
+            }
+
+            @Override
+            public CompletionStage<?> interceptAsync(Object proxy, MethodDecorator method, Object[] args) throws Throwable {
+                CompletionStage<?> stage = (CompletionStage<?>) method.invoke(proxy, target, args);
+                return stage.whenComplete((result, error) -> completed.add(method.getMethod().getName() + "=" + result));
+            }
+        };
+        AsyncService service = (AsyncService) NewProxy.newProxyInstance(classLoader, interceptor, null, null, AsyncService.class);
+        Assertions.assertEquals("HELLO", service.upper("hello").join());
+        Assertions.assertEquals(5, service.length("hello").toCompletableFuture().join());
+        Assertions.assertEquals("hello", service.echo("hello"));
+        Assertions.assertEquals(Arrays.asList("upper=HELLO", "length=5"), completed);
+
+        AsyncService plain = (AsyncService) NewProxy.newProxyInstance(classLoader, (proxy, method, args) -> method.invoke(proxy, target, args), null, null, AsyncService.class);
+        Assertions.assertSame(plain.getClass(), service.getClass());
+        Assertions.assertEquals("HELLO", plain.upper("hello").join());
+        Assertions.assertEquals(2, completed.size());
+    }
+
+    public interface AsyncService {
+
+        CompletableFuture<String> upper(String value);
+
+        CompletionStage<Integer> length(String value);
+
+        String echo(String value);
+
+    }
+
 }
@@ -6,6 +6,10 @@ public class ProxySample {
         System.out.println("Constructor: " + s);
     }
 
+    public ProxySample(String s, long n) {
+        System.out.println("Constructor: " + s + ", " + n);
+    }
+
     public void sayHi() {
         System.out.println("Hi");
     }